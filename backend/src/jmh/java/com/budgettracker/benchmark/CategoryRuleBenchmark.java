@@ -0,0 +1,55 @@
+package com.budgettracker.benchmark;
+
+import com.budgettracker.entity.CategoryRule;
+import com.budgettracker.entity.Transaction;
+import com.budgettracker.entity.enums.RuleCondition;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CategoryRule.matches, run for every active rule on every categorised transaction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CategoryRuleBenchmark {
+
+    @Param({"CONTAINS", "EQUALS", "STARTS_WITH", "REGEX"})
+    private RuleCondition condition;
+
+    private CategoryRule rule;
+    private Transaction hit;
+    private Transaction miss;
+
+    @Setup
+    public void setUp() {
+        rule = CategoryRule.builder()
+                .name("Groceries")
+                .fieldName("merchant")
+                .condition(condition)
+                .fieldValue(condition == RuleCondition.REGEX ? "(?i).*whole\\s+foods.*" : "Whole Foods")
+                .build();
+        hit = transaction("Whole Foods Market #1042", "Weekly groceries");
+        miss = transaction("Shell Gas Station 55-221", "Fuel");
+    }
+
+    @Benchmark
+    public boolean matchingTransaction() {
+        return rule.matches(hit);
+    }
+
+    @Benchmark
+    public boolean nonMatchingTransaction() {
+        return rule.matches(miss);
+    }
+
+    private static Transaction transaction(String merchant, String description) {
+        return Transaction.builder()
+                .merchantName(merchant)
+                .description(description)
+                .amount(new BigDecimal("84.37"))
+                .build();
+    }
+}
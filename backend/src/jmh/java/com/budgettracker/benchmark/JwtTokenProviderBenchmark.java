@@ -0,0 +1,49 @@
+package com.budgettracker.benchmark;
+
+import com.budgettracker.security.JwtTokenProvider;
+import com.budgettracker.security.UserPrincipal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT validation and subject extraction, done by JwtAuthenticationFilter on every request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "benchmark-secret-key-of-at-least-256-bits-length!");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(tokenProvider, "jwtRefreshExpirationMs", 86_400_000L);
+        ReflectionTestUtils.setField(tokenProvider, "issuer", "budget-tracker");
+        tokenProvider.init();
+
+        UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), "bench@example.com", "bench", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), true, true);
+        token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUserIdFromToken() {
+        return tokenProvider.getUserIdFromToken(token);
+    }
+}
@@ -0,0 +1,48 @@
+package com.budgettracker.benchmark;
+
+import com.budgettracker.entity.Budget;
+import com.budgettracker.util.CurrencyUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigDecimal arithmetic used in reports and budget checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private BigDecimal amount;
+    private BigDecimal rate;
+    private BigDecimal total;
+    private Budget budget;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal("1234.56");
+        rate = new BigDecimal("0.9187");
+        total = new BigDecimal("98765.43");
+        budget = Budget.builder()
+                .amount(new BigDecimal("500.00"))
+                .spent(new BigDecimal("437.21"))
+                .build();
+    }
+
+    @Benchmark
+    public BigDecimal currencyConvert() {
+        return CurrencyUtils.convert(amount, rate);
+    }
+
+    @Benchmark
+    public BigDecimal currencyPercentage() {
+        return CurrencyUtils.percentage(amount, total);
+    }
+
+    @Benchmark
+    public BigDecimal budgetPercentageSpent() {
+        return budget.getPercentageSpent();
+    }
+}
@@ -0,0 +1,167 @@
+package com.budgettracker.benchmark;
+
+import com.budgettracker.controller.TransactionController;
+import com.budgettracker.dto.ApiResponse;
+import com.budgettracker.dto.PageResponse;
+import com.budgettracker.dto.StreamingPageResponse;
+import com.budgettracker.dto.response.TransactionResponse;
+import com.budgettracker.dto.response.TransactionRow;
+import com.budgettracker.entity.Category;
+import com.budgettracker.entity.Transaction;
+import com.budgettracker.entity.Wallet;
+import com.budgettracker.entity.enums.TransactionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The GET /api/transactions response path: entity to DTO mapping and Jackson serialisation
+ * of {@code ApiResponse<PageResponse<TransactionResponse>>}, against streaming projection
+ * rows through {@link StreamingPageResponse}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TransactionResponseBenchmark {
+
+    private static final MethodHandle MAP_TO_RESPONSE;
+
+    static {
+        try {
+            MAP_TO_RESPONSE = MethodHandles.privateLookupIn(TransactionController.class, MethodHandles.lookup())
+                    .findVirtual(TransactionController.class, "mapToResponse",
+                            MethodType.methodType(TransactionResponse.class, Transaction.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private TransactionController controller;
+    private ObjectMapper objectMapper;
+    private List<Transaction> transactions;
+    private ApiResponse<PageResponse<TransactionResponse>> response;
+    private List<TransactionRow> rows;
+
+    @Setup
+    public void setUp() throws Throwable {
+        controller = new TransactionController(null, null, null);
+        // Same settings as spring.jackson in application.yml
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .timeZone(TimeZone.getTimeZone("UTC"))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(modules -> {
+                    if (blackbird) {
+                        modules.add(new BlackbirdModule());
+                    }
+                })
+                .build();
+
+        Wallet wallet = Wallet.builder().name("Checking").currencyCode("USD").build();
+        wallet.setId(UUID.randomUUID());
+        Category category = Category.builder().name("Groceries").build();
+        category.setId(UUID.randomUUID());
+
+        transactions = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Transaction transaction = Transaction.builder()
+                    .wallet(wallet)
+                    .category(category)
+                    .type(TransactionType.EXPENSE)
+                    .amount(new BigDecimal("42.50").add(BigDecimal.valueOf(i)))
+                    .currencyCode("USD")
+                    .exchangeRate(BigDecimal.ONE)
+                    .amountInWalletCurrency(new BigDecimal("42.50").add(BigDecimal.valueOf(i)))
+                    .transactionDate(LocalDate.of(2024, 3, 1).plusDays(i % 28))
+                    .description("Weekly groceries " + i)
+                    .merchantName("Whole Foods Market")
+                    .build();
+            transaction.setId(UUID.randomUUID());
+            transaction.setCreatedAt(LocalDateTime.of(2024, 3, 1, 12, 0));
+            transactions.add(transaction);
+        }
+        response = ApiResponse.success(PageResponse.of(new PageImpl<>(mapAll(), PageRequest.of(0, pageSize), 1_000)));
+        rows = transactions.stream().map(TransactionResponseBenchmark::toRow).toList();
+
+        String expected = objectMapper.writeValueAsString(response).replaceAll("\"timestamp\":\"[^\"]*\"", "");
+        String actual = objectMapper.writeValueAsString(streamingPage()).replaceAll("\"timestamp\":\"[^\"]*\"", "");
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Streaming output differs:\n" + expected + "\n" + actual);
+        }
+    }
+
+    @Benchmark
+    public List<TransactionResponse> mapToResponse() throws Throwable {
+        return mapAll();
+    }
+
+    @Benchmark
+    public void serialize() throws Exception {
+        objectMapper.writeValue(sink(), response);
+    }
+
+    @Benchmark
+    public void mapAndSerialize() throws Throwable {
+        objectMapper.writeValue(sink(), ApiResponse.success(
+                PageResponse.of(new PageImpl<>(mapAll(), PageRequest.of(0, pageSize), 1_000))));
+    }
+
+    /**
+     * Projection rows are built by the query, so only serialisation is measured.
+     */
+    @Benchmark
+    public void streamRows() throws Exception {
+        objectMapper.writeValue(sink(), streamingPage());
+    }
+
+    /**
+     * Responses are streamed to the servlet output, so buffering the whole body is left out.
+     */
+    private static OutputStream sink() {
+        return OutputStream.nullOutputStream();
+    }
+
+    private StreamingPageResponse<TransactionRow> streamingPage() {
+        return new StreamingPageResponse<>(new PageImpl<>(rows, PageRequest.of(0, pageSize), 1_000), TransactionRow::write);
+    }
+
+    private static TransactionRow toRow(Transaction t) {
+        return new TransactionRow(t.getId(), t.getWallet().getId(), t.getWallet().getName(),
+                t.getCategory().getId(), t.getCategory().getName(), t.getType(), t.getAmount(), t.getCurrencyCode(),
+                t.getExchangeRate(), t.getAmountInWalletCurrency(), t.getTransactionDate(), t.getDescription(),
+                t.getNotes(), t.getMerchantName(), t.getLocation(), t.getStatus(), t.getIsReconciled(),
+                t.getHasAttachments(), t.getCreatedAt(), t.getUpdatedAt());
+    }
+
+    private List<TransactionResponse> mapAll() throws Throwable {
+        List<TransactionResponse> mapped = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            mapped.add((TransactionResponse) MAP_TO_RESPONSE.invokeExact(controller, transaction));
+        }
+        return mapped;
+    }
+}
@@ -0,0 +1,84 @@
+package com.budgettracker.attachment;
+
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Decodes attachment images and sizes PDF page renders under a pixel limit.
+ *
+ * A small compressed upload can declare dimensions that need gigabytes once decoded, so the size
+ * is read from the image header (or the PDF media box) and checked before any pixels are.
+ */
+@Component
+public class ImageDecoder {
+
+    private final long maxPixels;
+
+    public ImageDecoder(@Value("${app.storage.max-image-pixels:50000000}") long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * Decode an image at full resolution
+     */
+    public BufferedImage read(byte[] content, String contentType) throws IOException {
+        return read(content, contentType, 0);
+    }
+
+    /**
+     * Decode an image, skipping source pixels when it is far larger than {@code targetDimension}.
+     * At least twice the target is kept so the final downscale still has detail to work with.
+     */
+    public BufferedImage read(byte[] content, String contentType, int targetDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new NonRetryableProcessingException("No image reader for " + contentType);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                requireWithinLimit(width, height, contentType);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (targetDimension > 0) {
+                    int step = Math.max(1, Math.max(width, height) / (targetDimension * 2));
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reject a PDF page whose render at {@code dpi} would exceed the limit
+     */
+    public void checkPage(PDPage page, float dpi) {
+        PDRectangle box = page.getMediaBox();
+        long width = (long) Math.ceil(box.getWidth() * dpi / 72);
+        long height = (long) Math.ceil(box.getHeight() * dpi / 72);
+        requireWithinLimit(width, height, "application/pdf");
+    }
+
+    private void requireWithinLimit(long width, long height, String contentType) {
+        if (width * height > maxPixels) {
+            throw new NonRetryableProcessingException(String.format(
+                    "%s attachment is %dx%d pixels, over the %d pixel limit", contentType, width, height, maxPixels));
+        }
+    }
+}
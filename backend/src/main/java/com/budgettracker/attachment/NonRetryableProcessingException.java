@@ -0,0 +1,15 @@
+package com.budgettracker.attachment;
+
+/**
+ * Processing failure that will not succeed on retry (unsupported or unreadable content)
+ */
+public class NonRetryableProcessingException extends RuntimeException {
+
+    public NonRetryableProcessingException(String message) {
+        super(message);
+    }
+
+    public NonRetryableProcessingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
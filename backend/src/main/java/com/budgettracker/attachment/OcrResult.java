@@ -0,0 +1,9 @@
+package com.budgettracker.attachment;
+
+/**
+ * Output of the OCR stage
+ *
+ * @param engine "tika" when text was embedded in the document, "tesseract" when it was recognised from pixels
+ */
+public record OcrResult(String contentType, String engine, String text, ReceiptData receiptData) {
+}
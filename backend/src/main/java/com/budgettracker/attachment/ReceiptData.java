@@ -0,0 +1,10 @@
+package com.budgettracker.attachment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Fields extracted from receipt text; any of them may be null when not found
+ */
+public record ReceiptData(String merchant, LocalDate date, BigDecimal totalAmount) {
+}
@@ -0,0 +1,121 @@
+package com.budgettracker.attachment;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Heuristic extraction of merchant, date and total from OCR text.
+ *
+ * Receipts put the merchant at the top and the total near a TOTAL/AMOUNT DUE label, so the
+ * extractor prefers labelled amounts and falls back to the largest amount on the receipt.
+ */
+@Component
+public class ReceiptDataExtractor {
+
+    private static final Pattern AMOUNT = Pattern.compile("(?<![\\d.,])(\\d{1,3}(?:[ ,]\\d{3})*|\\d+)[.,](\\d{2})(?!\\d)");
+
+    private static final Pattern TOTAL_LABEL = Pattern.compile(
+            "\\b(grand\\s+total|total\\s+due|amount\\s+due|balance\\s+due|total)\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern SUBTOTAL_LABEL = Pattern.compile("\\b(sub\\s*-?\\s*total|tax|vat)\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern DATE = Pattern.compile(
+            "\\b(\\d{4}-\\d{1,2}-\\d{1,2}|\\d{1,2}[/.-]\\d{1,2}[/.-]\\d{2,4}|\\d{1,2}\\s+[A-Za-z]{3,9}\\s+\\d{4}|[A-Za-z]{3,9}\\s+\\d{1,2},?\\s+\\d{4})\\b");
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("yyyy-M-d"),
+            DateTimeFormatter.ofPattern("d/M/yyyy"),
+            DateTimeFormatter.ofPattern("M/d/yyyy"),
+            DateTimeFormatter.ofPattern("d/M/yy"),
+            DateTimeFormatter.ofPattern("M/d/yy"),
+            DateTimeFormatter.ofPattern("d.M.yyyy"),
+            DateTimeFormatter.ofPattern("d-M-yyyy"),
+            DateTimeFormatter.ofPattern("d MMM yyyy", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("MMM d yyyy", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("MMMM d yyyy", Locale.ENGLISH)
+    );
+
+    private static final Pattern MERCHANT_LINE = Pattern.compile(".*[A-Za-z]{3,}.*");
+
+    private static final int MERCHANT_SCAN_LINES = 5;
+
+    public ReceiptData extract(String text) {
+        if (text == null || text.isBlank()) {
+            return new ReceiptData(null, null, null);
+        }
+        String[] lines = text.split("\\R");
+        return new ReceiptData(extractMerchant(lines), extractDate(text), extractTotal(lines));
+    }
+
+    private String extractMerchant(String[] lines) {
+        int scanned = 0;
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (++scanned > MERCHANT_SCAN_LINES) {
+                break;
+            }
+            if (MERCHANT_LINE.matcher(trimmed).matches() && !DATE.matcher(trimmed).find()
+                    && !AMOUNT.matcher(trimmed).find()) {
+                return trimmed.length() > 255 ? trimmed.substring(0, 255) : trimmed;
+            }
+        }
+        return null;
+    }
+
+    private LocalDate extractDate(String text) {
+        Matcher matcher = DATE.matcher(text);
+        while (matcher.find()) {
+            String candidate = matcher.group(1).replace(",", "").replaceAll("\\s+", " ");
+            for (DateTimeFormatter format : DATE_FORMATS) {
+                try {
+                    LocalDate date = LocalDate.parse(candidate, format);
+                    // Two-digit years parse into 2000-2099; anything in the future is a misread
+                    if (!date.isAfter(LocalDate.now().plusDays(1))) {
+                        return date;
+                    }
+                } catch (DateTimeParseException ignored) {
+                    // Try the next format
+                }
+            }
+        }
+        return null;
+    }
+
+    private BigDecimal extractTotal(String[] lines) {
+        BigDecimal labelled = null;
+        BigDecimal largest = null;
+
+        for (String line : lines) {
+            BigDecimal lastOnLine = null;
+            Matcher matcher = AMOUNT.matcher(line);
+            while (matcher.find()) {
+                BigDecimal amount = parseAmount(matcher.group(1), matcher.group(2));
+                lastOnLine = amount;
+                if (largest == null || amount.compareTo(largest) > 0) {
+                    largest = amount;
+                }
+            }
+            // Keep the last labelled total, which is the grand total on receipts that list several
+            if (lastOnLine != null && TOTAL_LABEL.matcher(line).find() && !SUBTOTAL_LABEL.matcher(line).find()) {
+                labelled = lastOnLine;
+            }
+        }
+        return labelled != null ? labelled : largest;
+    }
+
+    private BigDecimal parseAmount(String whole, String fraction) {
+        return new BigDecimal(whole.replaceAll("[ ,]", "") + "." + fraction);
+    }
+}
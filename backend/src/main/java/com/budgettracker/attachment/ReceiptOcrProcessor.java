@@ -0,0 +1,127 @@
+package com.budgettracker.attachment;
+
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.ITesseract;
+import net.sourceforge.tess4j.Tesseract;
+import net.sourceforge.tess4j.TesseractException;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.tika.Tika;
+import org.apache.tika.exception.TikaException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Receipt OCR: Tika type detection, then text extraction, then structured field extraction.
+ *
+ * Documents with embedded text (most PDFs) are read with Tika and never reach Tesseract.
+ * Images, and PDFs without a text layer, are rasterised and recognised with Tesseract.
+ * This is CPU-bound work and must only be called from the attachment processing executor.
+ * Not created when OCR is disabled, which keeps Tika and Tesseract out of startup.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.ocr.enabled", havingValue = "true", matchIfMissing = true)
+public class ReceiptOcrProcessor {
+
+    private static final int MIN_EMBEDDED_TEXT_LENGTH = 20;
+
+    private final Tika tika = new Tika();
+    private final ReceiptDataExtractor extractor;
+    private final ThreadLocal<ITesseract> tesseract;
+    private final int maxPdfPages;
+    private final float pdfRenderDpi;
+    private final ImageDecoder imageDecoder;
+
+    public ReceiptOcrProcessor(ReceiptDataExtractor extractor,
+                               ImageDecoder imageDecoder,
+                               @Value("${app.ocr.tesseract-data-path:/usr/share/tessdata}") String dataPath,
+                               @Value("${app.ocr.language:eng}") String language,
+                               @Value("${app.ocr.max-pdf-pages:3}") int maxPdfPages,
+                               @Value("${app.ocr.pdf-render-dpi:300}") float pdfRenderDpi,
+                               @Value("${app.ocr.max-text-length:100000}") int maxTextLength) {
+        this.extractor = extractor;
+        this.imageDecoder = imageDecoder;
+        this.maxPdfPages = maxPdfPages;
+        this.pdfRenderDpi = pdfRenderDpi;
+        this.tika.setMaxStringLength(maxTextLength);
+
+        // Tesseract handles are not thread-safe; each worker thread keeps its own
+        this.tesseract = ThreadLocal.withInitial(() -> {
+            Tesseract instance = new Tesseract();
+            instance.setDatapath(dataPath);
+            instance.setLanguage(language);
+            instance.setVariable("user_defined_dpi", String.valueOf((int) pdfRenderDpi));
+            return instance;
+        });
+    }
+
+    public OcrResult process(byte[] content, String fileName) {
+        String contentType = tika.detect(content, fileName);
+
+        try {
+            if (contentType.startsWith("image/")) {
+                return result(contentType, "tesseract", recognise(readImage(content, contentType)));
+            }
+            if (contentType.equals("application/pdf")) {
+                String embedded = extractText(content);
+                if (embedded.strip().length() >= MIN_EMBEDDED_TEXT_LENGTH) {
+                    return result(contentType, "tika", embedded);
+                }
+                return result(contentType, "tesseract", recognisePdf(content));
+            }
+            if (contentType.startsWith("text/") || contentType.startsWith("application/")) {
+                return result(contentType, "tika", extractText(content));
+            }
+        } catch (TikaException e) {
+            throw new NonRetryableProcessingException("Unreadable " + contentType + " attachment", e);
+        } catch (IOException e) {
+            throw new NonRetryableProcessingException("Failed to decode " + contentType + " attachment", e);
+        } catch (TesseractException e) {
+            // Usually a missing language file or native library; retrying after a fix can succeed
+            throw new IllegalStateException("Tesseract failed: " + e.getMessage(), e);
+        }
+
+        throw new NonRetryableProcessingException("Unsupported attachment type for OCR: " + contentType);
+    }
+
+    private OcrResult result(String contentType, String engine, String text) {
+        String normalised = text == null ? "" : text.strip();
+        return new OcrResult(contentType, engine, normalised, extractor.extract(normalised));
+    }
+
+    private String extractText(byte[] content) throws IOException, TikaException {
+        return tika.parseToString(new ByteArrayInputStream(content));
+    }
+
+    private BufferedImage readImage(byte[] content, String contentType) throws IOException {
+        // Full resolution: subsampling would cost recognition accuracy
+        return imageDecoder.read(content, contentType);
+    }
+
+    private String recognise(BufferedImage image) throws TesseractException {
+        return tesseract.get().doOCR(image);
+    }
+
+    private String recognisePdf(byte[] content) throws IOException, TesseractException {
+        try (PDDocument document = Loader.loadPDF(content)) {
+            PDFRenderer renderer = new PDFRenderer(document);
+            int pages = Math.min(document.getNumberOfPages(), maxPdfPages);
+
+            StringBuilder text = new StringBuilder();
+            for (int page = 0; page < pages; page++) {
+                imageDecoder.checkPage(document.getPage(page), pdfRenderDpi);
+                BufferedImage image = renderer.renderImageWithDPI(page, pdfRenderDpi, ImageType.GRAY);
+                text.append(recognise(image)).append('\n');
+            }
+            return text.toString();
+        }
+    }
+}
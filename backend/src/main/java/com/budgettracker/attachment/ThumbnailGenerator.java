@@ -0,0 +1,134 @@
+package com.budgettracker.attachment;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.tika.Tika;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Renders small JPEG previews of image and PDF attachments (first page only for PDFs).
+ *
+ * Thumbnail keys are derived from the content hash, so identical uploads share one thumbnail.
+ */
+@Component
+public class ThumbnailGenerator {
+
+    private final Tika tika = new Tika();
+    private final int maxDimension;
+    private final float jpegQuality;
+    private final float pdfRenderDpi;
+    private final ImageDecoder imageDecoder;
+
+    public ThumbnailGenerator(@Value("${app.thumbnails.max-dimension:320}") int maxDimension,
+                              @Value("${app.thumbnails.jpeg-quality:0.8}") float jpegQuality,
+                              @Value("${app.thumbnails.pdf-render-dpi:72}") float pdfRenderDpi,
+                              ImageDecoder imageDecoder) {
+        this.maxDimension = maxDimension;
+        this.jpegQuality = jpegQuality;
+        this.pdfRenderDpi = pdfRenderDpi;
+        this.imageDecoder = imageDecoder;
+    }
+
+    public String keyFor(UUID attachmentId, String contentHash) {
+        if (contentHash == null) {
+            return "thumbnails/attachments/" + attachmentId + "-" + maxDimension + ".jpg";
+        }
+        return "thumbnails/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/"
+                + contentHash + "-" + maxDimension + ".jpg";
+    }
+
+    public byte[] generate(byte[] content, String fileName) {
+        String contentType = tika.detect(content, fileName);
+        try {
+            BufferedImage source;
+            if (contentType.startsWith("image/")) {
+                source = imageDecoder.read(content, contentType, maxDimension);
+            } else if (contentType.equals("application/pdf")) {
+                source = renderFirstPage(content);
+            } else {
+                throw new NonRetryableProcessingException("No thumbnail for attachment type " + contentType);
+            }
+            return encodeJpeg(scale(source));
+        } catch (IOException e) {
+            throw new NonRetryableProcessingException("Failed to decode " + contentType + " attachment", e);
+        }
+    }
+
+    private BufferedImage renderFirstPage(byte[] content) throws IOException {
+        try (PDDocument document = Loader.loadPDF(content)) {
+            if (document.getNumberOfPages() == 0) {
+                throw new NonRetryableProcessingException("PDF has no pages");
+            }
+            imageDecoder.checkPage(document.getPage(0), pdfRenderDpi);
+            return new PDFRenderer(document).renderImageWithDPI(0, pdfRenderDpi, ImageType.RGB);
+        }
+    }
+
+    /**
+     * Downscale in halving steps before the final resize; a single bilinear pass over a large
+     * ratio skips most source pixels and aliases badly.
+     */
+    private BufferedImage scale(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = resize(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        // JPEG has no alpha channel; flatten onto white so transparent areas do not turn black
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
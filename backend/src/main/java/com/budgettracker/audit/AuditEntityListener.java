@@ -0,0 +1,194 @@
+package com.budgettracker.audit;
+
+import com.budgettracker.entity.AuditLog;
+import com.budgettracker.entity.BaseEntity;
+import com.budgettracker.security.UserPrincipal;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Captures committed entity changes and hands them to {@link AuditLogWriter}.
+ *
+ * Runs as Hibernate post-commit listeners, so rolled-back changes are never
+ * audited and the request only pays for building the JSON snapshot.
+ * Updates record just the dirty properties.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditEntityListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditLogWriter auditLogWriter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.audit.redacted-fields:passwordHash,mfaSecret,emailVerificationToken,passwordResetToken,invitationToken}")
+    private Set<String> redactedFields;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof BaseEntity entity) {
+            enqueue(entity, "CREATE", null, snapshot(event.getPersister(), event.getState(), null));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof BaseEntity entity)) {
+            return;
+        }
+        int[] dirty = event.getDirtyProperties();
+        if (dirty != null && dirty.length == 0) {
+            return;
+        }
+        String action = Boolean.TRUE.equals(entity.getDeleted()) && isDirty(event, "deleted") ? "DELETE" : "UPDATE";
+        enqueue(entity, action,
+                snapshot(event.getPersister(), event.getOldState(), dirty),
+                snapshot(event.getPersister(), event.getState(), dirty));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof BaseEntity entity) {
+            enqueue(entity, "DELETE", snapshot(event.getPersister(), event.getDeletedState(), null), null);
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return BaseEntity.class.isAssignableFrom(persister.getMappedClass());
+    }
+
+    private void enqueue(BaseEntity entity, String action, String oldValue, String newValue) {
+        AuditLog.AuditLogBuilder audit = AuditLog.builder()
+                .entityType(entity.getClass().getSimpleName())
+                .entityId(entity.getId())
+                .action(action)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .timestamp(LocalDateTime.now());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            audit.userId(principal.getId()).username(principal.getUsername());
+        }
+
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            audit.ipAddress(truncate(forwardedFor != null ? forwardedFor.split(",")[0].trim() : request.getRemoteAddr(), 45))
+                    .userAgent(truncate(request.getHeader("User-Agent"), 500))
+                    .requestId(truncate(request.getHeader("X-Request-Id"), 100));
+        }
+
+        auditLogWriter.enqueue(audit.build());
+    }
+
+    private String snapshot(EntityPersister persister, Object[] state, int[] onlyProperties) {
+        if (state == null) {
+            return null;
+        }
+        String[] names = persister.getPropertyNames();
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (onlyProperties != null) {
+            for (int index : onlyProperties) {
+                put(values, names[index], state[index]);
+            }
+        } else {
+            for (int i = 0; i < names.length; i++) {
+                put(values, names[i], state[i]);
+            }
+        }
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize audit snapshot for {}", persister.getEntityName(), e);
+            return null;
+        }
+    }
+
+    private void put(Map<String, Object> values, String name, Object value) {
+        if (value instanceof PersistentCollection<?>) {
+            return;
+        }
+        if (redactedFields.contains(name)) {
+            values.put(name, value != null ? "[REDACTED]" : null);
+        } else if (value instanceof BaseEntity reference) {
+            // Store associations by id rather than serializing the object graph
+            values.put(name + "Id", reference.getId());
+        } else {
+            values.put(name, value);
+        }
+    }
+
+    private boolean isDirty(PostUpdateEvent event, String property) {
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            return false;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        for (int index : dirty) {
+            if (names[index].equals(property)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,198 @@
+package com.budgettracker.audit;
+
+import com.budgettracker.entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers audit records in memory and writes them in JDBC batches on a
+ * background thread, so request threads never wait on an audit insert.
+ *
+ * When the buffer is full the overflow policy decides what is lost:
+ * drop-newest rejects the incoming record, drop-oldest evicts the head.
+ * Either way the loss is counted in {@code audit.dropped}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (id, user_id, username, entity_type, entity_id, action, " +
+            "old_value, new_value, ip_address, user_agent, session_id, timestamp, success, " +
+            "error_message, metadata, request_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), ?, ?, ?, ?, ?, ?, CAST(? AS JSONB), ?)";
+
+    public enum OverflowPolicy { DROP_NEWEST, DROP_OLDEST }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<AuditLog> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter writeFailures;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.audit.buffer-capacity:10000}") int bufferCapacity,
+                          @Value("${app.audit.batch-size:500}") int batchSize,
+                          @Value("${app.audit.flush-interval-ms:1000}") long flushIntervalMs,
+                          @Value("${app.audit.overflow-policy:drop-newest}") String overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        // The pool hands out connections with auto-commit off, so the batch
+        // must run inside a transaction or it is rolled back on close
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase().replace('-', '_'));
+
+        this.enqueued = meterRegistry.counter("audit.enqueued");
+        this.dropped = meterRegistry.counter("audit.dropped");
+        this.written = meterRegistry.counter("audit.written");
+        this.writeFailures = meterRegistry.counter("audit.write.failures");
+        this.flushTimer = meterRegistry.timer("audit.flush");
+        meterRegistry.gauge("audit.buffer.size", buffer, BlockingQueue::size);
+    }
+
+    /**
+     * Enqueue an audit record without blocking. Returns false if it was dropped.
+     */
+    public boolean enqueue(AuditLog auditLog) {
+        if (buffer.offer(auditLog)) {
+            enqueued.increment();
+            return true;
+        }
+
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            buffer.poll();
+            dropped.increment();
+            if (buffer.offer(auditLog)) {
+                enqueued.increment();
+                return true;
+            }
+        }
+
+        dropped.increment();
+        return false;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Flush whatever arrived after the worker exited
+        List<AuditLog> remaining = new ArrayList<>();
+        while (buffer.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop after the web server so in-flight requests can still enqueue
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditLog first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> insert(batch)));
+            written.increment(batch.size());
+        } catch (Exception e) {
+            writeFailures.increment(batch.size());
+            log.error("Failed to write {} audit records", batch.size(), e);
+        }
+    }
+
+    private void insert(List<AuditLog> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, audit) -> {
+            ps.setObject(1, audit.getId() != null ? audit.getId() : UUID.randomUUID());
+            ps.setObject(2, audit.getUserId());
+            ps.setString(3, audit.getUsername());
+            ps.setString(4, audit.getEntityType());
+            ps.setObject(5, audit.getEntityId());
+            ps.setString(6, audit.getAction());
+            ps.setString(7, audit.getOldValue());
+            ps.setString(8, audit.getNewValue());
+            ps.setString(9, audit.getIpAddress());
+            ps.setString(10, audit.getUserAgent());
+            ps.setString(11, audit.getSessionId());
+            ps.setTimestamp(12, Timestamp.valueOf(audit.getTimestamp()));
+            ps.setBoolean(13, Boolean.TRUE.equals(audit.getSuccess()));
+            ps.setString(14, audit.getErrorMessage());
+            ps.setString(15, audit.getMetadata());
+            ps.setString(16, audit.getRequestId());
+        });
+    }
+}
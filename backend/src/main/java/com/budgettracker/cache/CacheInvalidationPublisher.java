@@ -0,0 +1,52 @@
+package com.budgettracker.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Broadcasts L1 invalidations to the other replicas over Redis pub/sub.
+ *
+ * Messages are "origin|cache|op|argument", where op is KEY, PREFIX or CLEAR. Each node ignores
+ * its own messages. Publishing is best effort: a lost message is bounded by the L1 TTL.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "budget-tracker:cache-invalidation";
+
+    static final String OP_KEY = "KEY";
+    static final String OP_PREFIX = "PREFIX";
+    static final String OP_CLEAR = "CLEAR";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId;
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishKey(String cacheName, String key) {
+        publish(cacheName, OP_KEY, key);
+    }
+
+    public void publishPrefix(String cacheName, String prefix) {
+        publish(cacheName, OP_PREFIX, prefix);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, OP_CLEAR, "");
+    }
+
+    private void publish(String cacheName, String op, String argument) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join("|", nodeId, cacheName, op, argument));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish cache invalidation for {}: {}", cacheName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.budgettracker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with an in-process Caffeine near-cache (L1) in front of Redis (L2).
+ *
+ * Reads try L1, then L2, and populate L1 on an L2 hit. Writes go to both tiers and publish an
+ * invalidation so other replicas drop their L1 copy. L1 keys are the string form of the cache
+ * key, which is also what Redis stores.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> l1;
+    private final RedisCache l2;
+    private final CacheInvalidationPublisher publisher;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoLevelCache(String name,
+                         Cache<String, Object> l1,
+                         RedisCache l2,
+                         CacheInvalidationPublisher publisher,
+                         MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.publisher = publisher;
+
+        this.l1Hits = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l1", "result", "hit");
+        this.l1Misses = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l1", "result", "miss");
+        this.l2Hits = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l2", "result", "hit");
+        this.l2Misses = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l2", "result", "miss");
+        meterRegistry.gauge("cache.tier.hit.ratio", Tags.of("cache", name, "tier", "l1"),
+                this, cache -> ratio(cache.l1Hits, cache.l1Misses));
+        meterRegistry.gauge("cache.tier.hit.ratio", Tags.of("cache", name, "tier", "l2"),
+                this, cache -> ratio(cache.l2Hits, cache.l2Misses));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = key.toString();
+        Object value = l1.getIfPresent(localKey);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        l1Misses.increment();
+
+        ValueWrapper wrapper = l2.get(key);
+        if (wrapper == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+
+        Object storeValue = toStoreValue(wrapper.get());
+        l1.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object storeValue = lookup(key);
+        if (storeValue != null) {
+            return (T) fromStoreValue(storeValue);
+        }
+        // RedisCache serializes concurrent loads for the same key
+        T value = l2.get(key, valueLoader);
+        l1.put(key.toString(), toStoreValue(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        l1.put(key.toString(), toStoreValue(value));
+        publisher.publishKey(name, key.toString());
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(key.toString());
+        publisher.publishKey(name, key.toString());
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        publisher.publishClear(name);
+    }
+
+    /**
+     * Evict every entry whose key starts with {@code prefix} from both tiers on all replicas.
+     */
+    public void evictByPrefix(String prefix) {
+        String pattern = l2.getCacheConfiguration().getKeyPrefixFor(name) + prefix + "*";
+        l2.getNativeCache().clean(name, pattern.getBytes(StandardCharsets.UTF_8));
+        invalidateLocalPrefix(prefix);
+        publisher.publishPrefix(name, prefix);
+    }
+
+    void invalidateLocal(String key) {
+        l1.invalidate(key);
+    }
+
+    void invalidateLocalPrefix(String prefix) {
+        l1.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    void clearLocal() {
+        l1.invalidateAll();
+    }
+
+    private static double ratio(Counter hits, Counter misses) {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+}
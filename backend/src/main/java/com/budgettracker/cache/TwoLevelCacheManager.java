@@ -0,0 +1,90 @@
+package com.budgettracker.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps a {@link RedisCacheManager} so every cache gets a Caffeine near-cache, and applies
+ * invalidations received from other replicas.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final RedisCacheManager redisCacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final MeterRegistry meterRegistry;
+    private final long l1MaximumSize;
+    private final Duration defaultL1Ttl;
+    private final Map<String, Duration> l1TtlOverrides;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                CacheInvalidationPublisher publisher,
+                                MeterRegistry meterRegistry,
+                                long l1MaximumSize,
+                                Duration defaultL1Ttl,
+                                Map<String, Duration> l1TtlOverrides) {
+        this.redisCacheManager = redisCacheManager;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        this.l1MaximumSize = l1MaximumSize;
+        this.defaultL1Ttl = defaultL1Ttl;
+        this.l1TtlOverrides = l1TtlOverrides;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 4 || parts[0].equals(publisher.getNodeId())) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        meterRegistry.counter("cache.invalidation.received", "cache", parts[1]).increment();
+
+        switch (parts[2]) {
+            case CacheInvalidationPublisher.OP_KEY -> cache.invalidateLocal(parts[3]);
+            case CacheInvalidationPublisher.OP_PREFIX -> cache.invalidateLocalPrefix(parts[3]);
+            case CacheInvalidationPublisher.OP_CLEAR -> cache.clearLocal();
+            default -> log.warn("Unknown cache invalidation op: {}", parts[2]);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        RedisCache redisCache = (RedisCache) redisCacheManager.getCache(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaximumSize)
+                .expireAfterWrite(l1TtlOverrides.getOrDefault(name, defaultL1Ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, name + ".l1");
+        return new TwoLevelCache(name, l1, redisCache, publisher, meterRegistry);
+    }
+}
@@ -1,13 +1,25 @@
 package com.budgettracker.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -21,8 +33,33 @@ public class AsyncConfig {
     @Value("${app.async.queue-capacity:100}")
     private int queueCapacity;
 
+    @Value("${app.notification.dispatcher.platform-threads:32}")
+    private int notificationPlatformThreads;
+
+    @Value("${app.ocr.worker-threads:0}")
+    private int attachmentWorkerThreads;
+
+    @Value("${app.thumbnails.worker-threads:0}")
+    private int thumbnailWorkerThreads;
+
+    @Value("${app.async.virtual-concurrency-limit:200}")
+    private int virtualConcurrencyLimit;
+
+    /**
+     * General @Async executor. With spring.threads.virtual.enabled on Java 21 each task gets its own
+     * virtual thread; the concurrency limit stands in for the pool and queue bounds, so a burst
+     * of async work cannot open more database work than the platform pool would have.
+     */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("budget-tracker-async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            log.info("Async tasks running on virtual threads, at most {} concurrently", virtualConcurrencyLimit);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
@@ -31,4 +68,67 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Executor for blocking notification sends (SMTP, push gateways).
+     *
+     * A virtual thread per send when virtual threads are enabled (the virtual-threads profile on
+     * Java 21), so slow providers do not pin platform threads. Otherwise a fixed pool of
+     * app.notification.dispatcher.platform-threads, which caps how many sends are in flight.
+     */
+    @Bean(name = "notificationDispatchExecutor")
+    public AsyncTaskExecutor notificationDispatchExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notification-dispatch-");
+            executor.setVirtualThreads(true);
+            log.info("Notification dispatch running on virtual threads");
+            return executor;
+        }
+
+        log.info("Virtual threads not enabled (needs spring.threads.virtual.enabled on Java 21), " +
+                "notification dispatch using {} platform threads", notificationPlatformThreads);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notificationPlatformThreads);
+        executor.setMaxPoolSize(notificationPlatformThreads);
+        executor.setThreadNamePrefix("notification-dispatch-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for CPU-bound attachment processing (OCR).
+     *
+     * Sized to the available cores by default, since more threads than cores only adds
+     * contention. The worker only claims as many jobs as there are free threads, so the queue
+     * never holds more than a handful of tasks.
+     */
+    @Bean(name = "attachmentProcessingExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor attachmentProcessingExecutor(MeterRegistry meterRegistry) {
+        int threads = attachmentWorkerThreads > 0
+                ? attachmentWorkerThreads
+                : Runtime.getRuntime().availableProcessors();
+        return boundedExecutor(threads, "attachment-processing-", "attachment.processing", meterRegistry);
+    }
+
+    /**
+     * Separate pool for thumbnails, so previews are not stuck behind long OCR jobs. Half the
+     * cores by default; thumbnails are short and should not compete with OCR for every core.
+     */
+    @Bean(name = "attachmentThumbnailExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor attachmentThumbnailExecutor(MeterRegistry meterRegistry) {
+        int threads = thumbnailWorkerThreads > 0
+                ? thumbnailWorkerThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return boundedExecutor(threads, "attachment-thumbnail-", "attachment.thumbnail", meterRegistry);
+    }
+
+    private ThreadPoolExecutor boundedExecutor(int threads, String threadNamePrefix, String metricPrefix,
+                                               MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(threads), new CustomizableThreadFactory(threadNamePrefix),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, metricPrefix);
+        log.info("{} executor using {} worker threads", metricPrefix, threads);
+        return executor;
+    }
 }
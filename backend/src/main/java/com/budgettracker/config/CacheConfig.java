@@ -0,0 +1,163 @@
+package com.budgettracker.config;
+
+import com.budgettracker.cache.CacheInvalidationPublisher;
+import com.budgettracker.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cache names and per-cache settings.
+ *
+ * With spring.cache.type=redis every cache is two-level: a Caffeine near-cache per replica in
+ * front of Redis, kept coherent through Redis pub/sub. Profiles without Redis use the simple
+ * in-memory cache. Cache failures are logged and treated as misses so an unavailable Redis
+ * degrades to uncached reads instead of failing requests.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig implements CachingConfigurer {
+
+    public static final String REPORTS_DASHBOARD = "reports.dashboard";
+    public static final String REPORTS_CATEGORY_BREAKDOWN = "reports.categoryBreakdown";
+    public static final String REPORTS_TRENDS = "reports.trends";
+    public static final String CATEGORIES = "categories";
+    public static final String REFERENCE_DATA = "referenceData";
+    public static final String NET_WORTH = "netWorth";
+
+    @Value("${app.cache.reports-ttl-seconds:600}")
+    private long reportsTtlSeconds;
+
+    @Value("${app.cache.categories-ttl-seconds:3600}")
+    private long categoriesTtlSeconds;
+
+    @Value("${app.cache.reference-data-ttl-seconds:86400}")
+    private long referenceDataTtlSeconds;
+
+    @Value("${app.cache.l1.enabled:true}")
+    private boolean l1Enabled;
+
+    @Value("${app.cache.l1.maximum-size:10000}")
+    private long l1MaximumSize;
+
+    @Value("${app.cache.l1.ttl-seconds:60}")
+    private long l1TtlSeconds;
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CacheProperties cacheProperties,
+                                     ResourceLoader resourceLoader,
+                                     StringRedisTemplate redisTemplate,
+                                     MeterRegistry meterRegistry) {
+        RedisCacheConfiguration defaults = redisDefaults(cacheProperties, resourceLoader.getClassLoader());
+        Duration reportsTtl = Duration.ofSeconds(reportsTtlSeconds);
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
+                // SCAN instead of KEYS when evicting a user's entries by pattern
+                .builder(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000)))
+                .cacheDefaults(defaults)
+                .withCacheConfiguration(REPORTS_DASHBOARD, defaults.entryTtl(reportsTtl))
+                .withCacheConfiguration(REPORTS_CATEGORY_BREAKDOWN, defaults.entryTtl(reportsTtl))
+                .withCacheConfiguration(REPORTS_TRENDS, defaults.entryTtl(reportsTtl))
+                .withCacheConfiguration(CATEGORIES, defaults.entryTtl(Duration.ofSeconds(categoriesTtlSeconds)))
+                .withCacheConfiguration(NET_WORTH, defaults.entryTtl(reportsTtl))
+                .withCacheConfiguration(REFERENCE_DATA, defaults.entryTtl(Duration.ofSeconds(referenceDataTtlSeconds)))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        if (!l1Enabled) {
+            return redisCacheManager;
+        }
+
+        // Reference data is effectively immutable, so its near-cache entries live as long as in Redis
+        return new TwoLevelCacheManager(
+                redisCacheManager,
+                new CacheInvalidationPublisher(redisTemplate, UUID.randomUUID().toString()),
+                meterRegistry,
+                l1MaximumSize,
+                Duration.ofSeconds(l1TtlSeconds),
+                Map.of(REFERENCE_DATA, Duration.ofSeconds(referenceDataTtlSeconds)));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(twoLevelCacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        }
+        return container;
+    }
+
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheErrorHandler() {
+            @Override
+            public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("Cache get failed on {} for key {}: {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+                log.warn("Cache put failed on {} for key {}: {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("Cache evict failed on {} for key {}: {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheClearError(RuntimeException exception, Cache cache) {
+                log.warn("Cache clear failed on {}: {}", cache.getName(), exception.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Same defaults Spring Boot derives from spring.cache.redis.*
+     */
+    private RedisCacheConfiguration redisDefaults(CacheProperties cacheProperties, ClassLoader classLoader) {
+        CacheProperties.Redis redisProperties = cacheProperties.getRedis();
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig(classLoader);
+        if (redisProperties.getTimeToLive() != null) {
+            config = config.entryTtl(redisProperties.getTimeToLive());
+        }
+        if (redisProperties.getKeyPrefix() != null) {
+            config = config.prefixCacheNameWith(redisProperties.getKeyPrefix());
+        }
+        if (!redisProperties.isCacheNullValues()) {
+            config = config.disableCachingNullValues();
+        }
+        if (!redisProperties.isUseKeyPrefix()) {
+            config = config.disableKeyPrefix();
+        }
+        return config;
+    }
+}
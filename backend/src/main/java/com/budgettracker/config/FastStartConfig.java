@@ -0,0 +1,109 @@
+package com.budgettracker.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.event.spi.PreDeleteEventListener;
+import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.event.spi.PreUpdateEventListener;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Startup tuning for lazy initialisation (fast-start profile).
+ *
+ * With {@code spring.main.lazy-initialization} beans are created on first use, so a pod reports
+ * ready sooner. The infrastructure every request needs stays eager, and so do beans that only take
+ * effect once created: {@code @Scheduled} and {@code @EventListener} methods, lifecycle beans, and
+ * Hibernate event listeners that register themselves on construction (the audit listener). Once
+ * the application is ready the remaining singletons are created on a background thread, so early
+ * requests rarely pay for them.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.main.lazy-initialization", havingValue = "true")
+public class FastStartConfig {
+
+    private static final List<Class<?>> EAGER_TYPES = List.of(
+            DataSource.class,
+            Flyway.class,
+            EntityManagerFactory.class,
+            AbstractEntityManagerFactoryBean.class,
+            RedisConnectionFactory.class,
+            CacheManager.class,
+            SmartLifecycle.class,
+            PreInsertEventListener.class,
+            PreUpdateEventListener.class,
+            PreDeleteEventListener.class,
+            PostInsertEventListener.class,
+            PostUpdateEventListener.class,
+            PostDeleteEventListener.class);
+
+    private static final List<Class<? extends Annotation>> EAGER_METHOD_ANNOTATIONS = List.of(
+            Scheduled.class,
+            EventListener.class);
+
+    @Bean
+    public static LazyInitializationExcludeFilter criticalBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                EAGER_TYPES.stream().anyMatch(type -> type.isAssignableFrom(beanType)) || hasEagerMethods(beanType);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) {
+        if (!event.getApplicationContext().getEnvironment().getProperty("app.startup.warm-up", Boolean.class, true)) {
+            return;
+        }
+        ConfigurableListableBeanFactory beanFactory = event.getApplicationContext().getBeanFactory();
+        Thread warmUp = new Thread(() -> {
+            long started = System.nanoTime();
+            int created = 0;
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (definition.isSingleton() && !definition.isAbstract() && !beanFactory.containsSingleton(name)) {
+                    try {
+                        beanFactory.getBean(name);
+                        created++;
+                    } catch (RuntimeException e) {
+                        log.warn("Warm-up could not create bean {}: {}", name, e.getMessage());
+                    }
+                }
+            }
+            log.info("Warm-up created {} lazy beans in {} ms", created, (System.nanoTime() - started) / 1_000_000);
+        }, "startup-warm-up");
+        warmUp.setDaemon(true);
+        warmUp.start();
+    }
+
+    /**
+     * Meta-annotations count, so {@code @TransactionalEventListener} methods keep their bean eager too
+     */
+    private static boolean hasEagerMethods(Class<?> beanType) {
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType, method -> found.set(true),
+                method -> EAGER_METHOD_ANNOTATIONS.stream()
+                        .anyMatch(annotation -> AnnotatedElementUtils.hasAnnotation(method, annotation)));
+        return found.get();
+    }
+}
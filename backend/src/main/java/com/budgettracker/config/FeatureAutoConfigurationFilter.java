@@ -0,0 +1,51 @@
+package com.budgettracker.config;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Skips auto-configurations that only serve a feature switched off under {@code app.features.*},
+ * so their classes are never loaded or conditions evaluated at startup.
+ *
+ * Registered in {@code META-INF/spring.factories}; runs before any bean definitions exist, so it
+ * reads the flags straight from the environment.
+ */
+public class FeatureAutoConfigurationFilter implements AutoConfigurationImportFilter, EnvironmentAware {
+
+    private static final Map<String, Set<String>> AUTO_CONFIGURATIONS_BY_FEATURE = Map.of(
+            "event-streaming", Set.of(
+                    "org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+                    "org.springframework.boot.actuate.autoconfigure.metrics.KafkaMetricsAutoConfiguration")
+    );
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+        boolean[] matches = new boolean[autoConfigurationClasses.length];
+        for (int i = 0; i < autoConfigurationClasses.length; i++) {
+            matches[i] = autoConfigurationClasses[i] == null || !isDisabled(autoConfigurationClasses[i]);
+        }
+        return matches;
+    }
+
+    private boolean isDisabled(String autoConfigurationClass) {
+        for (Map.Entry<String, Set<String>> feature : AUTO_CONFIGURATIONS_BY_FEATURE.entrySet()) {
+            if (feature.getValue().contains(autoConfigurationClass)
+                    && !environment.getProperty("app.features." + feature.getKey(), Boolean.class, true)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.budgettracker.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson customisation on top of {@code spring.jackson.*}. Module beans are registered on the
+ * auto-configured ObjectMapper.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces reflective getter/setter calls with generated lambdas for DTOs that still go
+     * through bean serialisation.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -1,11 +1,13 @@
 package com.budgettracker.config;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
 
 @Configuration
+@ConditionalOnProperty(name = "app.features.event-streaming", havingValue = "true", matchIfMissing = true)
 public class KafkaConfig {
 
     public static final String TRANSACTION_CREATED_TOPIC = "transaction.created";
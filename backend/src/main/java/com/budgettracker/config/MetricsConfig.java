@@ -0,0 +1,57 @@
+package com.budgettracker.config;
+
+import com.budgettracker.metrics.HotPathMetricsAspect;
+import com.budgettracker.metrics.SqlStatementCounter;
+import com.budgettracker.metrics.StatementCountFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+
+/**
+ * Hot-path instrumentation: service timings, repository row counts and per-request
+ * Hibernate statement counts with a statement budget ({@code app.sql.*}). Histogram settings live under {@code management.metrics.distribution}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Value("${app.sql.statement-budget:50}")
+    private int statementBudget;
+
+    @Value("${app.sql.repeated-statement-threshold:10}")
+    private int repeatedStatementThreshold;
+
+    @Value("${app.sql.statement-budget-exempt-uris:}")
+    private Set<String> statementBudgetExemptUris;
+
+    @Bean
+    public HotPathMetricsAspect hotPathMetricsAspect(MeterRegistry meterRegistry) {
+        return new HotPathMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(MeterRegistry meterRegistry) {
+        StatementCountFilter filter = new StatementCountFilter(
+                meterRegistry, statementBudget, repeatedStatementThreshold, statementBudgetExemptUris);
+        FilterRegistrationBean<StatementCountFilter> registration = new FilterRegistrationBean<>(filter);
+        // Outermost, so statements issued by security filters are counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
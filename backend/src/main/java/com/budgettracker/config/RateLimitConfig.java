@@ -0,0 +1,88 @@
+package com.budgettracker.config;
+
+import com.budgettracker.ratelimit.LocalRateLimiter;
+import com.budgettracker.ratelimit.RateLimiter;
+import com.budgettracker.ratelimit.RedisRateLimiter;
+import com.budgettracker.security.RateLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Request rate limiting ({@code app.security.rate-limit.*}). The filter is added to the
+ * security filter chain by {@link SecurityConfig} and kept out of the servlet filter chain.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.security.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Value("${app.security.rate-limit.requests-per-minute:100}")
+    private int requestsPerMinute;
+
+    @Value("${app.security.rate-limit.burst:0}")
+    private int burst;
+
+    @Value("${app.security.rate-limit.store:local}")
+    private String store;
+
+    @Value("${app.security.rate-limit.max-tracked-keys:100000}")
+    private long maxTrackedKeys;
+
+    @Value("${app.security.rate-limit.endpoint-costs:}")
+    private String endpointCosts;
+
+    @Bean
+    public RateLimiter rateLimiter(ObjectProvider<StringRedisTemplate> redisTemplate, MeterRegistry meterRegistry) {
+        int capacity = burst > 0 ? burst : requestsPerMinute;
+        RateLimiter local = new LocalRateLimiter(requestsPerMinute, capacity, maxTrackedKeys, meterRegistry);
+
+        StringRedisTemplate redis = redisTemplate.getIfAvailable();
+        if ("redis".equals(store) && redis != null) {
+            log.info("Rate limiting {} requests/minute per caller, shared through Redis", requestsPerMinute);
+            return new RedisRateLimiter(redis, local, requestsPerMinute, capacity, meterRegistry);
+        }
+        log.info("Rate limiting {} requests/minute per caller, per replica", requestsPerMinute);
+        return local;
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(rateLimiter, objectMapper, meterRegistry, requestsPerMinute, parseCosts(endpointCosts));
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * "pattern=cost" pairs separated by commas, e.g. {@code /api/reports/**=5,/api/sync/push=10}
+     */
+    private static Map<String, Integer> parseCosts(String value) {
+        Map<String, Integer> costs = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalStateException("Invalid rate limit endpoint cost: " + entry);
+            }
+            costs.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return costs;
+    }
+}
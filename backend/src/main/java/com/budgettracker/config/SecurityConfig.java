@@ -2,7 +2,9 @@ package com.budgettracker.config;
 
 import com.budgettracker.security.CustomUserDetailsService;
 import com.budgettracker.security.JwtAuthenticationFilter;
+import com.budgettracker.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,6 +39,7 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ObjectProvider<RateLimitFilter> rateLimitFilter;
 
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
@@ -68,6 +71,9 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 );
 
+        // Limits are per user, so the limiter needs the authentication set up by the JWT filter
+        rateLimitFilter.ifAvailable(filter -> http.addFilterAfter(filter, JwtAuthenticationFilter.class));
+
         return http.build();
     }
 
@@ -0,0 +1,95 @@
+package com.budgettracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Guards the connection pool when requests run on virtual threads (virtual-threads profile).
+ *
+ * With platform threads Tomcat's thread count capped how many requests could queue for a
+ * connection. Virtual threads remove that cap, so a traffic spike can park thousands of requests
+ * in Hikari's wait queue, all timing out together. The guard keeps that queue bounded relative to
+ * the pool size and rejects the excess immediately, which surfaces as a 503 the client can retry.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionAdmissionGuard(Environment environment,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        int waitersPerConnection = environment.getProperty(
+                "app.datasource.max-waiters-per-connection", Integer.class, 4);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int maxWaiters = hikari.getMaximumPoolSize() * waitersPerConnection;
+                    log.info("Virtual threads enabled: pool {} has {} connections, at most {} waiting requests",
+                            hikari.getPoolName(), hikari.getMaximumPoolSize(), maxWaiters);
+                    return new AdmissionControlledDataSource(hikari, maxWaiters, meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Rejects connection requests once the pool's wait queue is full instead of joining it.
+     * Stays a DelegatingDataSource so Spring Boot can still unwrap it for Hikari metrics.
+     */
+    static class AdmissionControlledDataSource extends DelegatingDataSource {
+
+        private final HikariDataSource hikari;
+        private final int maxWaiters;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        AdmissionControlledDataSource(HikariDataSource hikari, int maxWaiters, ObjectProvider<MeterRegistry> meterRegistry) {
+            super(hikari);
+            this.hikari = hikari;
+            this.maxWaiters = maxWaiters;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            admit();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            admit();
+            return super.getConnection(username, password);
+        }
+
+        private void admit() throws SQLTransientConnectionException {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool != null && pool.getThreadsAwaitingConnection() >= maxWaiters) {
+                // Looked up per rejection; the registry may not exist yet when the data source is created
+                MeterRegistry registry = meterRegistry.getIfAvailable();
+                if (registry != null) {
+                    registry.counter("hikaricp.connections.rejected", "pool", String.valueOf(hikari.getPoolName())).increment();
+                }
+                throw new SQLTransientConnectionException(
+                        "Connection pool " + hikari.getPoolName() + " saturated: " + maxWaiters + " requests already waiting");
+            }
+        }
+    }
+}
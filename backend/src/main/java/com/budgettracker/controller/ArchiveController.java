@@ -0,0 +1,44 @@
+package com.budgettracker.controller;
+
+import com.budgettracker.dto.ApiResponse;
+import com.budgettracker.scheduled.ArchivalScheduler;
+import com.budgettracker.service.ArchivalService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Admin endpoints for cold-storage archival
+ */
+@RestController
+@RequestMapping("/api/admin/archive")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Archive", description = "Cold-storage archival and restore (admin)")
+public class ArchiveController {
+
+    private final ArchivalService archivalService;
+    private final ArchivalScheduler archivalScheduler;
+
+    @PostMapping("/run")
+    @Operation(summary = "Run archival now")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> runArchival() {
+        return ResponseEntity.ok(ApiResponse.success("Archival run completed", archivalScheduler.runArchival()));
+    }
+
+    @PostMapping("/{table}/{id}/restore")
+    @Operation(summary = "Restore an archived row to its hot table")
+    public ResponseEntity<ApiResponse<Void>> restore(
+            @PathVariable String table,
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "false") boolean undelete) {
+        archivalService.restore(table, id, undelete);
+        return ResponseEntity.ok(ApiResponse.success("Row restored from archive"));
+    }
+}
@@ -0,0 +1,228 @@
+package com.budgettracker.controller;
+
+import com.budgettracker.dto.ApiResponse;
+import com.budgettracker.dto.response.AttachmentProcessingJobResponse;
+import com.budgettracker.dto.response.AttachmentResponse;
+import com.budgettracker.entity.AttachmentProcessingJob;
+import com.budgettracker.entity.TransactionAttachment;
+import com.budgettracker.entity.enums.ProcessingStage;
+import com.budgettracker.security.UserPrincipal;
+import com.budgettracker.service.AttachmentProcessingService;
+import com.budgettracker.service.AttachmentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Tag(name = "Attachments", description = "Transaction attachment endpoints")
+@RestController
+@RequestMapping("/api/attachments")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-jwt")
+public class AttachmentController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AttachmentService attachmentService;
+    private final AttachmentProcessingService processingService;
+
+    /**
+     * The request body is the file itself (not multipart), so it is streamed straight into
+     * storage without a servlet-container temp copy.
+     */
+    @Operation(summary = "Upload an attachment to a transaction")
+    @PostMapping(consumes = {"image/*", MediaType.APPLICATION_PDF_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ApiResponse<AttachmentResponse>> uploadAttachment(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam UUID transactionId,
+            @RequestParam(required = false) String fileName,
+            @RequestParam(defaultValue = "true") boolean receipt,
+            HttpServletRequest request) throws IOException {
+
+        TransactionAttachment attachment = attachmentService.upload(userPrincipal.getId(), transactionId,
+                request.getInputStream(), fileName, request.getContentType(), receipt);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Attachment uploaded", mapToResponse(attachment, transactionId)));
+    }
+
+    @Operation(summary = "List attachments of a transaction")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getTransactionAttachments(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam UUID transactionId) {
+
+        List<AttachmentResponse> attachments = attachmentService
+                .getTransactionAttachments(userPrincipal.getId(), transactionId).stream()
+                .map(attachment -> mapToResponse(attachment, transactionId))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(ApiResponse.success(attachments));
+    }
+
+    /**
+     * Thumbnails never change for a given attachment, so clients and proxies may keep them for a year
+     */
+    @Operation(summary = "Download attachment thumbnail")
+    @GetMapping("/{attachmentId}/thumbnail")
+    public ResponseEntity<Resource> downloadThumbnail(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID attachmentId,
+            HttpServletRequest request) {
+
+        TransactionAttachment attachment = attachmentService.getAttachment(userPrincipal.getId(), attachmentId);
+        String etag = attachment.getContentHash() != null ? "\"" + attachment.getContentHash() + "-thumb\"" : null;
+        if (etag != null && new ServletWebRequest(request).checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_JPEG)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable());
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(attachmentService.loadThumbnail(attachment));
+    }
+
+    /**
+     * Full downloads of locally stored files are handed to Tomcat's sendfile, so the bytes go
+     * from the page cache to the socket without passing through the heap. Range requests are
+     * answered with 206 partial content from the same resource.
+     */
+    @Operation(summary = "Download attachment content")
+    @GetMapping("/{attachmentId}/content")
+    public ResponseEntity<Resource> downloadContent(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID attachmentId,
+            @RequestHeader HttpHeaders requestHeaders,
+            HttpServletRequest request) throws IOException {
+
+        TransactionAttachment attachment = attachmentService.getAttachment(userPrincipal.getId(), attachmentId);
+        String etag = attachment.getContentHash() != null ? "\"" + attachment.getContentHash() + "\"" : null;
+        if (etag != null && new ServletWebRequest(request).checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        Resource resource = attachmentService.loadContent(attachment);
+        long contentLength = resource.contentLength();
+
+        // Content is immutable for a given attachment id
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaTypeOf(attachment))
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename(attachment.getFileName())
+                        .build()
+                        .toString());
+        if (etag != null) {
+            response.eTag(etag);
+        }
+
+        if (requestHeaders.getRange().isEmpty() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            Optional<Path> path = attachmentService.storage().localPath(attachment.getStorageKey());
+            if (path.isPresent()) {
+                request.setAttribute(SENDFILE_FILENAME, path.get().toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, contentLength);
+                return response.contentLength(contentLength).build();
+            }
+        }
+
+        return response.body(resource);
+    }
+
+    @Operation(summary = "Queue OCR for an attachment")
+    @PostMapping("/{attachmentId}/ocr")
+    public ResponseEntity<ApiResponse<AttachmentProcessingJobResponse>> requestOcr(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID attachmentId) {
+
+        attachmentService.getAttachment(userPrincipal.getId(), attachmentId);
+        AttachmentProcessingJob job = processingService.enqueue(attachmentId, ProcessingStage.OCR);
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("OCR queued", mapToResponse(job)));
+    }
+
+    @Operation(summary = "Get processing status of an attachment")
+    @GetMapping("/{attachmentId}/processing")
+    public ResponseEntity<ApiResponse<List<AttachmentProcessingJobResponse>>> getProcessingStatus(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID attachmentId) {
+
+        attachmentService.getAttachment(userPrincipal.getId(), attachmentId);
+        List<AttachmentProcessingJobResponse> jobs = processingService.getJobs(attachmentId).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(ApiResponse.success(jobs));
+    }
+
+    private MediaType mediaTypeOf(TransactionAttachment attachment) {
+        try {
+            return attachment.getFileType() != null
+                    ? MediaType.parseMediaType(attachment.getFileType())
+                    : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    private AttachmentResponse mapToResponse(TransactionAttachment attachment, UUID transactionId) {
+        return AttachmentResponse.builder()
+                .id(attachment.getId())
+                .transactionId(transactionId)
+                .fileName(attachment.getFileName())
+                .fileType(attachment.getFileType())
+                .fileSize(attachment.getFileSize())
+                .fileUrl(attachment.getFileUrl())
+                .thumbnailUrl(attachment.getThumbnailUrl())
+                .contentHash(attachment.getContentHash())
+                .isReceipt(attachment.getIsReceipt())
+                .ocrExtracted(attachment.getOcrExtracted())
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+
+    private AttachmentProcessingJobResponse mapToResponse(AttachmentProcessingJob job) {
+        return AttachmentProcessingJobResponse.builder()
+                .id(job.getId())
+                .attachmentId(job.getAttachment().getId())
+                .stage(job.getStage().name())
+                .status(job.getStatus().name())
+                .attempts(job.getAttempts())
+                .maxAttempts(job.getMaxAttempts())
+                .nextAttemptAt(job.getNextAttemptAt())
+                .lastError(job.getLastError())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .durationMs(job.getDurationMs())
+                .build();
+    }
+}
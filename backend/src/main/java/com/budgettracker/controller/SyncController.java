@@ -0,0 +1,55 @@
+package com.budgettracker.controller;
+
+import com.budgettracker.dto.ApiResponse;
+import com.budgettracker.dto.request.SyncPushRequest;
+import com.budgettracker.dto.response.SyncChangesResponse;
+import com.budgettracker.dto.response.SyncPushResponse;
+import com.budgettracker.security.UserPrincipal;
+import com.budgettracker.service.SyncPushService;
+import com.budgettracker.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Sync", description = "Offline client synchronisation endpoints")
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-jwt")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final SyncPushService syncPushService;
+
+    /**
+     * Omit {@code since} for an initial sync. Keep calling with {@code nextToken} while
+     * {@code hasMore} is true; when {@code resetRequired} is true, drop local data and start over.
+     */
+    @Operation(summary = "Get changes since a sync token")
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<SyncChangesResponse>> getChanges(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+
+        return ResponseEntity.ok(ApiResponse.success(syncService.getChanges(userPrincipal.getId(), since, limit)));
+    }
+
+    /**
+     * Apply queued offline edits in one batch. Each change carries the version it was based on;
+     * concurrent server edits are merged per field using app.sync.conflict-resolution.
+     */
+    @Operation(summary = "Push offline changes")
+    @PostMapping("/push")
+    public ResponseEntity<ApiResponse<SyncPushResponse>> push(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody SyncPushRequest request) {
+
+        return ResponseEntity.ok(ApiResponse.success(syncPushService.push(userPrincipal.getId(), request)));
+    }
+}
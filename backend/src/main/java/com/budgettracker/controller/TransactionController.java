@@ -1,9 +1,10 @@
 package com.budgettracker.controller;
 
 import com.budgettracker.dto.ApiResponse;
-import com.budgettracker.dto.PageResponse;
+import com.budgettracker.dto.StreamingPageResponse;
 import com.budgettracker.dto.request.CreateTransactionRequest;
 import com.budgettracker.dto.response.TransactionResponse;
+import com.budgettracker.dto.response.TransactionRow;
 import com.budgettracker.entity.Category;
 import com.budgettracker.entity.Transaction;
 import com.budgettracker.entity.Wallet;
@@ -53,7 +54,7 @@ public class TransactionController {
                 .type(request.getType())
                 .amount(request.getAmount())
                 .currencyCode(request.getCurrencyCode())
-                .exchangeRate(request.getExchangeRate() != null ? request.getExchangeRate() : BigDecimal.ONE)
+                .exchangeRate(request.getExchangeRate())
                 .transactionDate(request.getTransactionDate())
                 .description(request.getDescription())
                 .notes(request.getNotes())
@@ -76,14 +77,12 @@ public class TransactionController {
 
     @Operation(summary = "Get user transactions with pagination")
     @GetMapping
-    public ResponseEntity<ApiResponse<PageResponse<TransactionResponse>>> getTransactions(
+    public ResponseEntity<StreamingPageResponse<TransactionRow>> getTransactions(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             Pageable pageable) {
 
-        Page<Transaction> transactionsPage = transactionService.getUserTransactions(userPrincipal.getId(), pageable);
-        Page<TransactionResponse> responsePage = transactionsPage.map(this::mapToResponse);
-
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(responsePage)));
+        Page<TransactionRow> rows = transactionService.getUserTransactionRows(userPrincipal.getId(), pageable);
+        return ResponseEntity.ok(new StreamingPageResponse<>(rows, TransactionRow::write));
     }
 
     @Operation(summary = "Get transaction by ID")
@@ -97,31 +96,26 @@ public class TransactionController {
 
     @Operation(summary = "Get transactions by date range")
     @GetMapping("/date-range")
-    public ResponseEntity<ApiResponse<PageResponse<TransactionResponse>>> getTransactionsByDateRange(
+    public ResponseEntity<StreamingPageResponse<TransactionRow>> getTransactionsByDateRange(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             Pageable pageable) {
 
-        Page<Transaction> transactionsPage = transactionService.getTransactionsByDateRange(
+        Page<TransactionRow> rows = transactionService.getTransactionRowsByDateRange(
                 userPrincipal.getId(), startDate, endDate, pageable);
-        Page<TransactionResponse> responsePage = transactionsPage.map(this::mapToResponse);
-
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(responsePage)));
+        return ResponseEntity.ok(new StreamingPageResponse<>(rows, TransactionRow::write));
     }
 
     @Operation(summary = "Search transactions")
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<PageResponse<TransactionResponse>>> searchTransactions(
+    public ResponseEntity<StreamingPageResponse<TransactionRow>> searchTransactions(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam String query,
             Pageable pageable) {
 
-        Page<Transaction> transactionsPage = transactionService.searchTransactions(
-                userPrincipal.getId(), query, pageable);
-        Page<TransactionResponse> responsePage = transactionsPage.map(this::mapToResponse);
-
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(responsePage)));
+        Page<TransactionRow> rows = transactionService.searchTransactionRows(userPrincipal.getId(), query, pageable);
+        return ResponseEntity.ok(new StreamingPageResponse<>(rows, TransactionRow::write));
     }
 
     @Operation(summary = "Update transaction")
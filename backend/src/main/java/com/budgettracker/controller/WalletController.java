@@ -2,6 +2,7 @@ package com.budgettracker.controller;
 
 import com.budgettracker.dto.ApiResponse;
 import com.budgettracker.dto.request.CreateWalletRequest;
+import com.budgettracker.dto.response.NetWorthResponse;
 import com.budgettracker.dto.response.WalletResponse;
 import com.budgettracker.entity.Wallet;
 import com.budgettracker.security.UserPrincipal;
@@ -133,13 +134,21 @@ public class WalletController {
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam(required = false) String currencyCode) {
 
+        // Without a currency filter, wallets in other currencies are converted into the user's currency
         BigDecimal total = currencyCode != null
                 ? walletService.getTotalBalanceByCurrency(userPrincipal.getId(), currencyCode)
-                : walletService.getTotalBalance(userPrincipal.getId());
+                : walletService.getNetWorth(userPrincipal.getId()).getTotal();
 
         return ResponseEntity.ok(ApiResponse.success(total));
     }
 
+    @Operation(summary = "Get consolidated net worth in the user's currency")
+    @GetMapping("/balance/net-worth")
+    public ResponseEntity<ApiResponse<NetWorthResponse>> getNetWorth(
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(ApiResponse.success(walletService.getNetWorth(userPrincipal.getId())));
+    }
+
     private WalletResponse mapToResponse(Wallet wallet) {
         return WalletResponse.builder()
                 .id(wallet.getId())
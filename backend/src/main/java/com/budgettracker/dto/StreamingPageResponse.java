@@ -0,0 +1,92 @@
+package com.budgettracker.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Page of rows that writes itself straight to the response {@link JsonGenerator}, producing the
+ * same JSON as {@code ApiResponse<PageResponse<T>>} without building that object graph or having
+ * Jackson introspect each row.
+ *
+ * @param <T> row type, written by the supplied {@link RowWriter}
+ */
+public class StreamingPageResponse<T> implements JsonSerializable {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString FIRST = new SerializedString("first");
+    private static final SerializedString LAST = new SerializedString("last");
+    private static final SerializedString EMPTY = new SerializedString("empty");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    private final Page<T> page;
+    private final RowWriter<T> rowWriter;
+    private final LocalDateTime timestamp = LocalDateTime.now();
+
+    public StreamingPageResponse(Page<T> page, RowWriter<T> rowWriter) {
+        this.page = page;
+        this.rowWriter = rowWriter;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(true);
+
+        gen.writeFieldName(DATA);
+        gen.writeStartObject();
+        gen.writeFieldName(CONTENT);
+        gen.writeStartArray();
+        for (T row : page.getContent()) {
+            rowWriter.write(row, gen);
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(PAGE);
+        gen.writeNumber(page.getNumber());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.getTotalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(page.getTotalPages());
+        gen.writeFieldName(FIRST);
+        gen.writeBoolean(page.isFirst());
+        gen.writeFieldName(LAST);
+        gen.writeBoolean(page.isLast());
+        gen.writeFieldName(EMPTY);
+        gen.writeBoolean(page.isEmpty());
+        gen.writeEndObject();
+
+        gen.writeFieldName(TIMESTAMP);
+        gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp));
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+
+    /**
+     * Writes one row as a JSON object.
+     */
+    @FunctionalInterface
+    public interface RowWriter<T> {
+        void write(T row, JsonGenerator gen) throws IOException;
+    }
+}
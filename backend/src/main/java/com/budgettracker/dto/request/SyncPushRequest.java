@@ -0,0 +1,49 @@
+package com.budgettracker.dto.request;
+
+import com.budgettracker.sync.SyncEntityType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+public class SyncPushRequest {
+
+    private String deviceId;
+
+    @NotEmpty(message = "Changes are required")
+    @Valid
+    private List<Change> changes;
+
+    @Data
+    public static class Change {
+        @NotNull(message = "Entity type is required")
+        private SyncEntityType entityType;
+
+        @NotNull(message = "Operation is required")
+        @Pattern(regexp = "UPDATE|DELETE", message = "Operation must be UPDATE or DELETE")
+        private String operation;
+
+        @NotNull(message = "Id is required")
+        private UUID id;
+
+        // Version of the row the client edited, as last received from /api/sync/changes
+        @NotNull(message = "Base version is required")
+        private Long baseVersion;
+
+        // When the edit was made on the device; used by last-write-wins
+        private Instant changedAt;
+
+        // New values, keyed by column name as in the change feed
+        private Map<String, Object> fields;
+
+        // Values the client saw before editing; fields the server has not touched since merge cleanly
+        private Map<String, Object> baseFields;
+    }
+}
@@ -0,0 +1,27 @@
+package com.budgettracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentProcessingJobResponse {
+    private UUID id;
+    private UUID attachmentId;
+    private String stage;
+    private String status;
+    private Integer attempts;
+    private Integer maxAttempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Long durationMs;
+}
@@ -0,0 +1,27 @@
+package com.budgettracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentResponse {
+    private UUID id;
+    private UUID transactionId;
+    private String fileName;
+    private String fileType;
+    private Long fileSize;
+    private String fileUrl;
+    private String thumbnailUrl;
+    private String contentHash;
+    private Boolean isReceipt;
+    private Boolean ocrExtracted;
+    private LocalDateTime createdAt;
+}
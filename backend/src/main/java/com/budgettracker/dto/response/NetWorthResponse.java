@@ -0,0 +1,22 @@
+package com.budgettracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NetWorthResponse implements Serializable {
+    private String currencyCode;
+    private BigDecimal total;
+    private Map<String, BigDecimal> balancesByCurrency;
+    private LocalDateTime ratesAsOf;
+}
@@ -0,0 +1,23 @@
+package com.budgettracker.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SyncChange {
+    private String entityType;
+    private String operation; // INSERT, UPDATE, DELETE
+    private UUID id;
+    private Long version;
+    private Map<String, Object> data; // null for DELETE tombstones
+}
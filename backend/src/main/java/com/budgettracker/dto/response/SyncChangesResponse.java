@@ -0,0 +1,21 @@
+package com.budgettracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncChangesResponse {
+    private List<SyncChange> changes;
+    private String nextToken;
+    private Boolean hasMore;
+    private Boolean resetRequired; // token too old; client must discard local state and sync from scratch
+    private LocalDateTime serverTime;
+}
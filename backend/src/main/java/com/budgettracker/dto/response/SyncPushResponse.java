@@ -0,0 +1,21 @@
+package com.budgettracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncPushResponse {
+    private String conflictResolution;
+    private int applied;
+    private int merged;
+    private int serverWon;
+    private int rejected;
+    private List<SyncPushResult> results;
+}
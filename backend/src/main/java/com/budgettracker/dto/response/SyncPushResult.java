@@ -0,0 +1,27 @@
+package com.budgettracker.dto.response;
+
+import com.budgettracker.sync.SyncPushOutcome;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SyncPushResult {
+    private String entityType;
+    private UUID id;
+    private SyncPushOutcome outcome;
+    private Long version; // row version after the push; send as baseVersion for further edits
+    private Boolean conflictResolved;
+    private List<String> conflictingFields;
+    private List<String> serverWonFields;
+    private String reason;
+}
@@ -0,0 +1,126 @@
+package com.budgettracker.dto.response;
+
+import com.budgettracker.entity.enums.TransactionStatus;
+import com.budgettracker.entity.enums.TransactionType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Flat projection of a transaction with its wallet and category names, selected in one query
+ * for list endpoints. {@link #write} emits the same JSON as {@link TransactionResponse}.
+ */
+public record TransactionRow(
+        UUID id,
+        UUID walletId,
+        String walletName,
+        UUID categoryId,
+        String categoryName,
+        TransactionType type,
+        BigDecimal amount,
+        String currencyCode,
+        BigDecimal exchangeRate,
+        BigDecimal amountInWalletCurrency,
+        LocalDate transactionDate,
+        String description,
+        String notes,
+        String merchantName,
+        String location,
+        TransactionStatus status,
+        Boolean isReconciled,
+        Boolean hasAttachments,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * JPQL select list matching the constructor, over {@code Transaction t JOIN t.wallet w LEFT JOIN t.category c}.
+     */
+    public static final String SELECT = "SELECT new com.budgettracker.dto.response.TransactionRow(" +
+            "t.id, w.id, w.name, c.id, c.name, t.type, t.amount, t.currencyCode, t.exchangeRate, " +
+            "t.amountInWalletCurrency, t.transactionDate, t.description, t.notes, t.merchantName, " +
+            "t.location, t.status, t.isReconciled, t.hasAttachments, t.createdAt, t.updatedAt) " +
+            "FROM Transaction t JOIN t.wallet w LEFT JOIN t.category c ";
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString WALLET_ID = new SerializedString("walletId");
+    private static final SerializedString WALLET_NAME = new SerializedString("walletName");
+    private static final SerializedString CATEGORY_ID = new SerializedString("categoryId");
+    private static final SerializedString CATEGORY_NAME = new SerializedString("categoryName");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString AMOUNT = new SerializedString("amount");
+    private static final SerializedString CURRENCY_CODE = new SerializedString("currencyCode");
+    private static final SerializedString EXCHANGE_RATE = new SerializedString("exchangeRate");
+    private static final SerializedString AMOUNT_IN_WALLET_CURRENCY = new SerializedString("amountInWalletCurrency");
+    private static final SerializedString TRANSACTION_DATE = new SerializedString("transactionDate");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString NOTES = new SerializedString("notes");
+    private static final SerializedString MERCHANT_NAME = new SerializedString("merchantName");
+    private static final SerializedString LOCATION = new SerializedString("location");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString IS_RECONCILED = new SerializedString("isReconciled");
+    private static final SerializedString HAS_ATTACHMENTS = new SerializedString("hasAttachments");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    /**
+     * Write {@code row} as a JSON object, omitting null fields like the default non_null inclusion.
+     */
+    public static void write(TransactionRow row, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, ID, row.id);
+        writeString(gen, WALLET_ID, row.walletId);
+        writeString(gen, WALLET_NAME, row.walletName);
+        writeString(gen, CATEGORY_ID, row.categoryId);
+        writeString(gen, CATEGORY_NAME, row.categoryName);
+        writeString(gen, TYPE, row.type);
+        writeNumber(gen, AMOUNT, row.amount);
+        writeString(gen, CURRENCY_CODE, row.currencyCode);
+        writeNumber(gen, EXCHANGE_RATE, row.exchangeRate);
+        writeNumber(gen, AMOUNT_IN_WALLET_CURRENCY, row.amountInWalletCurrency);
+        writeString(gen, TRANSACTION_DATE, row.transactionDate);
+        writeString(gen, DESCRIPTION, row.description);
+        writeString(gen, NOTES, row.notes);
+        writeString(gen, MERCHANT_NAME, row.merchantName);
+        writeString(gen, LOCATION, row.location);
+        writeString(gen, STATUS, row.status);
+        writeBoolean(gen, IS_RECONCILED, row.isReconciled);
+        writeBoolean(gen, HAS_ATTACHMENTS, row.hasAttachments);
+        writeDateTime(gen, CREATED_AT, row.createdAt);
+        writeDateTime(gen, UPDATED_AT, row.updatedAt);
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, Object value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value instanceof Enum<?> e ? e.name() : value.toString());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializedString name, BigDecimal value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeBoolean(JsonGenerator gen, SerializedString name, Boolean value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeBoolean(value);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, SerializedString name, LocalDateTime value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+}
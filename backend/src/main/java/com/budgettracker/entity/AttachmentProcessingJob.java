@@ -0,0 +1,122 @@
+package com.budgettracker.entity;
+
+import com.budgettracker.entity.enums.ProcessingJobStatus;
+import com.budgettracker.entity.enums.ProcessingStage;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * State of one processing stage (e.g. OCR) for an attachment
+ */
+@Entity
+@Table(name = "attachment_processing_jobs", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_attachment_job_stage", columnNames = {"attachment_id", "stage"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttachmentProcessingJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "attachment_id", nullable = false)
+    private TransactionAttachment attachment;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 20)
+    private ProcessingStage stage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private ProcessingJobStatus status = ProcessingJobStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "max_attempts", nullable = false)
+    @Builder.Default
+    private Integer maxAttempts = 3;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Claim for processing; the job stays claimable by others only after the lease expires
+     */
+    public void claim(LocalDateTime now, LocalDateTime leaseUntil) {
+        this.status = ProcessingJobStatus.RUNNING;
+        this.attempts++;
+        this.startedAt = now;
+        this.nextAttemptAt = leaseUntil;
+        this.updatedAt = now;
+    }
+
+    public void succeed(LocalDateTime now, long durationMs) {
+        this.status = ProcessingJobStatus.SUCCEEDED;
+        this.completedAt = now;
+        this.durationMs = durationMs;
+        this.lastError = null;
+        this.updatedAt = now;
+    }
+
+    /**
+     * Record a failure and either schedule a retry or give up
+     *
+     * @return true if the job will be retried
+     */
+    public boolean fail(String error, boolean retryable, LocalDateTime retryAt, LocalDateTime now) {
+        this.lastError = error;
+        this.updatedAt = now;
+        if (retryable && this.attempts < this.maxAttempts) {
+            this.status = ProcessingJobStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+            return true;
+        }
+        this.status = ProcessingJobStatus.FAILED;
+        this.completedAt = now;
+        return false;
+    }
+
+    /**
+     * Put the job back in the queue with a fresh attempt budget
+     */
+    public void requeue(LocalDateTime now) {
+        this.status = ProcessingJobStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.lastError = null;
+        this.completedAt = null;
+        this.durationMs = null;
+        this.updatedAt = now;
+    }
+}
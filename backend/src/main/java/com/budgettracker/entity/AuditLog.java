@@ -8,12 +8,14 @@ import java.util.UUID;
 
 /**
  * Audit Log entity for tracking system events
+ *
+ * The table is range-partitioned by month on timestamp (see AuditPartitionService),
+ * so queries should bound timestamp to benefit from partition pruning.
  */
 @Entity
 @Table(name = "audit_logs", indexes = {
-    @Index(name = "idx_audit_user_id", columnList = "user_id"),
-    @Index(name = "idx_audit_entity_type", columnList = "entity_type"),
-    @Index(name = "idx_audit_entity_id", columnList = "entity_id"),
+    @Index(name = "idx_audit_user_id", columnList = "user_id, timestamp DESC"),
+    @Index(name = "idx_audit_entity", columnList = "entity_type, entity_id"),
     @Index(name = "idx_audit_action", columnList = "action"),
     @Index(name = "idx_audit_timestamp", columnList = "timestamp"),
     @Index(name = "idx_audit_ip_address", columnList = "ip_address")
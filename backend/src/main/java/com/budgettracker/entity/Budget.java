@@ -14,12 +14,9 @@ import java.time.LocalDate;
  */
 @Entity
 @Table(name = "budgets", indexes = {
-    @Index(name = "idx_budget_user_id", columnList = "user_id"),
     @Index(name = "idx_budget_category_id", columnList = "category_id"),
     @Index(name = "idx_budget_wallet_id", columnList = "wallet_id"),
-    @Index(name = "idx_budget_period", columnList = "period"),
-    @Index(name = "idx_budget_dates", columnList = "start_date,end_date"),
-    @Index(name = "idx_budget_status", columnList = "status")
+    @Index(name = "idx_budget_dates", columnList = "start_date,end_date")
 })
 @Where(clause = "deleted = false")
 @Getter
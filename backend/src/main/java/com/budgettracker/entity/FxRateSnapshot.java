@@ -0,0 +1,46 @@
+package com.budgettracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Exchange rate captured from the FX provider (1 base = rate quote)
+ */
+@Entity
+@Table(name = "fx_rate_snapshots", indexes = {
+    @Index(name = "idx_fx_rate_as_of", columnList = "as_of")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FxRateSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "base_currency", nullable = false, length = 3)
+    private String baseCurrency;
+
+    @Column(name = "quote_currency", nullable = false, length = 3)
+    private String quoteCurrency;
+
+    @Column(name = "rate", nullable = false, precision = 19, scale = 8)
+    private BigDecimal rate;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDateTime asOf;
+
+    @Column(name = "provider", nullable = false, length = 50)
+    private String provider;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
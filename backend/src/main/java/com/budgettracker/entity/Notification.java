@@ -62,6 +62,9 @@ public class Notification extends BaseEntity {
     @Column(name = "scheduled_for")
     private LocalDateTime scheduledFor;
 
+    @Column(name = "leased_until")
+    private LocalDateTime leasedUntil;
+
     @Column(name = "priority")
     @Builder.Default
     private Integer priority = 0;
@@ -76,6 +79,7 @@ public class Notification extends BaseEntity {
     private String actionUrl;
 
     @Column(name = "metadata", columnDefinition = "JSONB")
+    @org.hibernate.annotations.JdbcTypeCode(org.hibernate.type.SqlTypes.JSON)
     private String metadata;
 
     @Column(name = "retry_count")
@@ -89,6 +93,9 @@ public class Notification extends BaseEntity {
     @Column(name = "error_message", length = 1000)
     private String errorMessage;
 
+    @Column(name = "dedup_key", length = 200)
+    private String dedupKey;
+
     /**
      * Mark as read
      */
@@ -103,6 +110,7 @@ public class Notification extends BaseEntity {
     public void markAsSent() {
         this.status = NotificationStatus.SENT;
         this.sentAt = LocalDateTime.now();
+        this.leasedUntil = null;
     }
 
     /**
@@ -112,6 +120,24 @@ public class Notification extends BaseEntity {
         this.status = NotificationStatus.FAILED;
         this.errorMessage = errorMessage;
         this.retryCount++;
+        this.leasedUntil = null;
+    }
+
+    /**
+     * Mark as unknown: the send may have gone out, so retrying could deliver it twice
+     */
+    public void markAsUnknown(String errorMessage) {
+        this.status = NotificationStatus.UNKNOWN;
+        this.errorMessage = errorMessage;
+        this.leasedUntil = null;
+    }
+
+    /**
+     * Return a failed notification to the queue for another attempt
+     */
+    public void scheduleRetry(LocalDateTime retryAt) {
+        this.status = NotificationStatus.PENDING;
+        this.scheduledFor = retryAt;
     }
 
     /**
@@ -19,11 +19,7 @@ import java.util.Set;
 @Table(name = "transactions", indexes = {
     @Index(name = "idx_transaction_wallet_id", columnList = "wallet_id"),
     @Index(name = "idx_transaction_category_id", columnList = "category_id"),
-    @Index(name = "idx_transaction_type", columnList = "type"),
-    @Index(name = "idx_transaction_date", columnList = "transaction_date"),
-    @Index(name = "idx_transaction_status", columnList = "status"),
-    @Index(name = "idx_transaction_created_at", columnList = "created_at"),
-    @Index(name = "idx_transaction_user_date", columnList = "user_id,transaction_date")
+    @Index(name = "idx_transaction_created_at", columnList = "created_at")
 })
 @Where(clause = "deleted = false")
 @Getter
@@ -40,6 +40,9 @@ public class TransactionAttachment extends BaseEntity {
     @Column(name = "storage_key", length = 500)
     private String storageKey;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "thumbnail_url", length = 500)
     private String thumbnailUrl;
 
@@ -55,5 +58,6 @@ public class TransactionAttachment extends BaseEntity {
     private String ocrText;
 
     @Column(name = "ocr_data", columnDefinition = "JSONB")
+    @org.hibernate.annotations.JdbcTypeCode(org.hibernate.type.SqlTypes.JSON)
     private String ocrData;
 }
@@ -14,9 +14,6 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "wallets", indexes = {
-    @Index(name = "idx_wallet_user_id", columnList = "user_id"),
-    @Index(name = "idx_wallet_type", columnList = "type"),
-    @Index(name = "idx_wallet_currency", columnList = "currency_code"),
     @Index(name = "idx_wallet_created_at", columnList = "created_at")
 })
 @Where(clause = "deleted = false")
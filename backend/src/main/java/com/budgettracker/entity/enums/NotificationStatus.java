@@ -8,5 +8,9 @@ public enum NotificationStatus {
     SENT,
     DELIVERED,
     FAILED,
-    CANCELLED
+    CANCELLED,
+    /**
+     * The send timed out, so it may or may not have reached the provider; not retried automatically
+     */
+    UNKNOWN
 }
@@ -8,6 +8,7 @@ public enum NotificationType {
     BUDGET_EXCEEDED,
     BILL_REMINDER,
     SUBSCRIPTION_REMINDER,
+    TRIAL_ENDING,
     TRANSACTION_CREATED,
     TRANSACTION_UPDATED,
     GOAL_ACHIEVED,
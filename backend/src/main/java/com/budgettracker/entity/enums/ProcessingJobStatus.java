@@ -0,0 +1,8 @@
+package com.budgettracker.entity.enums;
+
+public enum ProcessingJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.budgettracker.entity.enums;
+
+public enum ProcessingStage {
+    OCR,
+    THUMBNAIL
+}
@@ -3,6 +3,7 @@ package com.budgettracker.event;
 import com.budgettracker.config.KafkaConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
@@ -12,6 +13,7 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.features.event-streaming", havingValue = "true", matchIfMissing = true)
 public class KafkaEventPublisher {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
@@ -5,6 +5,8 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -63,6 +65,45 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(error));
     }
 
+    /**
+     * Handle optimistic locking failures (row changed by another request since it was read)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException ex,
+            WebRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+
+        ApiResponse.ErrorDetails error = ApiResponse.ErrorDetails.builder()
+                .code("CONCURRENT_MODIFICATION")
+                .message("The resource was modified concurrently, please retry")
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(error));
+    }
+
+    /**
+     * Handle a transaction that could not start because no database connection was available
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiResponse<Object>> handleCannotCreateTransaction(
+            CannotCreateTransactionException ex,
+            WebRequest request) {
+        log.warn("No database connection available: {}", ex.getMessage());
+
+        ApiResponse.ErrorDetails error = ApiResponse.ErrorDetails.builder()
+                .code("SERVICE_BUSY")
+                .message("The service is busy, please retry shortly")
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(ApiResponse.error(error));
+    }
+
     /**
      * Handle UnauthorizedException
      */
@@ -0,0 +1,9 @@
+package com.budgettracker.fx;
+
+import java.math.BigDecimal;
+
+/**
+ * Amount tagged with its ISO 4217 currency code
+ */
+public record CurrencyAmount(String currencyCode, BigDecimal amount) {
+}
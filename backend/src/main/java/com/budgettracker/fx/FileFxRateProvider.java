@@ -0,0 +1,57 @@
+package com.budgettracker.fx;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Reads rates from a JSON file in the exchangerate-api format. Used for local development,
+ * tests and air-gapped deployments; the bundled file holds static sample rates, so serving it
+ * is logged as a warning on every refresh.
+ */
+@Slf4j
+@Component
+public class FileFxRateProvider implements FxRateProvider {
+
+    private static final String BUNDLED_RATES = "classpath:fx/rates.json";
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String filePath;
+
+    public FileFxRateProvider(ResourceLoader resourceLoader,
+                              ObjectMapper objectMapper,
+                              @Value("${app.fx.file-path:classpath:fx/rates.json}") String filePath) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public FxRateTable fetchLatest(String baseCurrency) {
+        if (BUNDLED_RATES.equals(filePath)) {
+            log.warn("Serving the bundled sample FX rates from {}; set app.fx.file-path or FX_PROVIDER "
+                    + "for real rates", BUNDLED_RATES);
+        }
+        Resource resource = resourceLoader.getResource(filePath);
+        try (InputStream in = resource.getInputStream()) {
+            JsonNode root = objectMapper.readTree(in);
+            return FxRatePayloadParser.parse(root, baseCurrency, name());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read FX rates from " + filePath, e);
+        }
+    }
+}
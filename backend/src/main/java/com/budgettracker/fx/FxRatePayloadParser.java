@@ -0,0 +1,48 @@
+package com.budgettracker.fx;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses the {@code {"base": "...", "date": "...", "rates": {...}}} payload shared by the
+ * exchangerate-api response and the bundled rates file.
+ */
+final class FxRatePayloadParser {
+
+    private FxRatePayloadParser() {
+    }
+
+    static FxRateTable parse(JsonNode root, String expectedBase, String provider) {
+        JsonNode ratesNode = root.path("rates");
+        if (!ratesNode.isObject()) {
+            throw new IllegalStateException("FX payload from " + provider + " has no rates object");
+        }
+
+        String base = root.path("base").asText(expectedBase);
+        Map<String, BigDecimal> rates = new HashMap<>();
+        ratesNode.fields().forEachRemaining(entry -> rates.put(entry.getKey(), entry.getValue().decimalValue()));
+
+        FxRateTable table = new FxRateTable(base, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS), provider, rates);
+        if (!table.getBaseCurrency().equalsIgnoreCase(expectedBase)) {
+            // Rebase so the published table is always quoted against the configured base
+            return rebase(table, expectedBase);
+        }
+        return table;
+    }
+
+    private static FxRateTable rebase(FxRateTable table, String base) {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        for (String currency : table.getRates().keySet()) {
+            table.rate(base, currency).ifPresent(rate -> rates.put(currency, rate));
+        }
+        if (rates.isEmpty()) {
+            throw new IllegalStateException("FX payload from " + table.getProvider() + " does not quote " + base);
+        }
+        return new FxRateTable(base, table.getAsOf(), table.getProvider(), rates);
+    }
+}
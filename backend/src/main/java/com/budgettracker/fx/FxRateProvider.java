@@ -0,0 +1,17 @@
+package com.budgettracker.fx;
+
+/**
+ * Source of exchange rates, selected by name through {@code app.fx.provider}
+ */
+public interface FxRateProvider {
+
+    /**
+     * Name matched against {@code app.fx.provider}
+     */
+    String name();
+
+    /**
+     * Fetch the latest rates quoted against {@code baseCurrency}
+     */
+    FxRateTable fetchLatest(String baseCurrency);
+}
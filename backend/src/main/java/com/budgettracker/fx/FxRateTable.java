@@ -0,0 +1,86 @@
+package com.budgettracker.fx;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable set of exchange rates quoted against a single base currency (1 base = rate quote).
+ *
+ * Cross rates are derived through the base, so a table of N quotes answers all N x N pairs.
+ * Instances are never modified after construction, which lets readers use a table without
+ * locking while a refresh builds and publishes its replacement.
+ */
+public final class FxRateTable {
+
+    public static final MathContext RATE_CONTEXT = MathContext.DECIMAL64;
+
+    private final String baseCurrency;
+    private final LocalDateTime asOf;
+    private final String provider;
+    private final Map<String, BigDecimal> rates;
+
+    public FxRateTable(String baseCurrency, LocalDateTime asOf, String provider, Map<String, BigDecimal> rates) {
+        this.baseCurrency = baseCurrency.toUpperCase();
+        this.asOf = asOf;
+        this.provider = provider;
+
+        Map<String, BigDecimal> copy = new HashMap<>();
+        rates.forEach((currency, rate) -> {
+            if (rate != null && rate.signum() > 0) {
+                copy.put(currency.toUpperCase(), rate);
+            }
+        });
+        copy.put(this.baseCurrency, BigDecimal.ONE);
+        this.rates = Collections.unmodifiableMap(copy);
+    }
+
+    public static FxRateTable empty(String baseCurrency) {
+        return new FxRateTable(baseCurrency, null, "none", Map.of());
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public Map<String, BigDecimal> getRates() {
+        return rates;
+    }
+
+    public boolean isEmpty() {
+        return rates.size() <= 1;
+    }
+
+    public boolean supports(String currencyCode) {
+        return rates.containsKey(currencyCode.toUpperCase());
+    }
+
+    /**
+     * Rate that converts one unit of {@code from} into {@code to}, if both are quoted.
+     */
+    public Optional<BigDecimal> rate(String from, String to) {
+        String source = from.toUpperCase();
+        String target = to.toUpperCase();
+        if (source.equals(target)) {
+            return Optional.of(BigDecimal.ONE);
+        }
+        BigDecimal sourceRate = rates.get(source);
+        BigDecimal targetRate = rates.get(target);
+        if (sourceRate == null || targetRate == null) {
+            return Optional.empty();
+        }
+        return Optional.of(targetRate.divide(sourceRate, RATE_CONTEXT));
+    }
+}
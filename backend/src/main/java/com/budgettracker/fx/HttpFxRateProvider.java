@@ -0,0 +1,58 @@
+package com.budgettracker.fx;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Fetches rates from exchangerate-api ({@code GET {base-url}{base}})
+ */
+@Slf4j
+@Component
+public class HttpFxRateProvider implements FxRateProvider {
+
+    private final RestClient restClient;
+    private final String apiKey;
+
+    public HttpFxRateProvider(@Value("${app.fx.base-url:https://api.exchangerate-api.com/v4/latest/}") String baseUrl,
+                              @Value("${app.fx.api-key:}") String apiKey,
+                              @Value("${app.fx.timeout-ms:5000}") int timeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.apiKey = apiKey;
+    }
+
+    @Override
+    public String name() {
+        return "exchangerate-api";
+    }
+
+    @Override
+    public FxRateTable fetchLatest(String baseCurrency) {
+        JsonNode body = restClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path(baseCurrency.toUpperCase());
+                    if (StringUtils.hasText(apiKey)) {
+                        uriBuilder.queryParam("apikey", apiKey);
+                    }
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                .body(JsonNode.class);
+
+        if (body == null) {
+            throw new IllegalStateException("Empty response from FX provider " + name());
+        }
+        return FxRatePayloadParser.parse(body, baseCurrency, name());
+    }
+}
@@ -0,0 +1,68 @@
+package com.budgettracker.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+
+/**
+ * Times public service methods ({@code app.service.invocations}) and records how many rows
+ * repository queries return ({@code app.repository.rows}).
+ *
+ * Tags are the simple class name and method name only, so cardinality is bounded by the code.
+ * Repository call latency is already published by Spring Boot as
+ * {@code spring.data.repository.invocations}.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class HotPathMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.budgettracker.service..*.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("app.service.invocations")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Only query methods declared on our repository interfaces match; inherited CRUD methods
+     * load by id and are not interesting here.
+     */
+    @AfterReturning(pointcut = "execution(* com.budgettracker.repository..*.*(..))", returning = "result")
+    public void countRows(JoinPoint.StaticPart joinPoint, Object result) {
+        int rows;
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            rows = slice.getNumberOfElements();
+        } else {
+            return;
+        }
+        DistributionSummary.builder("app.repository.rows")
+                .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .register(meterRegistry)
+                .record(rows);
+    }
+}
@@ -0,0 +1,79 @@
+package com.budgettracker.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a {@link Scope} is open.
+ *
+ * Registered as the session factory's {@link StatementInspector}, so every statement Hibernate
+ * issues (queries, lazy loads, flushes) passes through {@link #inspect}; plain JDBC through
+ * JdbcTemplate is not seen. Scopes nest: closing one adds its statements to the enclosing scope.
+ * Tests assert statement budgets through the same scopes (see StatementBudget under src/test).
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Start counting on this thread until the returned scope is closed.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Statements seen on one thread between {@link #open()} and {@link #close()}.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> statements = new HashMap<>();
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Execution count per distinct SQL string.
+         */
+        public Map<String, Integer> statements() {
+            return Collections.unmodifiableMap(statements);
+        }
+
+        private void record(String sql) {
+            count++;
+            statements.merge(sql, 1, Integer::sum);
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+                return;
+            }
+            CURRENT.set(parent);
+            parent.count += count;
+            statements.forEach((sql, times) -> parent.statements.merge(sql, times, Integer::sum));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.budgettracker.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the number of Hibernate statements each request issued as {@code app.request.statements},
+ * tagged with the HTTP method and the matched URI pattern.
+ *
+ * Requests over the statement budget, or repeating one SELECT at least
+ * {@code repeatedStatementThreshold} times (the usual N+1 shape), are logged and counted
+ * in {@code app.request.statements.violations}. A value of 0 disables either check.
+ * Bulk endpoints listed in {@code budgetExemptUris} are only checked for repeated SELECTs.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final int repeatedStatementThreshold;
+    private final Set<String> budgetExemptUris;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        String uri = uriOf(request);
+        DistributionSummary.builder("app.request.statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.count());
+
+        if (statementBudget > 0 && scope.count() > statementBudget && !budgetExemptUris.contains(uri)) {
+            log.warn("{} {} issued {} SQL statements, budget is {}",
+                    request.getMethod(), uri, scope.count(), statementBudget);
+            violation(request, uri, "budget");
+        }
+        if (repeatedStatementThreshold > 0) {
+            for (Map.Entry<String, Integer> statement : scope.statements().entrySet()) {
+                if (statement.getValue() >= repeatedStatementThreshold && isSelect(statement.getKey())) {
+                    log.warn("Possible N+1 in {} {}: statement executed {} times: {}",
+                            request.getMethod(), uri, statement.getValue(), abbreviate(statement.getKey()));
+                    violation(request, uri, "repeated");
+                }
+            }
+        }
+    }
+
+    private void violation(HttpServletRequest request, String uri, String type) {
+        meterRegistry.counter("app.request.statements.violations",
+                "method", request.getMethod(), "uri", uri, "type", type).increment();
+    }
+
+    /**
+     * The controller mapping pattern, so path variables do not multiply the series.
+     */
+    static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,48 @@
+package com.budgettracker.notification;
+
+import com.budgettracker.entity.enums.NotificationChannel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Sends email notifications over SMTP
+ */
+@Component
+@ConditionalOnProperty(name = "app.notification.sink", havingValue = "smtp", matchIfMissing = true)
+@RequiredArgsConstructor
+public class EmailNotificationSender implements NotificationSender {
+
+    private final JavaMailSender mailSender;
+
+    @Value("${app.notification.from-address:no-reply@budgettracker.com}")
+    private String fromAddress;
+
+    @Override
+    public Set<NotificationChannel> channels() {
+        return EnumSet.of(NotificationChannel.EMAIL);
+    }
+
+    @Override
+    public void send(NotificationMessage message) {
+        if (message.recipientEmail() == null) {
+            throw new IllegalStateException("User has no email address");
+        }
+
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(fromAddress);
+        mail.setTo(message.recipientEmail());
+        mail.setSubject(message.title());
+        mail.setText(message.actionUrl() != null
+                ? message.message() + "\n\n" + message.actionUrl()
+                : message.message());
+
+        mailSender.send(mail);
+    }
+}
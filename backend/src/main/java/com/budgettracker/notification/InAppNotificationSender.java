@@ -0,0 +1,25 @@
+package com.budgettracker.notification;
+
+import com.budgettracker.entity.enums.NotificationChannel;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * In-app notifications are read straight from the notifications table,
+ * so delivery only needs to mark them as sent.
+ */
+@Component
+public class InAppNotificationSender implements NotificationSender {
+
+    @Override
+    public Set<NotificationChannel> channels() {
+        return EnumSet.of(NotificationChannel.IN_APP);
+    }
+
+    @Override
+    public void send(NotificationMessage message) {
+        // Nothing to deliver
+    }
+}
@@ -0,0 +1,59 @@
+package com.budgettracker.notification;
+
+import com.budgettracker.entity.enums.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fake SMTP/push/SMS sink for local runs and tests.
+ *
+ * Records every delivered message in a bounded in-memory buffer instead of
+ * talking to an external provider.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notification.sink", havingValue = "local")
+public class LocalNotificationSink implements NotificationSender {
+
+    private final ConcurrentLinkedDeque<NotificationMessage> delivered = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Value("${app.notification.local-sink.capacity:1000}")
+    private int capacity;
+
+    @Override
+    public Set<NotificationChannel> channels() {
+        return EnumSet.of(NotificationChannel.EMAIL, NotificationChannel.PUSH, NotificationChannel.SMS);
+    }
+
+    @Override
+    public void send(NotificationMessage message) {
+        delivered.addLast(message);
+        if (size.incrementAndGet() > capacity && delivered.pollFirst() != null) {
+            size.decrementAndGet();
+        }
+        log.debug("Local sink received {} notification {} for user {}",
+                message.channel(), message.id(), message.userId());
+    }
+
+    /**
+     * Messages delivered so far, oldest first
+     */
+    public List<NotificationMessage> getDelivered() {
+        return new ArrayList<>(delivered);
+    }
+
+    public void clear() {
+        delivered.clear();
+        size.set(0);
+    }
+}
@@ -0,0 +1,36 @@
+package com.budgettracker.notification;
+
+import com.budgettracker.entity.Notification;
+import com.budgettracker.entity.enums.NotificationChannel;
+import com.budgettracker.entity.enums.NotificationType;
+
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a claimed notification, safe to hand to sender threads
+ * after the claiming transaction has committed.
+ */
+public record NotificationMessage(
+        UUID id,
+        UUID userId,
+        String recipientEmail,
+        NotificationChannel channel,
+        NotificationType type,
+        String title,
+        String message,
+        String actionUrl
+) {
+
+    public static NotificationMessage from(Notification notification) {
+        return new NotificationMessage(
+                notification.getId(),
+                notification.getUser().getId(),
+                notification.getUser().getEmail(),
+                notification.getChannel(),
+                notification.getType(),
+                notification.getTitle(),
+                notification.getMessage(),
+                notification.getActionUrl()
+        );
+    }
+}
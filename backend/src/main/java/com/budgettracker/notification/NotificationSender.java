@@ -0,0 +1,24 @@
+package com.budgettracker.notification;
+
+import com.budgettracker.entity.enums.NotificationChannel;
+
+import java.util.Set;
+
+/**
+ * Delivers notifications for one or more channels.
+ *
+ * Implementations are discovered as Spring beans by the dispatcher; a send that
+ * throws is recorded as a failed attempt and rescheduled with backoff.
+ */
+public interface NotificationSender {
+
+    /**
+     * Channels this sender delivers
+     */
+    Set<NotificationChannel> channels();
+
+    /**
+     * Deliver the message, blocking until the provider accepts it
+     */
+    void send(NotificationMessage message) throws Exception;
+}
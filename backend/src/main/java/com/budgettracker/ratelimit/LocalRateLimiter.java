@@ -0,0 +1,35 @@
+package com.budgettracker.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * Per-replica limiter. Buckets live in a size-bounded Caffeine map and are dropped once idle
+ * for longer than it takes them to refill, at which point a fresh bucket is equivalent.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final long intervalNanos;
+    private final int capacity;
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalRateLimiter(int requestsPerMinute, int capacity, long maxKeys, MeterRegistry meterRegistry) {
+        this.intervalNanos = Duration.ofMinutes(1).toNanos() / requestsPerMinute;
+        this.capacity = capacity;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(intervalNanos * capacity))
+                .build();
+        meterRegistry.gauge("rate.limit.buckets", buckets, Cache::estimatedSize);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int cost) {
+        long now = System.nanoTime();
+        return buckets.get(key, k -> new TokenBucket(intervalNanos, capacity, now))
+                .tryAcquire(Math.min(cost, capacity), now);
+    }
+}
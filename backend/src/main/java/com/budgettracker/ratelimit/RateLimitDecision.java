@@ -0,0 +1,16 @@
+package com.budgettracker.ratelimit;
+
+/**
+ * Outcome of one acquire: whether the request may proceed, how long to wait if not,
+ * and how many unit-cost requests the bucket still allows right now.
+ */
+public record RateLimitDecision(boolean allowed, long retryAfterMillis, long remaining) {
+
+    public static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, 0, remaining);
+    }
+
+    public static RateLimitDecision reject(long retryAfterMillis) {
+        return new RateLimitDecision(false, retryAfterMillis, 0);
+    }
+}
@@ -0,0 +1,12 @@
+package com.budgettracker.ratelimit;
+
+/**
+ * Token-bucket rate limiter keyed by caller.
+ */
+public interface RateLimiter {
+
+    /**
+     * Take {@code cost} tokens from the bucket of {@code key}; nothing is taken when rejected.
+     */
+    RateLimitDecision tryAcquire(String key, int cost);
+}
@@ -0,0 +1,73 @@
+package com.budgettracker.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cluster-wide limiter: the same algorithm as {@link TokenBucket}, run atomically in Redis with
+ * Redis' own clock so replicas share one bucket per caller. When Redis is unreachable requests
+ * fall back to the per-replica limiter rather than failing or going unlimited.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SCRIPT = new DefaultRedisScript<>("""
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local cost = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then tat = now end
+            local new_tat = tat + cost * interval
+            local allow_at = new_tat - tolerance
+            if allow_at > now then
+              return {0, allow_at - now}
+            end
+            redis.call('SET', KEYS[1], new_tat, 'PX', math.ceil((new_tat - now) / 1000) + 1)
+            return {1, math.floor((now + tolerance - new_tat) / interval)}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter fallback;
+    private final long intervalMicros;
+    private final int capacity;
+    private final Counter errors;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimiter fallback,
+                            int requestsPerMinute, int capacity, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.intervalMicros = Duration.ofMinutes(1).toNanos() / 1000 / requestsPerMinute;
+        this.capacity = capacity;
+        this.errors = meterRegistry.counter("rate.limit.store.errors", "store", "redis");
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int cost) {
+        int boundedCost = Math.min(cost, capacity);
+        try {
+            List<?> result = redisTemplate.execute(SCRIPT, List.of(KEY_PREFIX + key),
+                    Long.toString(intervalMicros), Long.toString(intervalMicros * capacity), Integer.toString(boundedCost));
+            long allowed = ((Number) result.get(0)).longValue();
+            long value = ((Number) result.get(1)).longValue();
+            return allowed == 1
+                    ? RateLimitDecision.allow(value)
+                    : RateLimitDecision.reject(value / 1000 + 1);
+        } catch (RuntimeException ex) {
+            errors.increment();
+            log.debug("Redis rate limiter unavailable, using local buckets: {}", ex.getMessage());
+            return fallback.tryAcquire(key, cost);
+        }
+    }
+}
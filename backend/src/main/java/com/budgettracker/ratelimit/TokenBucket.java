@@ -0,0 +1,39 @@
+package com.budgettracker.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket using the generic cell rate algorithm.
+ *
+ * Instead of a token count and a refill timestamp the bucket keeps a single value, the
+ * theoretical arrival time (TAT): the moment the bucket would be full again if no further
+ * requests came in. Taking n tokens pushes TAT forward by n emission intervals, and is allowed
+ * while TAT stays within {@code capacity} intervals of now. One CAS per request, no refill thread.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long intervalNanos, int capacity, long nowNanos) {
+        this.intervalNanos = intervalNanos;
+        this.toleranceNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    public RateLimitDecision tryAcquire(int cost, long nowNanos) {
+        long increment = intervalNanos * cost;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long newTat = Math.max(tat, nowNanos) + increment;
+            long allowAt = newTat - toleranceNanos;
+            if (allowAt > nowNanos) {
+                return RateLimitDecision.reject((allowAt - nowNanos) / 1_000_000 + 1);
+            }
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                return RateLimitDecision.allow((nowNanos + toleranceNanos - newTat) / intervalNanos);
+            }
+        }
+    }
+}
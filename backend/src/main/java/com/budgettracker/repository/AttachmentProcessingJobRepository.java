@@ -0,0 +1,39 @@
+package com.budgettracker.repository;
+
+import com.budgettracker.entity.AttachmentProcessingJob;
+import com.budgettracker.entity.enums.ProcessingStage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AttachmentProcessingJobRepository extends JpaRepository<AttachmentProcessingJob, UUID> {
+
+    /**
+     * Lock due jobs of one stage for claiming, including RUNNING jobs whose lease has expired.
+     * Rows locked by another worker are skipped rather than waited on.
+     */
+    @Query(value = "SELECT * FROM attachment_processing_jobs " +
+           "WHERE stage = :stage AND status IN ('PENDING', 'RUNNING') AND next_attempt_at <= :now " +
+           "ORDER BY next_attempt_at " +
+           "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<AttachmentProcessingJob> claimDue(@Param("stage") String stage,
+                                           @Param("now") LocalDateTime now,
+                                           @Param("limit") int limit);
+
+    /**
+     * Find the job for one attachment stage
+     */
+    Optional<AttachmentProcessingJob> findByAttachmentIdAndStage(UUID attachmentId, ProcessingStage stage);
+
+    /**
+     * Find all jobs for an attachment
+     */
+    List<AttachmentProcessingJob> findByAttachmentId(UUID attachmentId);
+}
@@ -17,6 +17,12 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
     Page<AuditLog> findByUserIdOrderByTimestampDesc(UUID userId, Pageable pageable);
     List<AuditLog> findByEntityTypeAndEntityId(String entityType, UUID entityId);
 
+    Page<AuditLog> findByUserIdAndTimestampBetweenOrderByTimestampDesc(
+        UUID userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    /**
+     * Bounded on timestamp, so only the monthly partitions in range are scanned
+     */
     @Query("SELECT a FROM AuditLog a WHERE a.timestamp BETWEEN :startDate AND :endDate " +
            "ORDER BY a.timestamp DESC")
     Page<AuditLog> findByDateRange(
@@ -84,9 +84,10 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
     );
 
     /**
-     * Count active budgets
+     * Count active budgets. COUNT(*) rather than COUNT(b), which counts b.id and so cannot be
+     * answered from idx_budget_user_active alone.
      */
-    @Query("SELECT COUNT(b) FROM Budget b WHERE b.user.id = :userId " +
+    @Query("SELECT COUNT(*) FROM Budget b WHERE b.user.id = :userId " +
            "AND b.status = 'ACTIVE' AND b.deleted = false")
     long countActiveBudgets(@Param("userId") UUID userId);
 
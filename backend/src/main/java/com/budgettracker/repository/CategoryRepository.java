@@ -27,6 +27,20 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
      */
     List<Category> findByIsSystemTrueAndDeletedFalse();
 
+    /**
+     * Find system categories with their parents, for the reference data cache
+     */
+    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.parentCategory " +
+           "WHERE c.isSystem = true AND c.deleted = false")
+    List<Category> findSystemCategories();
+
+    /**
+     * Find a user's own (non-system) categories with their parents
+     */
+    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.parentCategory " +
+           "WHERE c.user.id = :userId AND c.isSystem = false AND c.deleted = false")
+    List<Category> findUserCategories(@Param("userId") UUID userId);
+
     /**
      * Find categories by type
      */
@@ -53,9 +67,11 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
     List<Category> findByUserIdAndIsActiveTrueAndDeletedFalse(UUID userId);
 
     /**
-     * Get all categories for user (including system)
+     * Get all categories for user (including system).
+     * Parent categories are fetched eagerly so cached results can be mapped without a session.
      */
-    @Query("SELECT c FROM Category c WHERE (c.user.id = :userId OR c.isSystem = true) " +
+    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.parentCategory " +
+           "WHERE (c.user.id = :userId OR c.isSystem = true) " +
            "AND c.deleted = false ORDER BY c.displayOrder ASC, c.name ASC")
     List<Category> findAllCategoriesForUser(@Param("userId") UUID userId);
 
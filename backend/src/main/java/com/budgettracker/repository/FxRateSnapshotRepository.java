@@ -0,0 +1,41 @@
+package com.budgettracker.repository;
+
+import com.budgettracker.entity.FxRateSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface FxRateSnapshotRepository extends JpaRepository<FxRateSnapshot, UUID> {
+
+    /**
+     * Timestamp of the most recent snapshot
+     */
+    @Query("SELECT MAX(s.asOf) FROM FxRateSnapshot s")
+    Optional<LocalDateTime> findLatestAsOf();
+
+    /**
+     * All rates captured in one refresh
+     */
+    List<FxRateSnapshot> findByAsOf(LocalDateTime asOf);
+
+    /**
+     * Most recent stored rate for one currency pair, whichever refresh last quoted it
+     */
+    Optional<FxRateSnapshot> findFirstByBaseCurrencyAndQuoteCurrencyOrderByAsOfDesc(String baseCurrency,
+                                                                                   String quoteCurrency);
+
+    /**
+     * Drop snapshots older than the retention window
+     */
+    @Modifying
+    @Query("DELETE FROM FxRateSnapshot s WHERE s.asOf < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -5,16 +5,41 @@ import com.budgettracker.entity.enums.NotificationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+
+    /**
+     * Column list shared by the set-based reminder inserts
+     */
+    String FAN_OUT_INSERT = "INSERT INTO notifications (user_id, type, title, message, channel, scheduled_for, " +
+            "related_entity_type, related_entity_id, action_url, dedup_key) ";
+
+    /**
+     * One candidate row per delivery channel; filtered by user preferences and enabled channels
+     */
+    String FAN_OUT_CHANNELS = "JOIN users u ON u.id = src.user_id " +
+            "CROSS JOIN (VALUES ('IN_APP'), ('EMAIL'), ('PUSH')) AS ch(channel) ";
+
+    String FAN_OUT_RECIPIENTS = "AND u.deleted = false " +
+            "AND COALESCE(u.pref_notifications_enabled, TRUE) " +
+            "AND COALESCE(u.pref_bill_reminders, TRUE) " +
+            "AND (ch.channel = 'IN_APP' " +
+            "  OR (ch.channel = 'EMAIL' AND :emailEnabled AND COALESCE(u.pref_email_notifications, TRUE)) " +
+            "  OR (ch.channel = 'PUSH' AND :pushEnabled AND COALESCE(u.pref_push_notifications, FALSE))) ";
+
+    String FAN_OUT_DEDUP = "ON CONFLICT (dedup_key) WHERE dedup_key IS NOT NULL DO NOTHING";
+
     Page<Notification> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
     List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(UUID userId);
 
@@ -23,4 +48,101 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     List<Notification> findPendingNotifications(@Param("now") LocalDateTime now);
 
     long countByUserIdAndIsReadFalse(UUID userId);
+
+    /**
+     * Claim a batch of due notifications for dispatch.
+     * Rows locked by another dispatcher are skipped rather than waited on, and rows
+     * leased by one that is still sending are left alone until the lease expires.
+     */
+    @Query(value = "SELECT * FROM notifications WHERE status = 'PENDING' AND deleted = false " +
+           "AND (scheduled_for IS NULL OR scheduled_for <= :now) " +
+           "AND (leased_until IS NULL OR leased_until <= :now) " +
+           "ORDER BY scheduled_for NULLS FIRST " +
+           "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Notification> claimDueForDispatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Create upcoming bill reminders for all users' subscriptions in one statement
+     */
+    @Modifying
+    @Query(value = FAN_OUT_INSERT +
+           "SELECT src.user_id, 'SUBSCRIPTION_REMINDER', " +
+           "LEFT('Upcoming bill: ' || src.name, 200), " +
+           "LEFT(src.name || ' renews on ' || TO_CHAR(src.next_billing_date, 'YYYY-MM-DD') || " +
+           "' for ' || ROUND(src.amount, 2) || ' ' || src.currency_code, 1000), " +
+           "ch.channel, " +
+           "GREATEST((src.next_billing_date - COALESCE(src.reminder_days_before, 3)) + CAST(:sendTime AS time), " +
+           "CAST(:now AS timestamp)), " +
+           "'Subscription', src.id, '/subscriptions/' || src.id, " +
+           "'SUBSCRIPTION_REMINDER:' || src.id || ':' || src.next_billing_date || ':' || ch.channel " +
+           "FROM subscriptions src " + FAN_OUT_CHANNELS +
+           "WHERE src.status = 'ACTIVE' AND src.deleted = false AND src.reminder_enabled = true " +
+           "AND src.next_billing_date BETWEEN CAST(:today AS date) AND CAST(:horizon AS date) " +
+           "AND src.next_billing_date <= CAST(:today AS date) + COALESCE(src.reminder_days_before, 3) " +
+           FAN_OUT_RECIPIENTS + FAN_OUT_DEDUP, nativeQuery = true)
+    int insertSubscriptionReminders(
+        @Param("today") LocalDate today,
+        @Param("horizon") LocalDate horizon,
+        @Param("sendTime") LocalTime sendTime,
+        @Param("now") LocalDateTime now,
+        @Param("emailEnabled") boolean emailEnabled,
+        @Param("pushEnabled") boolean pushEnabled
+    );
+
+    /**
+     * Create trial-ending notices for all users' subscriptions in one statement
+     */
+    @Modifying
+    @Query(value = FAN_OUT_INSERT +
+           "SELECT src.user_id, 'TRIAL_ENDING', " +
+           "LEFT('Free trial ending: ' || src.name, 200), " +
+           "LEFT('Your free trial of ' || src.name || ' ends on ' || TO_CHAR(src.free_trial_end_date, 'YYYY-MM-DD') || " +
+           "'. You will be charged ' || ROUND(src.amount, 2) || ' ' || src.currency_code || ' unless you cancel.', 1000), " +
+           "ch.channel, " +
+           "GREATEST((src.free_trial_end_date - COALESCE(src.reminder_days_before, 3)) + CAST(:sendTime AS time), " +
+           "CAST(:now AS timestamp)), " +
+           "'Subscription', src.id, '/subscriptions/' || src.id, " +
+           "'TRIAL_ENDING:' || src.id || ':' || src.free_trial_end_date || ':' || ch.channel " +
+           "FROM subscriptions src " + FAN_OUT_CHANNELS +
+           "WHERE src.free_trial = true AND src.deleted = false AND src.status IN ('ACTIVE', 'TRIAL') " +
+           "AND src.free_trial_end_date BETWEEN CAST(:today AS date) AND CAST(:horizon AS date) " +
+           "AND src.free_trial_end_date <= CAST(:today AS date) + COALESCE(src.reminder_days_before, 3) " +
+           FAN_OUT_RECIPIENTS + FAN_OUT_DEDUP, nativeQuery = true)
+    int insertTrialEndingNotices(
+        @Param("today") LocalDate today,
+        @Param("horizon") LocalDate horizon,
+        @Param("sendTime") LocalTime sendTime,
+        @Param("now") LocalDateTime now,
+        @Param("emailEnabled") boolean emailEnabled,
+        @Param("pushEnabled") boolean pushEnabled
+    );
+
+    /**
+     * Create reminders for upcoming recurring transaction occurrences in one statement
+     */
+    @Modifying
+    @Query(value = FAN_OUT_INSERT +
+           "SELECT src.user_id, 'RECURRING_TRANSACTION', " +
+           "LEFT('Upcoming: ' || src.name, 200), " +
+           "LEFT(src.name || ' is scheduled for ' || TO_CHAR(src.next_occurrence_date, 'YYYY-MM-DD') || " +
+           "' (' || ROUND(src.amount, 2) || ' ' || src.currency_code || ')', 1000), " +
+           "ch.channel, " +
+           "GREATEST((src.next_occurrence_date - COALESCE(src.notification_days_before, 1)) + CAST(:sendTime AS time), " +
+           "CAST(:now AS timestamp)), " +
+           "'RecurringTransaction', src.id, '/recurring/' || src.id, " +
+           "'RECURRING_TRANSACTION:' || src.id || ':' || src.next_occurrence_date || ':' || ch.channel " +
+           "FROM recurring_transactions src " + FAN_OUT_CHANNELS +
+           "WHERE src.status = 'ACTIVE' AND src.deleted = false AND src.notification_enabled = true " +
+           "AND src.next_occurrence_date BETWEEN CAST(:today AS date) AND CAST(:horizon AS date) " +
+           "AND src.next_occurrence_date <= CAST(:today AS date) + COALESCE(src.notification_days_before, 1) " +
+           "AND (src.end_date IS NULL OR src.next_occurrence_date <= src.end_date) " +
+           FAN_OUT_RECIPIENTS + FAN_OUT_DEDUP, nativeQuery = true)
+    int insertRecurringReminders(
+        @Param("today") LocalDate today,
+        @Param("horizon") LocalDate horizon,
+        @Param("sendTime") LocalTime sendTime,
+        @Param("now") LocalDateTime now,
+        @Param("emailEnabled") boolean emailEnabled,
+        @Param("pushEnabled") boolean pushEnabled
+    );
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -80,6 +81,64 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, UUID
         @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * Claim the next keyset chunk of subscriptions due for billing across all users.
+     * Rows locked by another replica are skipped rather than waited on.
+     */
+    @Query(value = "SELECT * FROM subscriptions s WHERE s.status = 'ACTIVE' " +
+           "AND s.deleted = false " +
+           "AND s.next_billing_date <= :date " +
+           "AND (s.next_billing_date, s.id) > (:afterDate, :afterId) " +
+           "ORDER BY s.next_billing_date, s.id " +
+           "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Subscription> claimDueForBilling(
+        @Param("date") LocalDate date,
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterId") UUID afterId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Read the next keyset chunk of due subscriptions without locking them
+     */
+    @Query(value = "SELECT * FROM subscriptions s WHERE s.status = 'ACTIVE' " +
+           "AND s.deleted = false " +
+           "AND s.next_billing_date <= :date " +
+           "AND (s.next_billing_date, s.id) > (:afterDate, :afterId) " +
+           "ORDER BY s.next_billing_date, s.id " +
+           "LIMIT :limit", nativeQuery = true)
+    List<Subscription> findDueForBilling(
+        @Param("date") LocalDate date,
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterId") UUID afterId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Claim one subscription if it is still due; empty if another replica holds it
+     */
+    @Query(value = "SELECT * FROM subscriptions s WHERE s.id = :id AND s.status = 'ACTIVE' " +
+           "AND s.deleted = false " +
+           "AND s.next_billing_date <= :date " +
+           "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<Subscription> claimForBilling(@Param("id") UUID id, @Param("date") LocalDate date);
+
+    /**
+     * Count subscriptions due for billing across all users
+     */
+    @Query("SELECT COUNT(s) FROM Subscription s WHERE s.status = 'ACTIVE' " +
+           "AND s.nextBillingDate <= :date " +
+           "AND s.deleted = false")
+    long countDueForBilling(@Param("date") LocalDate date);
+
+    /**
+     * Find the oldest outstanding billing date across all users
+     */
+    @Query("SELECT MIN(s.nextBillingDate) FROM Subscription s WHERE s.status = 'ACTIVE' " +
+           "AND s.nextBillingDate <= :date " +
+           "AND s.deleted = false")
+    LocalDate findOldestDueBillingDate(@Param("date") LocalDate date);
+
     /**
      * Count active subscriptions
      */
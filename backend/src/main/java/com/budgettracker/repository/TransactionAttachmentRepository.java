@@ -0,0 +1,41 @@
+package com.budgettracker.repository;
+
+import com.budgettracker.entity.TransactionAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TransactionAttachmentRepository extends JpaRepository<TransactionAttachment, UUID> {
+
+    /**
+     * Find live attachment by ID
+     */
+    Optional<TransactionAttachment> findByIdAndDeletedFalse(UUID id);
+
+    /**
+     * Find live attachments of a transaction
+     */
+    List<TransactionAttachment> findByTransactionIdAndDeletedFalse(UUID transactionId);
+
+    /**
+     * Store OCR output; ocr_data is JSONB, so the JSON string is cast explicitly
+     */
+    @Modifying
+    @Query(value = "UPDATE transaction_attachments SET ocr_extracted = TRUE, ocr_text = :text, " +
+           "ocr_data = CAST(:data AS JSONB), updated_at = CURRENT_TIMESTAMP WHERE id = :id", nativeQuery = true)
+    int updateOcrResult(@Param("id") UUID id, @Param("text") String text, @Param("data") String data);
+
+    /**
+     * Point the attachment at its generated thumbnail
+     */
+    @Modifying
+    @Query("UPDATE TransactionAttachment a SET a.thumbnailUrl = :url, a.updatedAt = CURRENT_TIMESTAMP WHERE a.id = :id")
+    int updateThumbnailUrl(@Param("id") UUID id, @Param("url") String url);
+}
@@ -1,5 +1,6 @@
 package com.budgettracker.repository;
 
+import com.budgettracker.dto.response.TransactionRow;
 import com.budgettracker.entity.Transaction;
 import com.budgettracker.entity.enums.TransactionStatus;
 import com.budgettracker.entity.enums.TransactionType;
@@ -19,15 +20,13 @@ import java.util.UUID;
 
 /**
  * Repository interface for Transaction entity
+ *
+ * transactions is range-partitioned by quarter on transaction_date; queries that bound
+ * transactionDate only scan the partitions in range.
  */
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, UUID>, JpaSpecificationExecutor<Transaction> {
 
-    /**
-     * Find transactions by user ID with pagination
-     */
-    Page<Transaction> findByUserIdAndDeletedFalse(UUID userId, Pageable pageable);
-
     /**
      * Find transactions by wallet ID
      */
@@ -44,12 +43,21 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>,
     Page<Transaction> findByUserIdAndTypeAndDeletedFalse(UUID userId, TransactionType type, Pageable pageable);
 
     /**
-     * Find transactions by date range
+     * List rows for a user's transactions; wallet and category names come from the same query
      */
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
-           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
-           "AND t.deleted = false ORDER BY t.transactionDate DESC")
-    Page<Transaction> findByUserAndDateRange(
+    @Query(value = TransactionRow.SELECT + "WHERE t.user.id = :userId AND t.deleted = false",
+           countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId AND t.deleted = false")
+    Page<TransactionRow> findRowsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * List rows by date range
+     */
+    @Query(value = TransactionRow.SELECT + "WHERE t.user.id = :userId " +
+                   "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+                   "AND t.deleted = false ORDER BY t.transactionDate DESC",
+           countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId " +
+                        "AND t.transactionDate BETWEEN :startDate AND :endDate AND t.deleted = false")
+    Page<TransactionRow> findRowsByUserAndDateRange(
         @Param("userId") UUID userId,
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate,
@@ -150,14 +158,19 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>,
     Page<Transaction> findRecentTransactions(@Param("userId") UUID userId, Pageable pageable);
 
     /**
-     * Search transactions
+     * Search transactions, returning list rows
      */
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
-           "AND (LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(t.merchantName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(t.notes) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
-           "AND t.deleted = false")
-    Page<Transaction> searchTransactions(
+    @Query(value = TransactionRow.SELECT + "WHERE t.user.id = :userId " +
+                   "AND (LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+                   "OR LOWER(t.merchantName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+                   "OR LOWER(t.notes) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+                   "AND t.deleted = false",
+           countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId " +
+                        "AND (LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+                        "OR LOWER(t.merchantName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+                        "OR LOWER(t.notes) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+                        "AND t.deleted = false")
+    Page<TransactionRow> searchRows(
         @Param("userId") UUID userId,
         @Param("searchTerm") String searchTerm,
         Pageable pageable
@@ -255,9 +268,9 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>,
     );
 
     /**
-     * Find top N transactions by user
+     * Find top N transactions by user, with their categories fetched in the same query
      */
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
+    @Query("SELECT t FROM Transaction t LEFT JOIN FETCH t.category WHERE t.user.id = :userId " +
            "AND t.deleted = false ORDER BY t.transactionDate DESC, t.createdAt DESC LIMIT :limit")
     List<Transaction> findTopNByUserId(@Param("userId") UUID userId, @Param("limit") int limit);
 }
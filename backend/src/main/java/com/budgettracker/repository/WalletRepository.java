@@ -62,13 +62,6 @@ public interface WalletRepository extends JpaRepository<Wallet, UUID>, JpaSpecif
         String bankAccountId
     );
 
-    /**
-     * Calculate total balance for user
-     */
-    @Query("SELECT SUM(w.balance) FROM Wallet w WHERE w.user.id = :userId " +
-           "AND w.excludeFromTotals = false AND w.deleted = false")
-    BigDecimal calculateTotalBalance(@Param("userId") UUID userId);
-
     /**
      * Calculate total balance by currency
      */
@@ -79,6 +72,13 @@ public interface WalletRepository extends JpaRepository<Wallet, UUID>, JpaSpecif
         @Param("currencyCode") String currencyCode
     );
 
+    /**
+     * Sum balances per currency in one pass; rows are (currencyCode, sum)
+     */
+    @Query("SELECT w.currencyCode, SUM(w.balance) FROM Wallet w WHERE w.user.id = :userId " +
+           "AND w.excludeFromTotals = false AND w.deleted = false GROUP BY w.currencyCode")
+    List<Object[]> sumBalancesByCurrency(@Param("userId") UUID userId);
+
     /**
      * Count user wallets
      */
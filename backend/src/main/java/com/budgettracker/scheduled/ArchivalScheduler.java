@@ -0,0 +1,90 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.service.ArchivalService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ArchivalScheduler {
+
+    private final ArchivalService archivalService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.archive.soft-deleted-retention-days:90}")
+    private int softDeletedRetentionDays;
+
+    @Value("${app.archive.closed-period-years:0}")
+    private int closedPeriodYears;
+
+    @Value("${app.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.archive.max-chunks-per-run:500}")
+    private int maxChunksPerRun;
+
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}") // Run at 3 AM daily by default
+    public void archive() {
+        runArchival();
+    }
+
+    /**
+     * Archive every eligible table in bounded chunks.
+     *
+     * @return rows archived per table
+     */
+    public Map<String, Integer> runArchival() {
+        log.info("Starting archival run");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<String, Integer> archived = new LinkedHashMap<>();
+
+        try {
+            LocalDateTime deletedBefore = LocalDateTime.now().minusDays(softDeletedRetentionDays);
+            for (String table : archivalService.getArchivableTables()) {
+                archived.put(table, drain(table,
+                        () -> archivalService.archiveSoftDeletedChunk(table, deletedBefore, chunkSize)));
+            }
+
+            if (closedPeriodYears > 0) {
+                LocalDate closedBefore = LocalDate.now().minusYears(closedPeriodYears).withDayOfYear(1);
+                archived.merge("transactions", drain("transactions",
+                        () -> archivalService.archiveClosedPeriodChunk(closedBefore, chunkSize)), Integer::sum);
+            }
+
+            log.info("Completed archival run: {}", archived);
+        } catch (Exception e) {
+            meterRegistry.counter("archive.failures").increment();
+            log.error("Archival run failed", e);
+        } finally {
+            sample.stop(meterRegistry.timer("archive.run"));
+        }
+        return archived;
+    }
+
+    private int drain(String table, IntSupplier chunk) {
+        int total = 0;
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            int rows = chunk.getAsInt();
+            total += rows;
+            if (rows < chunkSize) {
+                break;
+            }
+        }
+        meterRegistry.counter("archive.rows", "table", table).increment(total);
+        return total;
+    }
+}
@@ -0,0 +1,218 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.attachment.NonRetryableProcessingException;
+import com.budgettracker.attachment.OcrResult;
+import com.budgettracker.attachment.ReceiptOcrProcessor;
+import com.budgettracker.attachment.ThumbnailGenerator;
+import com.budgettracker.entity.enums.ProcessingStage;
+import com.budgettracker.service.AttachmentProcessingService;
+import com.budgettracker.service.AttachmentProcessingService.ClaimedJob;
+import com.budgettracker.storage.StorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls for queued attachment processing jobs and runs each stage on its own bounded executor.
+ *
+ * Only as many jobs are claimed as there are idle worker threads, so queued work stays in the
+ * database (visible to other replicas) instead of piling up in memory. Nothing here ever runs
+ * on a request thread.
+ */
+@Slf4j
+@Component
+public class AttachmentProcessingWorker {
+
+    private final AttachmentProcessingService processingService;
+    private final ObjectProvider<ReceiptOcrProcessor> ocrProcessor;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ResourceLoader resourceLoader;
+    private final ObjectProvider<StorageService> storageService;
+    private final ThreadPoolExecutor ocrExecutor;
+    private final ThreadPoolExecutor thumbnailExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<ProcessingStage, AtomicInteger> inFlight = new EnumMap<>(ProcessingStage.class);
+
+    @Value("${app.ocr.enabled:true}")
+    private boolean ocrEnabled;
+
+    @Value("${app.thumbnails.enabled:true}")
+    private boolean thumbnailsEnabled;
+
+    @Value("${app.ocr.lease-seconds:600}")
+    private long leaseSeconds;
+
+    @Value("${app.ocr.max-file-size-bytes:20971520}")
+    private long maxFileSizeBytes;
+
+    public AttachmentProcessingWorker(AttachmentProcessingService processingService,
+                                      ObjectProvider<ReceiptOcrProcessor> ocrProcessor,
+                                      ThumbnailGenerator thumbnailGenerator,
+                                      ResourceLoader resourceLoader,
+                                      ObjectProvider<StorageService> storageService,
+                                      @Qualifier("attachmentProcessingExecutor") ThreadPoolExecutor ocrExecutor,
+                                      @Qualifier("attachmentThumbnailExecutor") ThreadPoolExecutor thumbnailExecutor,
+                                      MeterRegistry meterRegistry) {
+        this.processingService = processingService;
+        this.ocrProcessor = ocrProcessor;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.resourceLoader = resourceLoader;
+        this.storageService = storageService;
+        this.ocrExecutor = ocrExecutor;
+        this.thumbnailExecutor = thumbnailExecutor;
+        this.meterRegistry = meterRegistry;
+        for (ProcessingStage stage : ProcessingStage.values()) {
+            inFlight.put(stage, meterRegistry.gauge("attachment.processing.in.flight",
+                    Tags.of("stage", stage.name()), new AtomicInteger()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ocr.poll-interval-ms:2000}")
+    public void pollOcrJobs() {
+        if (ocrEnabled) {
+            poll(ProcessingStage.OCR, ocrExecutor, this::runOcr);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.thumbnails.poll-interval-ms:2000}")
+    public void pollThumbnailJobs() {
+        if (thumbnailsEnabled) {
+            poll(ProcessingStage.THUMBNAIL, thumbnailExecutor, this::runThumbnail);
+        }
+    }
+
+    private void poll(ProcessingStage stage, ThreadPoolExecutor executor, StageHandler handler) {
+        AtomicInteger running = inFlight.get(stage);
+        int idle = executor.getMaximumPoolSize() - running.get();
+        if (idle <= 0) {
+            return;
+        }
+
+        List<ClaimedJob> jobs;
+        try {
+            jobs = processingService.claimBatch(stage, idle, Duration.ofSeconds(leaseSeconds));
+        } catch (Exception e) {
+            log.error("Failed to claim {} jobs", stage, e);
+            return;
+        }
+
+        for (ClaimedJob job : jobs) {
+            meterRegistry.timer("attachment.processing.queue.wait", "stage", stage.name()).record(job.waited());
+            running.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        run(job, handler);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the lease expires and another worker picks the job up
+                running.decrementAndGet();
+                log.warn("{} job {} rejected by executor", stage, job.jobId());
+            }
+        }
+    }
+
+    private void run(ClaimedJob job, StageHandler handler) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.nanoTime();
+        String outcome = "succeeded";
+
+        try {
+            handler.process(job, started);
+        } catch (NonRetryableProcessingException e) {
+            outcome = "failed";
+            recordFailure(job, e.getMessage(), false);
+        } catch (Exception e) {
+            outcome = recordFailure(job, e.getMessage() != null ? e.getMessage() : e.toString(), true)
+                    ? "retried" : "failed";
+            log.warn("{} attempt {} failed for attachment {}: {}",
+                    job.stage(), job.attempt(), job.attachmentId(), e.toString());
+        } finally {
+            sample.stop(meterRegistry.timer("attachment.processing.duration",
+                    "stage", job.stage().name(), "outcome", outcome));
+            meterRegistry.counter("attachment.processing.jobs", "stage", job.stage().name(), "outcome", outcome)
+                    .increment();
+        }
+    }
+
+    private void runOcr(ClaimedJob job, long started) throws IOException {
+        OcrResult result = ocrProcessor.getObject().process(loadContent(job), job.fileName());
+        processingService.completeOcr(job, result, elapsedMillis(started));
+        log.debug("OCR completed for attachment {} via {}", job.attachmentId(), result.engine());
+    }
+
+    private void runThumbnail(ClaimedJob job, long started) throws IOException {
+        StorageService storage = storageService.getIfAvailable();
+        if (storage == null) {
+            throw new NonRetryableProcessingException("Attachment storage is not configured");
+        }
+
+        // Thumbnail keys follow the content hash, so a re-uploaded receipt reuses the existing preview
+        String key = thumbnailGenerator.keyFor(job.attachmentId(), job.contentHash());
+        if (!storage.exists(key)) {
+            byte[] thumbnail = thumbnailGenerator.generate(loadContent(job), job.fileName());
+            storage.storeAt(key, new ByteArrayInputStream(thumbnail));
+            meterRegistry.counter("attachment.thumbnail.bytes").increment(thumbnail.length);
+        }
+        processingService.completeThumbnail(job, elapsedMillis(started));
+    }
+
+    private boolean recordFailure(ClaimedJob job, String error, boolean retryable) {
+        try {
+            return processingService.fail(job.jobId(), error, retryable);
+        } catch (Exception e) {
+            // Job stays leased and is retried once the lease expires
+            log.error("Failed to record {} failure for job {}", job.stage(), job.jobId(), e);
+            return true;
+        }
+    }
+
+    private byte[] loadContent(ClaimedJob job) throws IOException {
+        // Uploaded attachments live in storage; older rows may only have an external URL
+        StorageService storage = storageService.getIfAvailable();
+        Resource resource = job.storageKey() != null && storage != null
+                ? storage.load(job.storageKey())
+                : resourceLoader.getResource(job.fileUrl());
+        if (!resource.exists()) {
+            throw new NonRetryableProcessingException("Attachment content not found for " + job.attachmentId());
+        }
+        try (InputStream in = resource.getInputStream()) {
+            byte[] content = in.readNBytes((int) Math.min(maxFileSizeBytes + 1, Integer.MAX_VALUE - 8));
+            if (content.length > maxFileSizeBytes) {
+                throw new NonRetryableProcessingException("Attachment exceeds processing size limit of " + maxFileSizeBytes + " bytes");
+            }
+            return content;
+        }
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return Duration.ofNanos(System.nanoTime() - startedNanos).toMillis();
+    }
+
+    @FunctionalInterface
+    private interface StageHandler {
+        void process(ClaimedJob job, long startedNanos) throws Exception;
+    }
+}
@@ -0,0 +1,75 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.service.AuditPartitionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditPartitionScheduler {
+
+    private final AuditPartitionService partitionService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.audit.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${app.audit.partitions.precreate-months:3}")
+    private int precreateMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    /**
+     * Creation and retention run independently, so a partition that cannot be created does not
+     * also stop expired partitions from being dropped.
+     */
+    @Scheduled(cron = "${app.audit.partitions.cron:0 15 1 * * *}") // Run at 1:15 AM daily by default
+    public void maintainPartitions() {
+        LocalDate today = LocalDate.now();
+        int created = 0;
+        int dropped = 0;
+
+        try {
+            created = partitionService.createFuturePartitions(today, precreateMonths).size();
+            meterRegistry.counter("audit.partitions.created").increment(created);
+        } catch (Exception e) {
+            meterRegistry.counter("audit.partitions.failures", "step", "create").increment();
+            log.error("Creating audit log partitions failed", e);
+        }
+
+        try {
+            dropped = partitionService.dropExpiredPartitions(today, retentionDays).size();
+            meterRegistry.counter("audit.partitions.dropped").increment(dropped);
+        } catch (Exception e) {
+            meterRegistry.counter("audit.partitions.failures", "step", "drop").increment();
+            log.error("Dropping expired audit log partitions failed", e);
+        }
+
+        try {
+            long defaultRows = partitionService.countDefaultPartitionRows();
+            if (defaultRows > 0) {
+                log.warn("{} audit log rows are in the default partition; pre-create horizon may be too short",
+                        defaultRows);
+            }
+        } catch (Exception e) {
+            log.warn("Could not count audit log rows in the default partition: {}", e.getMessage());
+        }
+
+        log.info("Audit partition maintenance complete: {} created, {} dropped", created, dropped);
+    }
+}
@@ -0,0 +1,62 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.fx.FxRateTable;
+import com.budgettracker.service.FxRateService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FxRateRefreshScheduler {
+
+    private final FxRateService fxRateService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.fx.cache-ttl:3600}")
+    private long cacheTtlSeconds;
+
+    @Value("${app.fx.snapshot-retention-days:90}")
+    private int snapshotRetentionDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            fxRateService.loadLatestSnapshot();
+        } catch (Exception e) {
+            log.warn("Could not load FX rate snapshot", e);
+        }
+
+        LocalDateTime asOf = fxRateService.getCurrentTable().getAsOf();
+        if (asOf == null || asOf.isBefore(LocalDateTime.now().minusSeconds(cacheTtlSeconds))) {
+            refreshRates();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.fx.cache-ttl:3600}",
+               initialDelayString = "${app.fx.cache-ttl:3600}",
+               timeUnit = TimeUnit.SECONDS) // Refresh once per cache TTL
+    public void refreshRates() {
+        try {
+            FxRateTable table = meterRegistry.timer("fx.rates.refresh").recordCallable(fxRateService::refresh);
+            int purged = fxRateService.purgeSnapshotsOlderThan(LocalDateTime.now().minusDays(snapshotRetentionDays));
+            if (purged > 0) {
+                log.info("Purged {} FX rate snapshots older than {} days", purged, snapshotRetentionDays);
+            }
+            log.debug("FX rates as of {} from {}", table.getAsOf(), table.getProvider());
+        } catch (Exception e) {
+            // Keep serving the previous table; conversions only fail if no table was ever loaded
+            meterRegistry.counter("fx.rates.refresh.failures").increment();
+            log.error("FX rate refresh failed, keeping rates as of {}", fxRateService.getCurrentTable().getAsOf(), e);
+        }
+    }
+}
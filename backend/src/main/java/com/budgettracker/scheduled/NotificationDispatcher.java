@@ -0,0 +1,162 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.entity.enums.NotificationChannel;
+import com.budgettracker.notification.NotificationMessage;
+import com.budgettracker.notification.NotificationSender;
+import com.budgettracker.service.NotificationDispatchService;
+import com.budgettracker.service.NotificationDispatchService.DispatchOutcome;
+import com.budgettracker.service.NotificationDispatchService.DispatchSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Polls for due notifications and delivers them through the channel senders.
+ *
+ * Batches are claimed with SKIP LOCKED, so any number of replicas can poll
+ * concurrently without double sends. Sends run in parallel on the dispatch
+ * executor and outcomes are written back in one transaction per batch. A send
+ * that times out or is interrupted may still have been delivered, so it is
+ * recorded as unknown rather than retried.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationDispatchService dispatchService;
+    private final AsyncTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<NotificationChannel, NotificationSender> senders = new EnumMap<>(NotificationChannel.class);
+
+    @Value("${app.notification.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notification.dispatcher.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.notification.dispatcher.max-batches-per-poll:50}")
+    private int maxBatchesPerPoll;
+
+    @Value("${app.notification.dispatcher.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.notification.dispatcher.send-timeout-seconds:60}")
+    private long sendTimeoutSeconds;
+
+    public NotificationDispatcher(NotificationDispatchService dispatchService,
+                                  List<NotificationSender> senderBeans,
+                                  @Qualifier("notificationDispatchExecutor") AsyncTaskExecutor executor,
+                                  MeterRegistry meterRegistry) {
+        this.dispatchService = dispatchService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        for (NotificationSender sender : senderBeans) {
+            sender.channels().forEach(channel -> senders.put(channel, sender));
+        }
+        log.info("Notification senders registered for channels: {}", senders.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.dispatcher.poll-interval-ms:5000}")
+    public void dispatchPendingNotifications() {
+        if (!enabled) {
+            return;
+        }
+
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<NotificationMessage> batch;
+            try {
+                batch = dispatchService.claimBatch(batchSize, Duration.ofSeconds(leaseSeconds));
+            } catch (Exception e) {
+                log.error("Failed to claim notification batch", e);
+                return;
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<DispatchOutcome> outcomes = sendAll(batch);
+
+            try {
+                DispatchSummary summary = dispatchService.recordOutcomes(outcomes);
+                meterRegistry.counter("notification.dispatch.sent").increment(summary.sent());
+                meterRegistry.counter("notification.dispatch.retried").increment(summary.retried());
+                meterRegistry.counter("notification.dispatch.failed").increment(summary.failed());
+                meterRegistry.counter("notification.dispatch.unknown").increment(summary.unknown());
+                log.debug("Dispatched notification batch: {} sent, {} retried, {} failed, {} unknown",
+                        summary.sent(), summary.retried(), summary.failed(), summary.unknown());
+            } catch (Exception e) {
+                // Rows stay leased and become claimable again once the lease expires
+                log.error("Failed to record outcomes for {} notifications", outcomes.size(), e);
+                return;
+            }
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private List<DispatchOutcome> sendAll(List<NotificationMessage> batch) {
+        List<Future<DispatchOutcome>> futures = new ArrayList<>(batch.size());
+        for (NotificationMessage message : batch) {
+            futures.add(executor.submit(() -> send(message)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sendTimeoutSeconds);
+        List<DispatchOutcome> outcomes = new ArrayList<>(batch.size());
+        for (int i = 0; i < futures.size(); i++) {
+            Future<DispatchOutcome> future = futures.get(i);
+            NotificationMessage message = batch.get(i);
+            try {
+                outcomes.add(future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                outcomes.add(DispatchOutcome.unknown(message.id(), "Send timed out"));
+            } catch (ExecutionException e) {
+                outcomes.add(DispatchOutcome.failed(message.id(), String.valueOf(e.getCause())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                outcomes.add(DispatchOutcome.unknown(message.id(), "Dispatcher interrupted"));
+            }
+        }
+        return outcomes;
+    }
+
+    private DispatchOutcome send(NotificationMessage message) {
+        NotificationSender sender = senders.get(message.channel());
+        if (sender == null) {
+            return DispatchOutcome.failed(message.id(), "No sender configured for channel " + message.channel());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            sender.send(message);
+            return DispatchOutcome.sent(message.id());
+        } catch (Exception e) {
+            outcome = "error";
+            log.warn("Failed to send {} notification {}: {}", message.channel(), message.id(), e.getMessage());
+            return DispatchOutcome.failed(message.id(), e.getMessage() != null ? e.getMessage() : e.toString());
+        } finally {
+            sample.stop(meterRegistry.timer("notification.dispatch.latency",
+                    "channel", message.channel().name(), "outcome", outcome));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.service.NotificationFanOutService;
+import com.budgettracker.service.NotificationFanOutService.FanOutResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationFanOutScheduler {
+
+    private final NotificationFanOutService fanOutService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.notification.fan-out.enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(cron = "${app.notification.fan-out.cron:0 0 6 * * *}") // Run at 6 AM daily by default
+    public void generateReminders() {
+        if (!enabled) {
+            return;
+        }
+
+        log.info("Starting notification fan-out");
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            FanOutResult result = fanOutService.generateReminders(LocalDate.now());
+
+            meterRegistry.counter("notification.fanout.created", "type", "SUBSCRIPTION_REMINDER")
+                    .increment(result.subscriptionReminders());
+            meterRegistry.counter("notification.fanout.created", "type", "TRIAL_ENDING")
+                    .increment(result.trialEndingNotices());
+            meterRegistry.counter("notification.fanout.created", "type", "RECURRING_TRANSACTION")
+                    .increment(result.recurringReminders());
+
+            log.info("Completed notification fan-out: {} created ({} subscription reminders, {} trial notices, {} recurring reminders)",
+                    result.total(),
+                    result.subscriptionReminders(), result.trialEndingNotices(), result.recurringReminders());
+        } catch (Exception e) {
+            meterRegistry.counter("notification.fanout.failures").increment();
+            log.error("Notification fan-out failed", e);
+        } finally {
+            sample.stop(meterRegistry.timer("notification.fanout.run"));
+        }
+    }
+}
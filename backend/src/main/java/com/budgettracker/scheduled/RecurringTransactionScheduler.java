@@ -39,6 +39,7 @@ public class RecurringTransactionScheduler {
                         .type(recurring.getType())
                         .amount(recurring.getAmount())
                         .currencyCode(recurring.getCurrencyCode())
+                        .exchangeRate(null) // no rate of its own; resolved from the FX rates on create
                         .transactionDate(recurring.getNextOccurrenceDate())
                         .description(recurring.getName())
                         .notes("Auto-created from recurring template")
@@ -0,0 +1,125 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.service.SubscriptionBillingService;
+import com.budgettracker.service.SubscriptionBillingService.BillingChunkResult;
+import com.budgettracker.service.SubscriptionBillingService.BillingCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global subscription billing sweep.
+ *
+ * Walks all due subscriptions in keyset chunks; safe to run on every replica
+ * because each chunk is claimed with SKIP LOCKED. A chunk that fails is
+ * retried one subscription at a time and the sweep moves past it.
+ */
+@Slf4j
+@Component
+public class SubscriptionBillingScheduler {
+
+    private final SubscriptionBillingService billingService;
+    private final Counter subscriptionsBilled;
+    private final Counter transactionsCreated;
+    private final Counter chunkFailures;
+    private final Counter subscriptionFailures;
+    private final Timer runTimer;
+    private final AtomicLong lagDays = new AtomicLong();
+    private final AtomicLong backlog = new AtomicLong();
+
+    @Value("${app.billing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.billing.chunk-size:500}")
+    private int chunkSize;
+
+    public SubscriptionBillingScheduler(SubscriptionBillingService billingService, MeterRegistry meterRegistry) {
+        this.billingService = billingService;
+        this.subscriptionsBilled = Counter.builder("subscription.billing.subscriptions")
+                .description("Subscriptions billed by the billing sweep")
+                .register(meterRegistry);
+        this.transactionsCreated = Counter.builder("subscription.billing.transactions")
+                .description("Transactions created by the billing sweep")
+                .register(meterRegistry);
+        this.chunkFailures = Counter.builder("subscription.billing.failures")
+                .description("Billing chunks rolled back due to errors")
+                .register(meterRegistry);
+        this.subscriptionFailures = Counter.builder("subscription.billing.subscription.failures")
+                .description("Subscriptions left unbilled after their own transaction failed")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("subscription.billing.run")
+                .description("Duration of a full billing sweep")
+                .register(meterRegistry);
+        Gauge.builder("subscription.billing.lag.days", lagDays, AtomicLong::get)
+                .description("Age in days of the oldest unbilled due subscription")
+                .register(meterRegistry);
+        Gauge.builder("subscription.billing.backlog", backlog, AtomicLong::get)
+                .description("Subscriptions due for billing after the last sweep")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.billing.cron:0 30 2 * * *}") // Run at 2:30 AM daily by default
+    public void processSubscriptionBilling() {
+        if (!enabled) {
+            return;
+        }
+
+        log.info("Starting subscription billing sweep");
+        LocalDate today = LocalDate.now();
+        Timer.Sample sample = Timer.start();
+
+        BillingCursor cursor = BillingCursor.START;
+        long billed = 0;
+        long created = 0;
+
+        while (true) {
+            BillingChunkResult result;
+            try {
+                result = billingService.billNextChunk(today, cursor, chunkSize);
+            } catch (Exception e) {
+                chunkFailures.increment();
+                log.warn("Subscription billing chunk after {} failed, billing it one subscription at a time", cursor, e);
+                try {
+                    result = billingService.billNextChunkIndividually(today, cursor, chunkSize);
+                } catch (Exception retryFailure) {
+                    // Not a bad row but e.g. the database going away; lag metrics surface the stall
+                    log.error("Subscription billing after {} failed, stopping sweep", cursor, retryFailure);
+                    break;
+                }
+            }
+
+            if (result.isEmpty()) {
+                break;
+            }
+
+            billed += result.subscriptionsBilled();
+            created += result.transactionsCreated();
+            subscriptionsBilled.increment(result.subscriptionsBilled());
+            transactionsCreated.increment(result.transactionsCreated());
+            subscriptionFailures.increment(result.subscriptionsFailed());
+            cursor = result.nextCursor();
+        }
+
+        long elapsedNanos = sample.stop(runTimer);
+        updateLagMetrics(today);
+
+        double seconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+        log.info("Completed subscription billing sweep: {} subscriptions, {} transactions in {}s ({}/s), backlog {}",
+                billed, created, String.format("%.2f", seconds), Math.round(billed / seconds), backlog.get());
+    }
+
+    private void updateLagMetrics(LocalDate today) {
+        backlog.set(billingService.countDueForBilling(today));
+        LocalDate oldest = billingService.findOldestDueBillingDate(today);
+        lagDays.set(oldest != null ? ChronoUnit.DAYS.between(oldest, today) : 0);
+    }
+}
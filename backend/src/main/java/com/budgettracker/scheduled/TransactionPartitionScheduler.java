@@ -0,0 +1,87 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.service.TransactionPartitionService;
+import com.budgettracker.service.TransactionPartitionService.BackfillStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.partitioning.transactions.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionPartitionScheduler {
+
+    private final TransactionPartitionService partitionService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.partitioning.transactions.precreate-quarters:4}")
+    private int precreateQuarters;
+
+    @Value("${app.partitioning.transactions.backfill.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.partitioning.transactions.backfill.chunks-per-run:20}")
+    private int chunksPerRun;
+
+    @Value("${app.partitioning.transactions.auto-cutover:false}")
+    private boolean autoCutover;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.partitioning.transactions.cron:0 30 1 * * *}") // Run at 1:30 AM daily by default
+    public void maintainPartitions() {
+        try {
+            List<String> created = partitionService.createFuturePartitions(LocalDate.now(), precreateQuarters);
+            meterRegistry.counter("transaction.partitions.created").increment(created.size());
+
+            long defaultRows = partitionService.countDefaultPartitionRows();
+            if (defaultRows > 0) {
+                log.warn("{} transactions are in the default partition; pre-create horizon may be too short", defaultRows);
+            }
+        } catch (Exception e) {
+            meterRegistry.counter("transaction.partitions.failures").increment();
+            log.error("Transaction partition maintenance failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.partitioning.transactions.backfill.interval-ms:1000}")
+    public void backfill() {
+        try {
+            BackfillStatus status = partitionService.getStatus();
+            if (status.cutOver()) {
+                return;
+            }
+
+            if (!status.completed()) {
+                for (int i = 0; i < chunksPerRun; i++) {
+                    int rows = partitionService.backfillChunk(chunkSize);
+                    meterRegistry.counter("transaction.partitions.backfill.rows").increment(rows);
+                    if (rows == 0) {
+                        break;
+                    }
+                }
+                return;
+            }
+
+            if (autoCutover) {
+                partitionService.cutover();
+            }
+        } catch (Exception e) {
+            meterRegistry.counter("transaction.partitions.failures").increment();
+            log.error("Transaction partition backfill failed", e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.budgettracker.security;
+
+import com.budgettracker.dto.ApiResponse;
+import com.budgettracker.ratelimit.RateLimitDecision;
+import com.budgettracker.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-caller rate limiting. Runs after {@link JwtAuthenticationFilter}, so authenticated
+ * requests are limited per user and anonymous ones (login, registration) per client address.
+ * Expensive endpoints take more than one token per request.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final int requestsPerMinute;
+    private final Map<String, Integer> endpointCosts;
+    private final Counter allowed;
+    private final Counter limited;
+
+    /**
+     * @param endpointCosts Ant path pattern to token cost; the first matching pattern wins
+     */
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           int requestsPerMinute,
+                           Map<String, Integer> endpointCosts) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.requestsPerMinute = requestsPerMinute;
+        this.endpointCosts = new LinkedHashMap<>(endpointCosts);
+        this.allowed = meterRegistry.counter("rate.limit.requests", "result", "allowed");
+        this.limited = meterRegistry.counter("rate.limit.requests", "result", "limited");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = pathOf(request);
+        return "OPTIONS".equals(request.getMethod())
+                || path.startsWith("/actuator/")
+                || path.startsWith("/swagger-ui")
+                || path.startsWith("/api-docs");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitDecision decision = rateLimiter.tryAcquire(callerKey(request), costOf(request));
+        response.setHeader("X-RateLimit-Limit", Integer.toString(requestsPerMinute));
+        response.setHeader("X-RateLimit-Remaining", Long.toString(decision.remaining()));
+
+        if (!decision.allowed()) {
+            limited.increment();
+            long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+            ApiResponse.ErrorDetails error = ApiResponse.ErrorDetails.builder()
+                    .code("RATE_LIMITED")
+                    .message("Too many requests, retry after " + retryAfterSeconds + "s")
+                    .build();
+
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(error));
+            return;
+        }
+
+        allowed.increment();
+        filterChain.doFilter(request, response);
+    }
+
+    private String callerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return "user:" + principal.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private int costOf(HttpServletRequest request) {
+        String path = pathOf(request);
+        for (Map.Entry<String, Integer> cost : endpointCosts.entrySet()) {
+            if (PATH_MATCHER.match(cost.getKey(), path)) {
+                return cost.getValue();
+            }
+        }
+        return 1;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
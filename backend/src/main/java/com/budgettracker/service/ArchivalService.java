@@ -0,0 +1,164 @@
+package com.budgettracker.service;
+
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Moves soft-deleted and aged rows from the hot tables into their *_archive counterparts.
+ *
+ * Each chunk claims rows with FOR UPDATE SKIP LOCKED, moves dependent rows first and then
+ * the rows themselves using DELETE ... RETURNING feeding an INSERT, so a row is always in
+ * exactly one place. Archived rows can be moved back with {@link #restore}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchivalService {
+
+    /**
+     * Tables eligible for archival. Only tables whose rows are not referenced by foreign keys
+     * (other than the listed children) are included, so a move never cascades into live data.
+     * Transactions with split children are skipped until the children themselves are archived.
+     */
+    private static final List<ArchiveTable> TABLES = List.of(
+            new ArchiveTable("transactions",
+                    "deleted = TRUE AND deleted_at < ? " +
+                    "AND NOT EXISTS (SELECT 1 FROM transactions c WHERE c.parent_transaction_id = t.id)",
+                    "deleted_at",
+                    List.of(new ChildTable("transaction_tags", "transaction_id"),
+                            new ChildTable("transaction_attachments", "transaction_id"),
+                            new ChildTable("transaction_splits", "parent_transaction_id"))),
+            new ArchiveTable("notifications", "deleted = TRUE AND deleted_at < ?", "deleted_at", List.of()),
+            new ArchiveTable("budgets", "deleted = TRUE AND deleted_at < ?", "deleted_at", List.of()),
+            new ArchiveTable("savings_goals", "deleted = TRUE AND deleted_at < ?", "deleted_at", List.of()),
+            new ArchiveTable("category_rules", "deleted = TRUE AND deleted_at < ?", "deleted_at", List.of())
+    );
+
+    private static final Map<String, ArchiveTable> TABLES_BY_NAME = TABLES.stream()
+            .collect(Collectors.toMap(ArchiveTable::name, Function.identity()));
+
+    /**
+     * Live transactions dated before a closed period; only used when closed-period archival is enabled.
+     */
+    private static final ArchiveTable CLOSED_PERIOD_TRANSACTIONS = new ArchiveTable("transactions",
+            "deleted = FALSE AND transaction_date < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM transactions c WHERE c.parent_transaction_id = t.id)",
+            "transaction_date",
+            TABLES_BY_NAME.get("transactions").children());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, String> columnLists = new ConcurrentHashMap<>();
+
+    public List<String> getArchivableTables() {
+        return TABLES.stream().map(ArchiveTable::name).toList();
+    }
+
+    /**
+     * Archive up to {@code chunkSize} soft-deleted rows of one table deleted before {@code deletedBefore}.
+     *
+     * @return number of rows archived from the table itself (children not included)
+     */
+    @Transactional
+    public int archiveSoftDeletedChunk(String table, LocalDateTime deletedBefore, int chunkSize) {
+        return archiveChunk(resolve(table), Timestamp.valueOf(deletedBefore), chunkSize);
+    }
+
+    /**
+     * Archive up to {@code chunkSize} live transactions dated before {@code closedBefore}.
+     */
+    @Transactional
+    public int archiveClosedPeriodChunk(LocalDate closedBefore, int chunkSize) {
+        return archiveChunk(CLOSED_PERIOD_TRANSACTIONS, Date.valueOf(closedBefore), chunkSize);
+    }
+
+    /**
+     * Move an archived row, and any archived children, back into the hot table.
+     *
+     * @param undelete also clear the soft-delete flag on the restored row
+     */
+    @Transactional
+    public void restore(String table, UUID id, boolean undelete) {
+        ArchiveTable archiveTable = resolve(table);
+
+        int restored = move(archiveTable.name() + "_archive", archiveTable.name(), "id", id);
+        if (restored == 0) {
+            throw new ResourceNotFoundException("Archived " + archiveTable.name(), "id", id);
+        }
+        for (ChildTable child : archiveTable.children()) {
+            move(child.name() + "_archive", child.name(), child.foreignKey(), id);
+        }
+
+        if (undelete) {
+            jdbcTemplate.update("UPDATE " + archiveTable.name() + " SET deleted = FALSE, deleted_at = NULL WHERE id = ?", id);
+        }
+        log.info("Restored {} {} from archive", archiveTable.name(), id);
+    }
+
+    private int archiveChunk(ArchiveTable table, Object cutoff, int chunkSize) {
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT t.id FROM " + table.name() + " t WHERE " + table.predicate() +
+                " ORDER BY t." + table.orderBy() + " LIMIT ? FOR UPDATE SKIP LOCKED",
+                UUID.class, cutoff, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        UUID[] idArray = ids.toArray(new UUID[0]);
+        for (ChildTable child : table.children()) {
+            moveAll(child.name(), child.name() + "_archive", child.foreignKey(), idArray);
+        }
+        return moveAll(table.name(), table.name() + "_archive", "id", idArray);
+    }
+
+    private int moveAll(String from, String to, String keyColumn, UUID[] keys) {
+        String columns = columnsOf(from.endsWith("_archive") ? to : from);
+        return jdbcTemplate.update(
+                "WITH moved AS (DELETE FROM " + from + " WHERE " + keyColumn + " = ANY(?) RETURNING " + columns + ") " +
+                "INSERT INTO " + to + " (" + columns + ") SELECT " + columns + " FROM moved",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", keys)));
+    }
+
+    private int move(String from, String to, String keyColumn, UUID key) {
+        return moveAll(from, to, keyColumn, new UUID[] {key});
+    }
+
+    /**
+     * Column list of a hot table, shared with its archive table (which only adds archived_at).
+     */
+    private String columnsOf(String hotTable) {
+        return columnLists.computeIfAbsent(hotTable, name -> String.join(", ", jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = ? ORDER BY ordinal_position",
+                String.class, name)));
+    }
+
+    private ArchiveTable resolve(String table) {
+        ArchiveTable archiveTable = TABLES_BY_NAME.get(table);
+        if (archiveTable == null) {
+            throw new BusinessException("Table is not archivable: " + table, "ARCHIVE_TABLE_UNSUPPORTED");
+        }
+        return archiveTable;
+    }
+
+    private record ArchiveTable(String name, String predicate, String orderBy, List<ChildTable> children) {
+    }
+
+    private record ChildTable(String name, String foreignKey) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.budgettracker.service;
+
+import com.budgettracker.attachment.OcrResult;
+import com.budgettracker.entity.AttachmentProcessingJob;
+import com.budgettracker.entity.TransactionAttachment;
+import com.budgettracker.entity.enums.ProcessingJobStatus;
+import com.budgettracker.entity.enums.ProcessingStage;
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.exception.ResourceNotFoundException;
+import com.budgettracker.repository.AttachmentProcessingJobRepository;
+import com.budgettracker.repository.TransactionAttachmentRepository;
+import com.budgettracker.util.RetryBackoff;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Transactional side of the attachment processing pipeline.
+ *
+ * Jobs are claimed with SKIP LOCKED and leased by pushing next_attempt_at forward, so
+ * processing runs outside any transaction and a crashed worker's jobs are picked up again
+ * once the lease expires.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentProcessingService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final AttachmentProcessingJobRepository jobRepository;
+    private final TransactionAttachmentRepository attachmentRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.ocr.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.ocr.retry-base-delay-seconds:30}")
+    private long retryBaseDelaySeconds;
+
+    @Value("${app.ocr.retry-max-delay-seconds:1800}")
+    private long retryMaxDelaySeconds;
+
+    /**
+     * Queue a stage for an attachment. Re-enqueueing a finished job resets it; a running job is left alone.
+     */
+    @Transactional
+    public AttachmentProcessingJob enqueue(UUID attachmentId, ProcessingStage stage) {
+        TransactionAttachment attachment = attachmentRepository.findByIdAndDeletedFalse(attachmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
+
+        LocalDateTime now = LocalDateTime.now();
+        AttachmentProcessingJob job = jobRepository.findByAttachmentIdAndStage(attachmentId, stage)
+                .orElseGet(() -> AttachmentProcessingJob.builder()
+                        .attachment(attachment)
+                        .stage(stage)
+                        .maxAttempts(maxAttempts)
+                        .nextAttemptAt(now)
+                        .build());
+
+        if (job.getStatus() == ProcessingJobStatus.RUNNING && job.getNextAttemptAt().isAfter(now)) {
+            throw new BusinessException("Attachment is already being processed", "ATTACHMENT_PROCESSING_IN_PROGRESS");
+        }
+        if (job.getId() != null) {
+            job.requeue(now);
+        }
+
+        job = jobRepository.save(job);
+        log.debug("Queued {} for attachment {}", stage, attachmentId);
+        return job;
+    }
+
+    @Transactional
+    public List<ClaimedJob> claimBatch(ProcessingStage stage, int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<AttachmentProcessingJob> due = jobRepository.claimDue(stage.name(), now, limit);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime leaseUntil = now.plus(lease);
+        List<ClaimedJob> claimed = new ArrayList<>(due.size());
+        for (AttachmentProcessingJob job : due) {
+            Duration waited = Duration.between(job.getNextAttemptAt(), now);
+            job.claim(now, leaseUntil);
+
+            TransactionAttachment attachment = job.getAttachment();
+            claimed.add(new ClaimedJob(job.getId(), attachment.getId(), job.getStage(), job.getAttempts(),
+                    attachment.getFileUrl(), attachment.getStorageKey(), attachment.getOriginalFileName(),
+                    attachment.getContentHash(), waited));
+        }
+        return claimed;
+    }
+
+    /**
+     * Store OCR output on the attachment and complete the job in one transaction
+     */
+    @Transactional
+    public void completeOcr(ClaimedJob claimed, OcrResult result, long durationMs) {
+        attachmentRepository.updateOcrResult(claimed.attachmentId(), result.text(), toJson(result));
+        complete(claimed.jobId(), durationMs);
+    }
+
+    /**
+     * Point the attachment at its thumbnail and complete the job in one transaction
+     */
+    @Transactional
+    public void completeThumbnail(ClaimedJob claimed, long durationMs) {
+        attachmentRepository.updateThumbnailUrl(claimed.attachmentId(),
+                "/api/attachments/" + claimed.attachmentId() + "/thumbnail");
+        complete(claimed.jobId(), durationMs);
+    }
+
+    @Transactional
+    public void complete(UUID jobId, long durationMs) {
+        jobRepository.findById(jobId).ifPresent(job -> job.succeed(LocalDateTime.now(), durationMs));
+    }
+
+    /**
+     * @return true if the job was rescheduled, false if it has failed permanently
+     */
+    @Transactional
+    public boolean fail(UUID jobId, String error, boolean retryable) {
+        AttachmentProcessingJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Duration delay = RetryBackoff.delay(job.getAttempts(), retryBaseDelaySeconds, retryMaxDelaySeconds);
+        boolean retried = job.fail(truncate(error), retryable, now.plus(delay), now);
+        if (!retried) {
+            log.warn("{} failed permanently for attachment {} after {} attempts: {}",
+                    job.getStage(), job.getAttachment().getId(), job.getAttempts(), error);
+        }
+        return retried;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentProcessingJob> getJobs(UUID attachmentId) {
+        return jobRepository.findByAttachmentId(attachmentId);
+    }
+
+    private String toJson(OcrResult result) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("contentType", result.contentType());
+        data.put("engine", result.engine());
+        data.put("merchant", result.receiptData().merchant());
+        data.put("date", result.receiptData().date() != null ? result.receiptData().date().toString() : null);
+        data.put("totalAmount", result.receiptData().totalAmount());
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialise OCR data", e);
+        }
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return "Unknown error";
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    /**
+     * Detached view of a claimed job, safe to hand to worker threads
+     *
+     * @param waited time between the job becoming due and being claimed
+     */
+    public record ClaimedJob(UUID jobId, UUID attachmentId, ProcessingStage stage, int attempt,
+                             String fileUrl, String storageKey, String fileName, String contentHash,
+                             Duration waited) {
+    }
+}
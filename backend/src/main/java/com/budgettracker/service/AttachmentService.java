@@ -0,0 +1,184 @@
+package com.budgettracker.service;
+
+import com.budgettracker.attachment.ThumbnailGenerator;
+import com.budgettracker.entity.Transaction;
+import com.budgettracker.entity.TransactionAttachment;
+import com.budgettracker.entity.enums.ProcessingStage;
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.exception.ResourceNotFoundException;
+import com.budgettracker.repository.TransactionAttachmentRepository;
+import com.budgettracker.storage.StorageService;
+import com.budgettracker.storage.StoredObject;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.Tika;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentService {
+
+    private static final Tika TIKA = new Tika();
+
+    private final TransactionAttachmentRepository attachmentRepository;
+    private final TransactionService transactionService;
+    private final AttachmentProcessingService processingService;
+    private final ObjectProvider<StorageService> storageService;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.storage.max-upload-bytes:10485760}")
+    private long maxUploadBytes;
+
+    @Value("${app.ocr.enabled:true}")
+    private boolean ocrEnabled;
+
+    @Value("${app.thumbnails.enabled:true}")
+    private boolean thumbnailsEnabled;
+
+    /**
+     * Stream an upload into storage and attach it to a transaction. Receipts are queued for OCR.
+     *
+     * No transaction is open while the body streams, so a slow client does not hold a pooled
+     * connection. Ownership is checked through JDBC first because a JPA read would pin the
+     * request's connection under open-session-in-view; the row and its jobs are written in one
+     * short transaction afterwards.
+     */
+    public TransactionAttachment upload(UUID userId, UUID transactionId, InputStream content,
+                                        String originalFileName, String contentType, boolean receipt) {
+        requireOwner(userId, transactionId);
+
+        StoredObject stored;
+        try {
+            stored = storage().store(content, maxUploadBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store attachment", e);
+        }
+        meterRegistry.counter("attachment.uploads", "deduplicated", String.valueOf(stored.deduplicated())).increment();
+        meterRegistry.counter("attachment.upload.bytes").increment(stored.size());
+
+        String fileName = StringUtils.hasText(originalFileName)
+                ? StringUtils.getFilename(StringUtils.cleanPath(originalFileName))
+                : stored.sha256();
+
+        TransactionAttachment attachment = TransactionAttachment.builder()
+                .fileName(fileName)
+                .originalFileName(originalFileName)
+                .fileType(resolveContentType(contentType, fileName))
+                .fileSize(stored.size())
+                .fileUrl(stored.key())
+                .storageKey(stored.key())
+                .contentHash(stored.sha256())
+                .isReceipt(receipt)
+                .build();
+        TransactionAttachment saved = transactionTemplate.execute(status -> attach(transactionId, attachment, receipt));
+
+        log.info("Attachment {} stored for transaction {} ({} bytes, deduplicated: {})",
+                saved.getId(), transactionId, stored.size(), stored.deduplicated());
+        return saved;
+    }
+
+    private void requireOwner(UUID userId, UUID transactionId) {
+        List<UUID> owners = jdbcTemplate.queryForList(
+                "SELECT user_id FROM transactions WHERE id = ? AND deleted = false", UUID.class, transactionId);
+        if (owners.isEmpty()) {
+            throw new ResourceNotFoundException("Transaction", "id", transactionId);
+        }
+        if (!userId.equals(owners.get(0))) {
+            throw new BusinessException("Transaction does not belong to user", "UNAUTHORIZED");
+        }
+    }
+
+    private TransactionAttachment attach(UUID transactionId, TransactionAttachment attachment, boolean receipt) {
+        Transaction transaction = transactionService.getTransactionById(transactionId);
+        transaction.addAttachment(attachment);
+        TransactionAttachment saved = attachmentRepository.save(attachment);
+        // Served through the API so access stays behind authentication
+        saved.setFileUrl("/api/attachments/" + saved.getId() + "/content");
+
+        if (receipt && ocrEnabled) {
+            processingService.enqueue(saved.getId(), ProcessingStage.OCR);
+        }
+        if (thumbnailsEnabled && isPreviewable(saved.getFileType())) {
+            processingService.enqueue(saved.getId(), ProcessingStage.THUMBNAIL);
+        }
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TransactionAttachment> getTransactionAttachments(UUID userId, UUID transactionId) {
+        Transaction transaction = transactionService.getTransactionById(transactionId);
+        if (!transaction.getUser().getId().equals(userId)) {
+            throw new BusinessException("Transaction does not belong to user", "UNAUTHORIZED");
+        }
+        return attachmentRepository.findByTransactionIdAndDeletedFalse(transactionId);
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionAttachment getAttachment(UUID userId, UUID attachmentId) {
+        TransactionAttachment attachment = attachmentRepository.findByIdAndDeletedFalse(attachmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
+        if (!attachment.getTransaction().getUser().getId().equals(userId)) {
+            throw new BusinessException("Attachment does not belong to user", "UNAUTHORIZED");
+        }
+        return attachment;
+    }
+
+    /**
+     * Stored content of an attachment
+     */
+    public Resource loadContent(TransactionAttachment attachment) {
+        if (attachment.getStorageKey() == null || !storage().exists(attachment.getStorageKey())) {
+            throw new ResourceNotFoundException("Attachment content", "id", attachment.getId());
+        }
+        return storage().load(attachment.getStorageKey());
+    }
+
+    /**
+     * Generated thumbnail of an attachment, once the thumbnail stage has run
+     */
+    public Resource loadThumbnail(TransactionAttachment attachment) {
+        String key = thumbnailGenerator.keyFor(attachment.getId(), attachment.getContentHash());
+        if (attachment.getThumbnailUrl() == null || !storage().exists(key)) {
+            throw new ResourceNotFoundException("Attachment thumbnail", "id", attachment.getId());
+        }
+        return storage().load(key);
+    }
+
+    public StorageService storage() {
+        StorageService service = storageService.getIfAvailable();
+        if (service == null) {
+            throw new BusinessException("Attachment storage is not configured", "STORAGE_UNAVAILABLE");
+        }
+        return service;
+    }
+
+    private boolean isPreviewable(String contentType) {
+        return contentType != null
+                && (contentType.startsWith("image/") || contentType.startsWith("application/pdf"));
+    }
+
+    private String resolveContentType(String declared, String fileName) {
+        if (StringUtils.hasText(declared) && !declared.startsWith("application/octet-stream")) {
+            return declared.length() > 100 ? declared.substring(0, 100) : declared;
+        }
+        return TIKA.detect(fileName);
+    }
+}
@@ -0,0 +1,145 @@
+package com.budgettracker.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintains the monthly range partitions of audit_logs.
+ *
+ * Future partitions are created ahead of time so inserts never land in the
+ * default partition, and partitions entirely older than the retention window
+ * are dropped instead of deleting rows. Each partition change commits in its
+ * own short transaction, so one failure does not undo the others.
+ *
+ * If rows for a month already sit in the default partition (the horizon was too short, or
+ * maintenance was down), PostgreSQL refuses to create that month's partition. The rows are then
+ * moved into a new table that is attached in their place.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditPartitionService {
+
+    static final String PARENT_TABLE = "audit_logs";
+    private static final String DEFAULT_PARTITION = PARENT_TABLE + "_default";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Create any missing partitions from the current month through {@code monthsAhead} months ahead.
+     *
+     * @return names of the partitions created
+     */
+    public List<String> createFuturePartitions(LocalDate today, int monthsAhead) {
+        List<String> existing = listPartitions();
+        List<String> created = new ArrayList<>();
+        YearMonth month = YearMonth.from(today);
+
+        for (int i = 0; i <= monthsAhead; i++, month = month.plusMonths(1)) {
+            String name = partitionName(month);
+            if (existing.contains(name)) {
+                continue;
+            }
+            LocalDate from = month.atDay(1);
+            LocalDate to = month.plusMonths(1).atDay(1);
+            transactionTemplate.executeWithoutResult(status -> createPartition(name, from, to));
+            created.add(name);
+            log.info("Created audit log partition {}", name);
+        }
+        return created;
+    }
+
+    private void createPartition(String name, LocalDate from, LocalDate to) {
+        // Blocks inserts routed to the default partition until the move commits; reads continue
+        jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN EXCLUSIVE MODE");
+        Boolean stranded = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE timestamp >= ? AND timestamp < ?)",
+                Boolean.class, from, to);
+
+        if (!Boolean.TRUE.equals(stranded)) {
+            jdbcTemplate.execute(String.format("CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    name, PARENT_TABLE, from, to));
+            return;
+        }
+
+        jdbcTemplate.execute(String.format("CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS)",
+                name, PARENT_TABLE));
+        int moved = jdbcTemplate.update("INSERT INTO " + name + " SELECT * FROM " + DEFAULT_PARTITION +
+                " WHERE timestamp >= ? AND timestamp < ?", from, to);
+        jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE timestamp >= ? AND timestamp < ?", from, to);
+        // Attaching builds the parent's indexes on the new table
+        jdbcTemplate.execute(String.format("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                PARENT_TABLE, name, from, to));
+        log.warn("Moved {} audit log rows out of the default partition into {}", moved, name);
+    }
+
+    /**
+     * Drop partitions whose whole month lies before {@code today - retentionDays}.
+     *
+     * @return names of the partitions dropped
+     */
+    public List<String> dropExpiredPartitions(LocalDate today, int retentionDays) {
+        LocalDate cutoff = today.minusDays(retentionDays);
+        List<String> dropped = new ArrayList<>();
+
+        for (String name : listPartitions()) {
+            YearMonth month = parseMonth(name);
+            if (month == null || month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                continue;
+            }
+            // Dropping a partition detaches it in the same statement. DETACH CONCURRENTLY is
+            // not an option while audit_logs has a default partition, so this briefly takes
+            // an ACCESS EXCLUSIVE lock on the parent, which is why it runs in its own transaction
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.execute(String.format("DROP TABLE %s", name)));
+            dropped.add(name);
+            log.info("Dropped expired audit log partition {}", name);
+        }
+        return dropped;
+    }
+
+    /**
+     * Number of rows that fell into the default partition, which should stay at zero.
+     */
+    public long countDefaultPartitionRows() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + DEFAULT_PARTITION, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ? ORDER BY c.relname",
+                String.class, PARENT_TABLE);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    static YearMonth parseMonth(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
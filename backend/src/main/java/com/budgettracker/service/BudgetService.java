@@ -22,6 +22,7 @@ public class BudgetService {
 
     private final BudgetRepository budgetRepository;
     private final UserService userService;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Transactional
     public Budget createBudget(UUID userId, Budget budget) {
@@ -31,6 +32,7 @@ public class BudgetService {
         budget.setStatus(BudgetStatus.ACTIVE);
 
         budget = budgetRepository.save(budget);
+        cacheInvalidationService.evictDashboard(userId);
         log.info("Budget created: {} for user: {}", budget.getId(), userId);
         return budget;
     }
@@ -77,7 +79,9 @@ public class BudgetService {
         if (updates.getAlertEnabled() != null) budget.setAlertEnabled(updates.getAlertEnabled());
         if (updates.getRolloverEnabled() != null) budget.setRolloverEnabled(updates.getRolloverEnabled());
 
-        return budgetRepository.save(budget);
+        budget = budgetRepository.save(budget);
+        cacheInvalidationService.evictDashboard(budget.getUser().getId());
+        return budget;
     }
 
     @Transactional
@@ -93,6 +97,7 @@ public class BudgetService {
         }
 
         budgetRepository.save(budget);
+        cacheInvalidationService.evictDashboard(budget.getUser().getId());
     }
 
     @Transactional
@@ -100,6 +105,7 @@ public class BudgetService {
         Budget budget = getBudgetById(budgetId);
         budget.setStatus(BudgetStatus.PAUSED);
         budgetRepository.save(budget);
+        cacheInvalidationService.evictDashboard(budget.getUser().getId());
         log.info("Budget paused: {}", budgetId);
     }
 
@@ -108,6 +114,7 @@ public class BudgetService {
         Budget budget = getBudgetById(budgetId);
         budget.setStatus(BudgetStatus.ACTIVE);
         budgetRepository.save(budget);
+        cacheInvalidationService.evictDashboard(budget.getUser().getId());
         log.info("Budget resumed: {}", budgetId);
     }
 
@@ -116,6 +123,7 @@ public class BudgetService {
         Budget budget = getBudgetById(budgetId);
         budget.softDelete();
         budgetRepository.save(budget);
+        cacheInvalidationService.evictDashboard(budget.getUser().getId());
         log.info("Budget deleted: {}", budgetId);
     }
 
@@ -124,6 +132,7 @@ public class BudgetService {
         Budget budget = getBudgetById(budgetId);
         budget.resetForNewPeriod(newStartDate, newEndDate);
         budgetRepository.save(budget);
+        cacheInvalidationService.evictDashboard(budget.getUser().getId());
         log.info("Budget reset for new period: {}", budgetId);
     }
 }
@@ -0,0 +1,110 @@
+package com.budgettracker.service;
+
+import com.budgettracker.cache.TwoLevelCache;
+import com.budgettracker.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evicts a single user's cached reports and categories after a write commits.
+ *
+ * Report keys start with the user id ("userId:..."), so eviction removes only that user's
+ * entries, whatever date range they cover. Running after commit stops a concurrent read
+ * from re-caching data the transaction is about to replace.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationService {
+
+    private static final Set<String> REPORT_CACHES = Set.of(
+            CacheConfig.REPORTS_DASHBOARD, CacheConfig.REPORTS_CATEGORY_BREAKDOWN, CacheConfig.REPORTS_TRENDS);
+
+    private final CacheManager cacheManager;
+
+    public void evictReports(UUID userId) {
+        afterCommit(() -> REPORT_CACHES.forEach(cacheName -> evictUserEntries(cacheName, userId)));
+    }
+
+    public void evictReports(Collection<UUID> userIds) {
+        afterCommit(() -> REPORT_CACHES.forEach(cacheName -> userIds.forEach(userId -> evictUserEntries(cacheName, userId))));
+    }
+
+    public void evictDashboard(UUID userId) {
+        afterCommit(() -> evictUserEntries(CacheConfig.REPORTS_DASHBOARD, userId));
+    }
+
+    /**
+     * Net worth keys also carry the FX table timestamp, so a rate refresh moves readers to new
+     * keys on its own; this handles balance, wallet and display-currency changes.
+     */
+    public void evictNetWorth(UUID userId) {
+        afterCommit(() -> evictUserEntries(CacheConfig.NET_WORTH, userId));
+    }
+
+    public void evictNetWorth(Collection<UUID> userIds) {
+        afterCommit(() -> userIds.forEach(userId -> evictUserEntries(CacheConfig.NET_WORTH, userId)));
+    }
+
+    /**
+     * Category lists are shared with report breakdowns (category names), so both are evicted.
+     */
+    public void evictCategories(UUID userId) {
+        afterCommit(() -> {
+            Cache cache = cacheManager.getCache(CacheConfig.CATEGORIES);
+            if (cache != null) {
+                cache.evict(userId.toString());
+            }
+            REPORT_CACHES.forEach(cacheName -> evictUserEntries(cacheName, userId));
+        });
+    }
+
+    private void evictUserEntries(String cacheName, UUID userId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        String prefix = userId + ":";
+
+        try {
+            if (cache instanceof TwoLevelCache twoLevelCache) {
+                twoLevelCache.evictByPrefix(prefix);
+            } else if (cache instanceof RedisCache redisCache) {
+                String keyPrefix = redisCache.getCacheConfiguration().getKeyPrefixFor(cacheName);
+                redisCache.getNativeCache().clean(cacheName, (keyPrefix + prefix + "*").getBytes(StandardCharsets.UTF_8));
+            } else if (cache.getNativeCache() instanceof Map<?, ?> entries) {
+                entries.keySet().removeIf(key -> key.toString().startsWith(prefix));
+            } else {
+                cache.clear();
+            }
+        } catch (RuntimeException e) {
+            // Entries still expire by TTL
+            log.warn("Failed to evict {} entries for user {}: {}", cacheName, userId, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.budgettracker.service;
 
+import com.budgettracker.config.CacheConfig;
 import com.budgettracker.entity.Category;
 import com.budgettracker.entity.User;
 import com.budgettracker.entity.enums.CategoryType;
@@ -8,9 +9,12 @@ import com.budgettracker.exception.ResourceNotFoundException;
 import com.budgettracker.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +25,8 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final UserService userService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ReferenceDataService referenceDataService;
 
     @Transactional
     public Category createCategory(UUID userId, Category category) {
@@ -34,6 +40,7 @@ public class CategoryService {
         category.setUser(user);
         category.setIsSystem(false);
         category = categoryRepository.save(category);
+        cacheInvalidationService.evictCategories(userId);
 
         log.info("Category created: {} for user: {}", category.getId(), userId);
         return category;
@@ -45,9 +52,15 @@ public class CategoryService {
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
     }
 
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "#userId.toString()")
     @Transactional(readOnly = true)
     public List<Category> getAllCategoriesForUser(UUID userId) {
-        return categoryRepository.findAllCategoriesForUser(userId);
+        // System categories come from the reference data cache; only the user's own rows hit the database
+        List<Category> categories = new ArrayList<>(referenceDataService.getSystemCategories());
+        categories.addAll(categoryRepository.findUserCategories(userId));
+        categories.sort(Comparator.comparing(Category::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Category::getName, Comparator.nullsLast(Comparator.naturalOrder())));
+        return categories;
     }
 
     @Transactional(readOnly = true)
@@ -80,7 +93,9 @@ public class CategoryService {
         if (updates.getDisplayOrder() != null) category.setDisplayOrder(updates.getDisplayOrder());
         if (updates.getIsActive() != null) category.setIsActive(updates.getIsActive());
 
-        return categoryRepository.save(category);
+        category = categoryRepository.save(category);
+        cacheInvalidationService.evictCategories(category.getUser().getId());
+        return category;
     }
 
     @Transactional
@@ -93,6 +108,7 @@ public class CategoryService {
 
         category.softDelete();
         categoryRepository.save(category);
+        cacheInvalidationService.evictCategories(category.getUser().getId());
         log.info("Category deleted: {}", categoryId);
     }
 }
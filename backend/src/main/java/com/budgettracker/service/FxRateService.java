@@ -0,0 +1,250 @@
+package com.budgettracker.service;
+
+import com.budgettracker.entity.FxRateSnapshot;
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.fx.CurrencyAmount;
+import com.budgettracker.fx.FxRateProvider;
+import com.budgettracker.fx.FxRateTable;
+import com.budgettracker.repository.FxRateSnapshotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Currency conversion against an in-memory rate table.
+ *
+ * The current {@link FxRateTable} is held in a volatile reference and replaced wholesale on
+ * refresh (copy-on-write), so conversions never block on or observe a partially updated table.
+ * Each refresh is persisted to fx_rate_snapshots, which seeds the table on startup and keeps
+ * conversions working while the provider is unreachable.
+ */
+@Slf4j
+@Service
+public class FxRateService {
+
+    private final FxRateSnapshotRepository snapshotRepository;
+    private final Map<String, FxRateProvider> providers;
+    private final MeterRegistry meterRegistry;
+    private final String baseCurrency;
+    private final String providerName;
+
+    private volatile FxRateTable current;
+
+    public FxRateService(FxRateSnapshotRepository snapshotRepository,
+                         List<FxRateProvider> providers,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.fx.base-currency:USD}") String baseCurrency,
+                         @Value("${app.fx.provider:exchangerate-api}") String providerName) {
+        this.snapshotRepository = snapshotRepository;
+        this.providers = providers.stream().collect(Collectors.toMap(FxRateProvider::name, Function.identity()));
+        this.meterRegistry = meterRegistry;
+        this.baseCurrency = baseCurrency.toUpperCase();
+        this.providerName = providerName;
+        this.current = FxRateTable.empty(this.baseCurrency);
+
+        meterRegistry.gauge("fx.rates.currencies", this, service -> service.current.getRates().size());
+        meterRegistry.gauge("fx.rates.age.seconds", this, FxRateService::ageSeconds);
+    }
+
+    public FxRateTable getCurrentTable() {
+        return current;
+    }
+
+    /**
+     * Rate converting one unit of {@code from} into {@code to}
+     */
+    public BigDecimal getRate(String from, String to) {
+        return current.rate(from, to).orElseThrow(() -> unavailable(from, to));
+    }
+
+    public Optional<BigDecimal> findRate(String from, String to) {
+        return current.rate(from, to);
+    }
+
+    /**
+     * Rate for recording a new amount: the current table, else the most recent stored snapshot
+     * quoting both currencies, else {@code suppliedRate} from the caller. Each fallback is logged
+     * and counted in fx.rates.fallback by source.
+     *
+     * @throws BusinessException FX_RATE_UNAVAILABLE if none of them has a rate
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal resolveRate(String from, String to, BigDecimal suppliedRate) {
+        Optional<BigDecimal> rate = current.rate(from, to);
+        if (rate.isPresent()) {
+            return rate.get();
+        }
+
+        Optional<BigDecimal> stored = storedRate(from).flatMap(source -> storedRate(to)
+                .map(target -> target.divide(source, FxRateTable.RATE_CONTEXT)));
+        if (stored.isPresent()) {
+            return fallback(from, to, "snapshot", stored.get());
+        }
+        if (suppliedRate != null && suppliedRate.signum() > 0) {
+            return fallback(from, to, "supplied", suppliedRate);
+        }
+        throw unavailable(from, to);
+    }
+
+    public BigDecimal convert(BigDecimal amount, String from, String to) {
+        return amount.multiply(getRate(from, to)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Convert many amounts into {@code targetCurrency}, looking up each distinct source currency once.
+     * Results are in input order and rounded to two decimals.
+     */
+    public List<BigDecimal> convertAll(List<CurrencyAmount> amounts, String targetCurrency) {
+        FxRateTable table = current;
+        Map<String, BigDecimal> factors = factorsFor(table, amounts, targetCurrency);
+
+        List<BigDecimal> converted = new ArrayList<>(amounts.size());
+        for (CurrencyAmount amount : amounts) {
+            converted.add(amount.amount()
+                    .multiply(factors.get(amount.currencyCode().toUpperCase()))
+                    .setScale(2, RoundingMode.HALF_UP));
+        }
+        return converted;
+    }
+
+    /**
+     * Convert and total many amounts into {@code targetCurrency}. Amounts are summed per currency
+     * first, so each currency is multiplied and rounded once rather than once per amount.
+     */
+    public BigDecimal convertAndSum(Collection<CurrencyAmount> amounts, String targetCurrency) {
+        Map<String, BigDecimal> totals = new HashMap<>();
+        for (CurrencyAmount amount : amounts) {
+            totals.merge(amount.currencyCode().toUpperCase(), amount.amount(), BigDecimal::add);
+        }
+        return convertAndSum(totals, targetCurrency);
+    }
+
+    /**
+     * Convert per-currency totals (currency code to amount) into one {@code targetCurrency} total
+     */
+    public BigDecimal convertAndSum(Map<String, BigDecimal> totalsByCurrency, String targetCurrency) {
+        FxRateTable table = current;
+        BigDecimal sum = BigDecimal.ZERO;
+        for (Map.Entry<String, BigDecimal> entry : totalsByCurrency.entrySet()) {
+            BigDecimal rate = table.rate(entry.getKey(), targetCurrency)
+                    .orElseThrow(() -> unavailable(entry.getKey(), targetCurrency));
+            sum = sum.add(entry.getValue().multiply(rate));
+        }
+        return sum.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Seed the table from the most recent persisted snapshot
+     *
+     * @return true if a snapshot was found
+     */
+    @Transactional(readOnly = true)
+    public boolean loadLatestSnapshot() {
+        Optional<LocalDateTime> latest = snapshotRepository.findLatestAsOf();
+        if (latest.isEmpty()) {
+            return false;
+        }
+
+        List<FxRateSnapshot> snapshots = snapshotRepository.findByAsOf(latest.get());
+        Map<String, BigDecimal> rates = new HashMap<>();
+        String provider = "snapshot";
+        for (FxRateSnapshot snapshot : snapshots) {
+            if (snapshot.getBaseCurrency().equals(baseCurrency)) {
+                rates.put(snapshot.getQuoteCurrency(), snapshot.getRate());
+                provider = snapshot.getProvider();
+            }
+        }
+        if (rates.isEmpty()) {
+            return false;
+        }
+
+        current = new FxRateTable(baseCurrency, latest.get(), provider, rates);
+        log.info("Loaded {} FX rates from snapshot taken at {}", rates.size(), latest.get());
+        return true;
+    }
+
+    /**
+     * Fetch the latest rates from the configured provider, persist them and publish the new table
+     */
+    public FxRateTable refresh() {
+        FxRateProvider provider = providers.get(providerName);
+        if (provider == null) {
+            throw new BusinessException("Unknown FX provider: " + providerName, "FX_PROVIDER_UNSUPPORTED");
+        }
+
+        FxRateTable table = provider.fetchLatest(baseCurrency);
+        if (table.isEmpty()) {
+            throw new BusinessException("FX provider returned no rates: " + providerName, "FX_RATE_UNAVAILABLE");
+        }
+
+        List<FxRateSnapshot> snapshots = table.getRates().entrySet().stream()
+                .map(entry -> FxRateSnapshot.builder()
+                        .baseCurrency(table.getBaseCurrency())
+                        .quoteCurrency(entry.getKey())
+                        .rate(entry.getValue())
+                        .asOf(table.getAsOf())
+                        .provider(table.getProvider())
+                        .build())
+                .toList();
+        snapshotRepository.saveAll(snapshots);
+
+        current = table;
+        meterRegistry.counter("fx.rates.refreshed", "provider", table.getProvider()).increment();
+        log.info("Refreshed {} FX rates from {}", snapshots.size(), table.getProvider());
+        return table;
+    }
+
+    @Transactional
+    public int purgeSnapshotsOlderThan(LocalDateTime cutoff) {
+        return snapshotRepository.deleteOlderThan(cutoff);
+    }
+
+    private Map<String, BigDecimal> factorsFor(FxRateTable table, Collection<CurrencyAmount> amounts, String target) {
+        Map<String, BigDecimal> factors = new HashMap<>();
+        for (CurrencyAmount amount : amounts) {
+            String currency = amount.currencyCode().toUpperCase();
+            if (!factors.containsKey(currency)) {
+                factors.put(currency, table.rate(currency, target).orElseThrow(() -> unavailable(currency, target)));
+            }
+        }
+        return factors;
+    }
+
+    private Optional<BigDecimal> storedRate(String currency) {
+        if (currency.equalsIgnoreCase(baseCurrency)) {
+            return Optional.of(BigDecimal.ONE);
+        }
+        return snapshotRepository.findFirstByBaseCurrencyAndQuoteCurrencyOrderByAsOfDesc(
+                baseCurrency, currency.toUpperCase()).map(FxRateSnapshot::getRate);
+    }
+
+    private BigDecimal fallback(String from, String to, String source, BigDecimal rate) {
+        meterRegistry.counter("fx.rates.fallback", "source", source).increment();
+        log.warn("No current FX rate from {} to {}, using {} rate {}", from, to, source, rate);
+        return rate;
+    }
+
+    private BusinessException unavailable(String from, String to) {
+        return new BusinessException("No exchange rate available from " + from + " to " + to, "FX_RATE_UNAVAILABLE");
+    }
+
+    private static double ageSeconds(FxRateService service) {
+        LocalDateTime asOf = service.current.getAsOf();
+        return asOf == null ? -1 : Duration.between(asOf, LocalDateTime.now()).toSeconds();
+    }
+}
@@ -0,0 +1,141 @@
+package com.budgettracker.service;
+
+import com.budgettracker.entity.Notification;
+import com.budgettracker.notification.NotificationMessage;
+import com.budgettracker.repository.NotificationRepository;
+import com.budgettracker.repository.UserRepository;
+import com.budgettracker.util.RetryBackoff;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional side of notification dispatch.
+ *
+ * Claiming sets a lease on the rows so other replicas ignore them while they are
+ * being sent outside the transaction; if this node dies the lease expires and the
+ * rows are picked up again. scheduled_for keeps the time the notification was due.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDispatchService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+
+    @Value("${app.notification.dispatcher.retry-base-delay-seconds:60}")
+    private long retryBaseDelaySeconds;
+
+    @Value("${app.notification.dispatcher.retry-max-delay-seconds:3600}")
+    private long retryMaxDelaySeconds;
+
+    @Transactional
+    public List<NotificationMessage> claimBatch(int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> claimed = notificationRepository.claimDueForDispatch(now, batchSize);
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+
+        // Load recipients in one query instead of one lazy load per notification
+        userRepository.findAllById(claimed.stream()
+                .map(n -> n.getUser().getId())
+                .collect(Collectors.toSet()));
+
+        LocalDateTime leaseUntil = now.plus(lease);
+        List<NotificationMessage> messages = new ArrayList<>(claimed.size());
+        for (Notification notification : claimed) {
+            notification.setLeasedUntil(leaseUntil);
+            messages.add(NotificationMessage.from(notification));
+        }
+        return messages;
+    }
+
+    @Transactional
+    public DispatchSummary recordOutcomes(List<DispatchOutcome> outcomes) {
+        Map<UUID, Notification> notifications = notificationRepository.findAllById(
+                        outcomes.stream().map(DispatchOutcome::notificationId).toList())
+                .stream()
+                .collect(Collectors.toMap(Notification::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+        int retried = 0;
+        int failed = 0;
+        int unknown = 0;
+
+        for (DispatchOutcome outcome : outcomes) {
+            Notification notification = notifications.get(outcome.notificationId());
+            if (notification == null) {
+                continue;
+            }
+
+            if (outcome.delivered()) {
+                notification.markAsSent();
+                sent++;
+                continue;
+            }
+
+            if (outcome.indeterminate()) {
+                notification.markAsUnknown(truncate(outcome.error()));
+                unknown++;
+                log.warn("Notification {} outcome unknown, not retrying: {}", notification.getId(), outcome.error());
+                continue;
+            }
+
+            notification.markAsFailed(truncate(outcome.error()));
+            if (notification.shouldRetry()) {
+                notification.scheduleRetry(now.plus(RetryBackoff.delay(
+                        notification.getRetryCount(), retryBaseDelaySeconds, retryMaxDelaySeconds)));
+                retried++;
+            } else {
+                failed++;
+                log.warn("Notification {} failed permanently: {}", notification.getId(), outcome.error());
+            }
+        }
+
+        return new DispatchSummary(sent, retried, failed, unknown);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return "Unknown error";
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    /**
+     * Result of one send. indeterminate means the send may have reached the provider even though
+     * no success was observed, e.g. a timeout, so retrying it could deliver a duplicate.
+     */
+    public record DispatchOutcome(UUID notificationId, boolean delivered, boolean indeterminate, String error) {
+        public static DispatchOutcome sent(UUID notificationId) {
+            return new DispatchOutcome(notificationId, true, false, null);
+        }
+
+        public static DispatchOutcome failed(UUID notificationId, String error) {
+            return new DispatchOutcome(notificationId, false, false, error);
+        }
+
+        public static DispatchOutcome unknown(UUID notificationId, String error) {
+            return new DispatchOutcome(notificationId, false, true, error);
+        }
+    }
+
+    public record DispatchSummary(int sent, int retried, int failed, int unknown) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.budgettracker.service;
+
+import com.budgettracker.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Generates reminder notifications for all users with set-based INSERT ... SELECT
+ * statements. Each generated row carries a dedup key, so re-running the sweep
+ * for the same day never creates duplicates.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationFanOutService {
+
+    private final NotificationRepository notificationRepository;
+
+    @Value("${app.notification.fan-out.send-time:09:00}")
+    private String sendTime;
+
+    @Value("${app.notification.fan-out.max-lookahead-days:30}")
+    private int maxLookaheadDays;
+
+    @Value("${app.notification.channels.email:true}")
+    private boolean emailEnabled;
+
+    @Value("${app.notification.channels.push:false}")
+    private boolean pushEnabled;
+
+    @Transactional
+    public FanOutResult generateReminders(LocalDate today) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate horizon = today.plusDays(maxLookaheadDays);
+        LocalTime time = LocalTime.parse(sendTime);
+
+        int subscriptionReminders = notificationRepository.insertSubscriptionReminders(
+                today, horizon, time, now, emailEnabled, pushEnabled);
+        int trialEndingNotices = notificationRepository.insertTrialEndingNotices(
+                today, horizon, time, now, emailEnabled, pushEnabled);
+        int recurringReminders = notificationRepository.insertRecurringReminders(
+                today, horizon, time, now, emailEnabled, pushEnabled);
+
+        return new FanOutResult(subscriptionReminders, trialEndingNotices, recurringReminders);
+    }
+
+    public record FanOutResult(int subscriptionReminders, int trialEndingNotices, int recurringReminders) {
+        public int total() {
+            return subscriptionReminders + trialEndingNotices + recurringReminders;
+        }
+    }
+}
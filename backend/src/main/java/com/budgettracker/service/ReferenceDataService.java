@@ -0,0 +1,30 @@
+package com.budgettracker.service;
+
+import com.budgettracker.config.CacheConfig;
+import com.budgettracker.entity.Category;
+import com.budgettracker.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Shared, rarely changing data seeded by migrations (system categories).
+ *
+ * Cached in {@link CacheConfig#REFERENCE_DATA}, whose near-cache TTL matches Redis, so reads
+ * are served from process memory on every replica.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataService {
+
+    private final CategoryRepository categoryRepository;
+
+    @Cacheable(cacheNames = CacheConfig.REFERENCE_DATA, key = "'systemCategories'")
+    @Transactional(readOnly = true)
+    public List<Category> getSystemCategories() {
+        return List.copyOf(categoryRepository.findSystemCategories());
+    }
+}
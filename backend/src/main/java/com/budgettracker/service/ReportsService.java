@@ -1,12 +1,14 @@
 package com.budgettracker.service;
 
+import com.budgettracker.config.CacheConfig;
+import com.budgettracker.dto.response.NetWorthResponse;
 import com.budgettracker.entity.Transaction;
 import com.budgettracker.entity.enums.TransactionType;
 import com.budgettracker.repository.BudgetRepository;
 import com.budgettracker.repository.TransactionRepository;
-import com.budgettracker.repository.WalletRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,16 +24,23 @@ import java.util.stream.Collectors;
 public class ReportsService {
 
     private final TransactionRepository transactionRepository;
-    private final WalletRepository walletRepository;
+    private final WalletService walletService;
     private final BudgetRepository budgetRepository;
 
+    /**
+     * The balance total is the consolidated net worth, so like that cache the key carries the FX
+     * table timestamp and a rate refresh is picked up without eviction.
+     */
+    @Cacheable(cacheNames = CacheConfig.REPORTS_DASHBOARD,
+            key = "#userId + ':' + #startDate + ':' + #endDate + ':' + @fxRateService.currentTable.asOf")
     @Transactional(readOnly = true)
     public Map<String, Object> getDashboardSummary(UUID userId, LocalDate startDate, LocalDate endDate) {
         Map<String, Object> summary = new HashMap<>();
 
-        // Total balance across all wallets
-        BigDecimal totalBalance = walletRepository.calculateTotalBalance(userId);
-        summary.put("totalBalance", totalBalance);
+        // Total balance across all wallets, converted into the user's currency
+        NetWorthResponse netWorth = walletService.getNetWorth(userId);
+        summary.put("totalBalance", netWorth.getTotal());
+        summary.put("currencyCode", netWorth.getCurrencyCode());
 
         // Income and expense stats
         BigDecimal totalIncome = transactionRepository.sumByUserIdAndTypeAndDateRange(
@@ -60,6 +69,8 @@ public class ReportsService {
         return summary;
     }
 
+    @Cacheable(cacheNames = CacheConfig.REPORTS_CATEGORY_BREAKDOWN,
+            key = "#userId + ':EXPENSE:' + #startDate + ':' + #endDate")
     @Transactional(readOnly = true)
     public Map<String, BigDecimal> getSpendingByCategory(UUID userId, LocalDate startDate, LocalDate endDate) {
         List<Object[]> results = transactionRepository.sumByCategory(userId, TransactionType.EXPENSE, startDate, endDate);
@@ -74,6 +85,8 @@ public class ReportsService {
         return spendingByCategory;
     }
 
+    @Cacheable(cacheNames = CacheConfig.REPORTS_CATEGORY_BREAKDOWN,
+            key = "#userId + ':INCOME:' + #startDate + ':' + #endDate")
     @Transactional(readOnly = true)
     public Map<String, BigDecimal> getIncomeByCategory(UUID userId, LocalDate startDate, LocalDate endDate) {
         List<Object[]> results = transactionRepository.sumByCategory(userId, TransactionType.INCOME, startDate, endDate);
@@ -88,6 +101,9 @@ public class ReportsService {
         return incomeByCategory;
     }
 
+    // Trends are relative to today, so the date is part of the key
+    @Cacheable(cacheNames = CacheConfig.REPORTS_TRENDS,
+            key = "#userId + ':' + #months + ':' + T(java.time.LocalDate).now()")
     @Transactional(readOnly = true)
     public Map<String, Object> getMonthlyTrends(UUID userId, int months) {
         LocalDate endDate = LocalDate.now();
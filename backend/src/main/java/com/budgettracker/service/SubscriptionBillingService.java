@@ -0,0 +1,212 @@
+package com.budgettracker.service;
+
+import com.budgettracker.entity.Subscription;
+import com.budgettracker.entity.Transaction;
+import com.budgettracker.entity.Wallet;
+import com.budgettracker.entity.enums.SubscriptionStatus;
+import com.budgettracker.entity.enums.TransactionStatus;
+import com.budgettracker.entity.enums.TransactionType;
+import com.budgettracker.repository.SubscriptionRepository;
+import com.budgettracker.repository.TransactionRepository;
+import com.budgettracker.repository.WalletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bills due subscriptions across all users in keyset chunks.
+ *
+ * Each chunk is claimed with FOR UPDATE SKIP LOCKED, so concurrent replicas
+ * work on disjoint rows, and committed as a single transaction: linked
+ * transactions are batch-inserted and wallet balances receive one
+ * aggregated delta per wallet. If a chunk fails, the sweep re-bills it
+ * one subscription per transaction so a single bad row cannot hold up
+ * the rest; failed rows stay due and are retried on the next run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriptionBillingService {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final TransactionRepository transactionRepository;
+    private final WalletRepository walletRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional(readOnly = true)
+    public long countDueForBilling(LocalDate billingDate) {
+        return subscriptionRepository.countDueForBilling(billingDate);
+    }
+
+    @Transactional(readOnly = true)
+    public LocalDate findOldestDueBillingDate(LocalDate billingDate) {
+        return subscriptionRepository.findOldestDueBillingDate(billingDate);
+    }
+
+    /**
+     * Claim and bill the next chunk of subscriptions due on or before the billing date
+     */
+    @Transactional
+    public BillingChunkResult billNextChunk(LocalDate billingDate, BillingCursor cursor, int chunkSize) {
+        List<Subscription> due = subscriptionRepository.claimDueForBilling(
+                billingDate, cursor.nextBillingDate(), cursor.subscriptionId(), chunkSize);
+
+        if (due.isEmpty()) {
+            return BillingChunkResult.empty(cursor);
+        }
+
+        BillingCursor nextCursor = BillingCursor.after(due.get(due.size() - 1));
+        int created = bill(due, billingDate);
+        log.debug("Billed {} subscriptions, created {} transactions", due.size(), created);
+
+        return new BillingChunkResult(due.size(), due.size(), 0, created, nextCursor);
+    }
+
+    /**
+     * Bill the next chunk one subscription per transaction, so a subscription that fails is
+     * logged and skipped instead of rolling back the others. Used after {@link #billNextChunk} fails.
+     */
+    public BillingChunkResult billNextChunkIndividually(LocalDate billingDate, BillingCursor cursor, int chunkSize) {
+        List<BillingCursor> keys = transactionTemplate.execute(status -> subscriptionRepository
+                .findDueForBilling(billingDate, cursor.nextBillingDate(), cursor.subscriptionId(), chunkSize)
+                .stream()
+                .map(BillingCursor::after)
+                .toList());
+
+        if (keys == null || keys.isEmpty()) {
+            return BillingChunkResult.empty(cursor);
+        }
+
+        int billed = 0;
+        int failed = 0;
+        int created = 0;
+        for (BillingCursor key : keys) {
+            try {
+                Integer transactions = transactionTemplate.execute(status -> subscriptionRepository
+                        .claimForBilling(key.subscriptionId(), billingDate)
+                        .map(subscription -> bill(List.of(subscription), billingDate))
+                        .orElse(null));
+                if (transactions != null) {
+                    billed++;
+                    created += transactions;
+                }
+            } catch (Exception e) {
+                failed++;
+                log.error("Billing subscription {} failed; it stays due until the next run", key.subscriptionId(), e);
+            }
+        }
+
+        return new BillingChunkResult(keys.size(), billed, failed, created, keys.get(keys.size() - 1));
+    }
+
+    /**
+     * Bill the claimed subscriptions in the current transaction
+     *
+     * @return number of transactions created
+     */
+    private int bill(List<Subscription> due, LocalDate billingDate) {
+        List<Transaction> transactions = new ArrayList<>();
+        Map<UUID, BigDecimal> walletDeltas = new HashMap<>();
+
+        for (Subscription subscription : due) {
+            billOutstandingPeriods(subscription, billingDate, transactions, walletDeltas);
+        }
+
+        transactionRepository.saveAll(transactions);
+        List<UUID> billedUserIds = due.stream().map(subscription -> subscription.getUser().getId()).distinct().toList();
+        cacheInvalidationService.evictReports(billedUserIds);
+        cacheInvalidationService.evictNetWorth(billedUserIds);
+
+        for (Wallet wallet : walletRepository.findAllById(walletDeltas.keySet())) {
+            wallet.updateBalance(walletDeltas.get(wallet.getId()));
+        }
+
+        return transactions.size();
+    }
+
+    /**
+     * Bill every period up to the billing date, so a missed run catches up in one pass
+     */
+    private void billOutstandingPeriods(Subscription subscription, LocalDate billingDate,
+                                        List<Transaction> transactions, Map<UUID, BigDecimal> walletDeltas) {
+        while (!subscription.getNextBillingDate().isAfter(billingDate)) {
+            LocalDate periodDate = subscription.getNextBillingDate();
+
+            if (subscription.getEndDate() != null && periodDate.isAfter(subscription.getEndDate())) {
+                subscription.setStatus(SubscriptionStatus.EXPIRED);
+                log.info("Subscription expired: {}", subscription.getId());
+                return;
+            }
+
+            LocalDate followingDate = subscription.calculateNextBillingDate();
+            if (!followingDate.isAfter(periodDate)) {
+                log.warn("Subscription {} has no computable billing cycle ({}), skipping",
+                        subscription.getId(), subscription.getBillingFrequency());
+                return;
+            }
+
+            if (Boolean.TRUE.equals(subscription.getAutoCreateTransaction())) {
+                transactions.add(buildTransaction(subscription, periodDate));
+                walletDeltas.merge(subscription.getWallet().getId(),
+                        subscription.getAmount().negate(), BigDecimal::add);
+            }
+
+            subscription.setLastBillingDate(periodDate);
+            subscription.setNextBillingDate(followingDate);
+        }
+    }
+
+    private Transaction buildTransaction(Subscription subscription, LocalDate periodDate) {
+        return Transaction.builder()
+                .user(subscription.getUser())
+                .wallet(subscription.getWallet())
+                .category(subscription.getCategory())
+                .type(TransactionType.EXPENSE)
+                .amount(subscription.getAmount())
+                .currencyCode(subscription.getCurrencyCode())
+                .transactionDate(periodDate)
+                .description(subscription.getName())
+                .merchantName(subscription.getProviderName())
+                .notes("Auto-created from subscription billing")
+                .status(TransactionStatus.COMPLETED)
+                .isRecurring(true)
+                .subscription(subscription)
+                .build();
+    }
+
+    /**
+     * Keyset position in (next_billing_date, id) order
+     */
+    public record BillingCursor(LocalDate nextBillingDate, UUID subscriptionId) {
+        public static final BillingCursor START = new BillingCursor(LocalDate.EPOCH, new UUID(0L, 0L));
+
+        /**
+         * Position of {@code subscription}; take it before billing advances the next billing date
+         */
+        static BillingCursor after(Subscription subscription) {
+            return new BillingCursor(subscription.getNextBillingDate(), subscription.getId());
+        }
+    }
+
+    public record BillingChunkResult(int subscriptionsScanned, int subscriptionsBilled, int subscriptionsFailed,
+                                     int transactionsCreated, BillingCursor nextCursor) {
+        static BillingChunkResult empty(BillingCursor cursor) {
+            return new BillingChunkResult(0, 0, 0, 0, cursor);
+        }
+
+        public boolean isEmpty() {
+            return subscriptionsScanned == 0;
+        }
+    }
+}
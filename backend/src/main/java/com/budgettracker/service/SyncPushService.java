@@ -0,0 +1,325 @@
+package com.budgettracker.service;
+
+import com.budgettracker.dto.request.SyncPushRequest;
+import com.budgettracker.dto.response.SyncPushResponse;
+import com.budgettracker.dto.response.SyncPushResult;
+import com.budgettracker.entity.BaseEntity;
+import com.budgettracker.entity.Budget;
+import com.budgettracker.entity.Category;
+import com.budgettracker.entity.Tag;
+import com.budgettracker.entity.Transaction;
+import com.budgettracker.entity.User;
+import com.budgettracker.entity.Wallet;
+import com.budgettracker.entity.enums.TransactionType;
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.repository.BudgetRepository;
+import com.budgettracker.repository.CategoryRepository;
+import com.budgettracker.repository.TagRepository;
+import com.budgettracker.repository.TransactionRepository;
+import com.budgettracker.repository.WalletRepository;
+import com.budgettracker.sync.ConflictResolution;
+import com.budgettracker.sync.SyncEntityType;
+import com.budgettracker.sync.SyncField;
+import com.budgettracker.sync.SyncFields;
+import com.budgettracker.sync.SyncPushOutcome;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies batches of offline edits pushed by a device.
+ *
+ * Conflicts are detected with the row version: an edit whose base version is older than the
+ * stored one raced with another writer. Every row in the batch is loaded up front (one IN query
+ * per type and chunk) and all edits are merged in memory, field by field. Fields the server has
+ * not changed since the client's base values are applied as-is; the rest go to the configured
+ * {@link ConflictResolution}. The merged rows are flushed once, so the stored versions only
+ * move at the end of the batch, and wallet balance changes are applied once per wallet.
+ */
+@Slf4j
+@Service
+public class SyncPushService {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final WalletService walletService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ConflictResolution conflictResolution;
+    private final int maxPushSize;
+    private final Map<SyncEntityType, JpaRepository<? extends BaseEntity, UUID>> repositories;
+
+    public SyncPushService(EntityManager entityManager,
+                           WalletRepository walletRepository,
+                           CategoryRepository categoryRepository,
+                           TagRepository tagRepository,
+                           BudgetRepository budgetRepository,
+                           TransactionRepository transactionRepository,
+                           WalletService walletService,
+                           CacheInvalidationService cacheInvalidationService,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.sync.conflict-resolution:last-write-wins}") String conflictResolution,
+                           @Value("${app.sync.max-push-size:5000}") int maxPushSize) {
+        this.entityManager = entityManager;
+        this.walletService = walletService;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.conflictResolution = ConflictResolution.fromProperty(conflictResolution);
+        this.maxPushSize = maxPushSize;
+
+        this.repositories = new EnumMap<>(SyncEntityType.class);
+        repositories.put(SyncEntityType.WALLET, walletRepository);
+        repositories.put(SyncEntityType.CATEGORY, categoryRepository);
+        repositories.put(SyncEntityType.TAG, tagRepository);
+        repositories.put(SyncEntityType.BUDGET, budgetRepository);
+        repositories.put(SyncEntityType.TRANSACTION, transactionRepository);
+    }
+
+    @Transactional
+    public SyncPushResponse push(UUID userId, SyncPushRequest request) {
+        List<SyncPushRequest.Change> changes = request.getChanges();
+        if (changes.size() > maxPushSize) {
+            throw new BusinessException("A push may contain at most " + maxPushSize + " changes", "SYNC_PUSH_TOO_LARGE");
+        }
+
+        Map<SyncEntityType, Map<UUID, BaseEntity>> rows = loadRows(changes);
+        Map<UUID, BigDecimal> walletDeltas = new LinkedHashMap<>();
+        Set<String> writtenFields = new HashSet<>();
+        Map<SyncPushResult, BaseEntity> touched = new IdentityHashMap<>();
+        List<SyncPushResult> results = new ArrayList<>(changes.size());
+        boolean categoriesChanged = false;
+        boolean walletsChanged = false;
+
+        for (SyncPushRequest.Change change : changes) {
+            BaseEntity entity = rows.get(change.getEntityType()).get(change.getId());
+            SyncPushResult result = apply(userId, request.getDeviceId(), change, entity, walletDeltas, writtenFields);
+            results.add(result);
+            if (result.getOutcome() != SyncPushOutcome.REJECTED && entity != null) {
+                touched.put(result, entity);
+                categoriesChanged |= change.getEntityType() == SyncEntityType.CATEGORY;
+                walletsChanged |= change.getEntityType() == SyncEntityType.WALLET;
+            }
+        }
+
+        walletDeltas.forEach((walletId, delta) -> {
+            if (delta.signum() != 0) {
+                walletService.updateBalance(walletId, delta);
+            }
+        });
+
+        // One flush for the whole batch; a row changed concurrently since loading fails the batch
+        // with an optimistic lock error and the device retries it
+        entityManager.flush();
+        touched.forEach((result, entity) -> result.setVersion(entity.getVersion()));
+
+        if (!touched.isEmpty()) {
+            cacheInvalidationService.evictReports(userId);
+            cacheInvalidationService.evictDashboard(userId);
+            if (categoriesChanged) {
+                cacheInvalidationService.evictCategories(userId);
+            }
+            // exclude_from_totals, archiving and deletes change which balances count
+            if (walletsChanged) {
+                cacheInvalidationService.evictNetWorth(userId);
+            }
+        }
+
+        Map<SyncPushOutcome, Integer> counts = new EnumMap<>(SyncPushOutcome.class);
+        for (SyncPushResult result : results) {
+            counts.merge(result.getOutcome(), 1, Integer::sum);
+        }
+        counts.forEach((outcome, count) -> meterRegistry.counter("sync.push.changes",
+                "outcome", outcome.name().toLowerCase()).increment(count));
+        log.info("Sync push for user {} from device {}: {}", userId, request.getDeviceId(), counts);
+
+        return SyncPushResponse.builder()
+                .conflictResolution(conflictResolution.name())
+                .applied(counts.getOrDefault(SyncPushOutcome.APPLIED, 0))
+                .merged(counts.getOrDefault(SyncPushOutcome.MERGED, 0))
+                .serverWon(counts.getOrDefault(SyncPushOutcome.SERVER_WON, 0))
+                .rejected(counts.getOrDefault(SyncPushOutcome.REJECTED, 0))
+                .results(results)
+                .build();
+    }
+
+    private SyncPushResult apply(UUID userId, String deviceId, SyncPushRequest.Change change,
+                                 BaseEntity entity, Map<UUID, BigDecimal> walletDeltas, Set<String> writtenFields) {
+        SyncPushResult.SyncPushResultBuilder result = SyncPushResult.builder()
+                .entityType(change.getEntityType().name())
+                .id(change.getId());
+
+        if (entity == null || !isOwnedBy(entity, userId)) {
+            // Deleting a row that is already gone is the state the client asked for
+            if (entity == null && "DELETE".equals(change.getOperation())) {
+                return result.outcome(SyncPushOutcome.APPLIED).build();
+            }
+            return result.outcome(SyncPushOutcome.REJECTED).reason("NOT_FOUND").build();
+        }
+
+        Map<String, Object> fields = change.getFields() == null ? Map.of() : change.getFields();
+        for (String name : fields.keySet()) {
+            if (SyncFields.find(change.getEntityType(), name) == null) {
+                return result.outcome(SyncPushOutcome.REJECTED).reason("UNSUPPORTED_FIELD:" + name).build();
+            }
+        }
+
+        boolean concurrent = entity.getVersion() != null && change.getBaseVersion() < entity.getVersion();
+        BigDecimal balanceBefore = entity instanceof Transaction transaction ? signedWalletAmount(transaction) : null;
+
+        if ("DELETE".equals(change.getOperation())) {
+            if (concurrent && !clientWins(change, entity)) {
+                return result.outcome(SyncPushOutcome.SERVER_WON).conflictResolved(true).build();
+            }
+            entity.softDelete();
+            if (entity instanceof Transaction transaction) {
+                walletDeltas.merge(transaction.getWallet().getId(), balanceBefore.negate(), BigDecimal::add);
+            }
+            return result.outcome(SyncPushOutcome.APPLIED).conflictResolved(concurrent ? true : null).build();
+        }
+
+        Map<String, Object> baseFields = change.getBaseFields() == null ? Map.of() : change.getBaseFields();
+        List<String> conflicting = new ArrayList<>();
+        List<String> serverWon = new ArrayList<>();
+
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            SyncField<BaseEntity> syncField = SyncFields.find(change.getEntityType(), field.getKey());
+            Object clientValue = objectMapper.convertValue(field.getValue(), syncField.type());
+            Object serverValue = syncField.get(entity);
+            // Later edits of a field already written earlier in this batch supersede the earlier ones
+            String fieldKey = change.getId() + ":" + field.getKey();
+            boolean ownEdit = writtenFields.contains(fieldKey);
+
+            if (concurrent && !ownEdit && !SyncField.sameValue(clientValue, serverValue)
+                    && serverChanged(syncField, baseFields, serverValue)) {
+                conflicting.add(field.getKey());
+                if (!clientWins(change, entity)) {
+                    serverWon.add(field.getKey());
+                    continue;
+                }
+            }
+            syncField.set(entity, clientValue);
+            writtenFields.add(fieldKey);
+        }
+
+        if (entity instanceof Transaction transaction) {
+            transaction.calculateAmountInWalletCurrency();
+            BigDecimal delta = signedWalletAmount(transaction).subtract(balanceBefore);
+            walletDeltas.merge(transaction.getWallet().getId(), delta, BigDecimal::add);
+            transaction.setDeviceId(deviceId);
+            transaction.setSyncStatus("SYNCED");
+            if (!conflicting.isEmpty()) {
+                transaction.setConflictResolved(true);
+            }
+        }
+
+        if (conflicting.isEmpty()) {
+            return result.outcome(SyncPushOutcome.APPLIED).build();
+        }
+        return result
+                .outcome(serverWon.size() == fields.size() ? SyncPushOutcome.SERVER_WON : SyncPushOutcome.MERGED)
+                .conflictResolved(true)
+                .conflictingFields(conflicting)
+                .serverWonFields(serverWon.isEmpty() ? null : serverWon)
+                .build();
+    }
+
+    /**
+     * A field only conflicts when the server value moved away from what the client started from.
+     * Without a base value for the field every concurrent difference counts as a conflict.
+     */
+    private boolean serverChanged(SyncField<BaseEntity> field, Map<String, Object> baseFields, Object serverValue) {
+        if (!baseFields.containsKey(field.name())) {
+            return true;
+        }
+        Object baseValue = objectMapper.convertValue(baseFields.get(field.name()), field.type());
+        return !SyncField.sameValue(baseValue, serverValue);
+    }
+
+    private boolean clientWins(SyncPushRequest.Change change, BaseEntity entity) {
+        return switch (conflictResolution) {
+            case CLIENT_WINS -> true;
+            case SERVER_WINS -> false;
+            case LAST_WRITE_WINS -> {
+                LocalDateTime serverTime = entity.getUpdatedAt() != null ? entity.getUpdatedAt() : entity.getCreatedAt();
+                Instant clientTime = change.getChangedAt();
+                yield clientTime != null && (serverTime == null
+                        || clientTime.isAfter(serverTime.atZone(ZoneId.systemDefault()).toInstant()));
+            }
+        };
+    }
+
+    /**
+     * Effect of a transaction on its wallet balance, at the rate recorded on the transaction
+     */
+    private BigDecimal signedWalletAmount(Transaction transaction) {
+        if (Boolean.TRUE.equals(transaction.getDeleted()) || transaction.getAmount() == null) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal rate = transaction.getExchangeRate();
+        BigDecimal amount = rate == null ? transaction.getAmount() : transaction.getAmount().multiply(rate);
+        return transaction.getType() == TransactionType.EXPENSE || transaction.getType() == TransactionType.TRANSFER
+                ? amount.negate() : amount;
+    }
+
+    private boolean isOwnedBy(BaseEntity entity, UUID userId) {
+        User owner = null;
+        if (entity instanceof Wallet wallet) {
+            owner = wallet.getUser();
+        } else if (entity instanceof Category category) {
+            owner = category.getUser();
+        } else if (entity instanceof Tag tag) {
+            owner = tag.getUser();
+        } else if (entity instanceof Budget budget) {
+            owner = budget.getUser();
+        } else if (entity instanceof Transaction transaction) {
+            owner = transaction.getUser();
+        }
+        // System categories have no owner and are read-only for clients
+        return owner != null && owner.getId().equals(userId);
+    }
+
+    private Map<SyncEntityType, Map<UUID, BaseEntity>> loadRows(List<SyncPushRequest.Change> changes) {
+        Map<SyncEntityType, Set<UUID>> ids = new EnumMap<>(SyncEntityType.class);
+        for (SyncPushRequest.Change change : changes) {
+            ids.computeIfAbsent(change.getEntityType(), type -> new LinkedHashSet<>()).add(change.getId());
+        }
+
+        Map<SyncEntityType, Map<UUID, BaseEntity>> rows = new EnumMap<>(SyncEntityType.class);
+        for (SyncEntityType type : SyncEntityType.values()) {
+            Map<UUID, BaseEntity> byId = new HashMap<>();
+            List<UUID> typeIds = new ArrayList<>(ids.getOrDefault(type, Set.of()));
+            for (int from = 0; from < typeIds.size(); from += LOAD_CHUNK_SIZE) {
+                List<UUID> chunk = typeIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, typeIds.size()));
+                repositories.get(type).findAllById(chunk)
+                        .forEach(entity -> byId.put(entity.getId(), entity));
+            }
+            rows.put(type, byId);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,197 @@
+package com.budgettracker.service;
+
+import com.budgettracker.dto.response.SyncChange;
+import com.budgettracker.dto.response.SyncChangesResponse;
+import com.budgettracker.sync.SyncEntityType;
+import com.budgettracker.sync.SyncToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Delta sync for offline clients.
+ *
+ * Every synced table carries change_seq, the id of the transaction that last wrote the row
+ * (see V1_0_12). A page is read in one REPEATABLE READ snapshot and only includes rows with
+ * change_seq below the snapshot's xmin. Every such transaction has finished, and any later
+ * writer gets a higher id, so advancing the token past a served row can never skip a change.
+ * Changes are ordered by (change_seq, entity type, id), and each table is read with one range
+ * scan on its (user_id, change_seq, id) index.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private static final Set<String> HIDDEN_COLUMNS = Set.of("created_by", "updated_by", "change_seq");
+
+    private static final Comparator<Row> CHANGE_ORDER = Comparator
+            .comparingLong(Row::changeSeq)
+            .thenComparingInt(row -> row.type().ordinal())
+            // PostgreSQL orders uuid bytewise, which matches the canonical string form
+            .thenComparing(row -> row.id().toString());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sync.max-offline-duration-days:30}")
+    private int maxOfflineDurationDays;
+
+    @Value("${app.sync.max-page-size:1000}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncChangesResponse getChanges(UUID userId, String since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        SyncToken token = since == null || since.isBlank() ? SyncToken.initial() : SyncToken.decode(since);
+
+        // Tombstones are archived after a while, so a client gone longer than this may have missed deletes
+        if (token.issuedAt().isBefore(Instant.now().minus(Duration.ofDays(maxOfflineDurationDays)))) {
+            meterRegistry.counter("sync.changes.reset").increment();
+            return SyncChangesResponse.builder()
+                    .changes(List.of())
+                    .hasMore(false)
+                    .resetRequired(true)
+                    .serverTime(LocalDateTime.now())
+                    .build();
+        }
+
+        Long watermark = jdbcTemplate.queryForObject(
+                "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)", Long.class);
+
+        // Each table contributes at most pageSize + 1 rows; the merged head is the page
+        List<Row> rows = new ArrayList<>();
+        for (SyncEntityType type : SyncEntityType.values()) {
+            rows.addAll(readAfter(type, userId, token, watermark, pageSize + 1));
+        }
+        rows.sort(CHANGE_ORDER);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Row> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<SyncChange> changes = new ArrayList<>(page.size());
+        for (Row row : page) {
+            changes.add(toChange(row));
+        }
+
+        SyncToken next = page.isEmpty()
+                ? token.reissue()
+                : token.advanceTo(page.get(page.size() - 1).changeSeq(),
+                        page.get(page.size() - 1).type().ordinal(), page.get(page.size() - 1).id());
+
+        meterRegistry.counter("sync.changes.served").increment(changes.size());
+        meterRegistry.summary("sync.changes.page.size").record(changes.size());
+
+        return SyncChangesResponse.builder()
+                .changes(changes)
+                .nextToken(next.encode())
+                .hasMore(hasMore)
+                .resetRequired(false)
+                .serverTime(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Rows of one table strictly after the token position in (change_seq, type, id) order
+     */
+    private List<Row> readAfter(SyncEntityType type, UUID userId, SyncToken token, long watermark, int limit) {
+        int tokenOrdinal = token.entityOrdinal();
+        String positionPredicate;
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+
+        if (type.ordinal() > tokenOrdinal) {
+            positionPredicate = "change_seq >= ?";
+            args.add(token.changeSeq());
+        } else if (type.ordinal() < tokenOrdinal || token.id() == null) {
+            positionPredicate = "change_seq > ?";
+            args.add(token.changeSeq());
+        } else {
+            positionPredicate = "(change_seq, id) > (?, ?)";
+            args.add(token.changeSeq());
+            args.add(token.id());
+        }
+        args.add(watermark);
+        args.add(limit);
+
+        List<Map<String, Object>> result = jdbcTemplate.queryForList(
+                "SELECT * FROM " + type.table() + " WHERE " + type.ownerPredicate() +
+                " AND " + positionPredicate + " AND change_seq < ?" +
+                " ORDER BY change_seq, id LIMIT ?",
+                args.toArray());
+
+        List<Row> rows = new ArrayList<>(result.size());
+        for (Map<String, Object> columns : result) {
+            rows.add(new Row(type, (UUID) columns.get("id"), ((Number) columns.get("change_seq")).longValue(), columns));
+        }
+        return rows;
+    }
+
+    private SyncChange toChange(Row row) {
+        Map<String, Object> columns = row.columns();
+        Long version = columns.get("version") instanceof Number number ? number.longValue() : null;
+
+        if (Boolean.TRUE.equals(columns.get("deleted"))) {
+            return SyncChange.builder()
+                    .entityType(row.type().name())
+                    .operation("DELETE")
+                    .id(row.id())
+                    .version(version)
+                    .build();
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        columns.forEach((column, value) -> {
+            if (!HIDDEN_COLUMNS.contains(column)) {
+                data.put(column, normalise(value));
+            }
+        });
+
+        return SyncChange.builder()
+                .entityType(row.type().name())
+                .operation(version == null || version == 0 ? "INSERT" : "UPDATE")
+                .id(row.id())
+                .version(version)
+                .data(data)
+                .build();
+    }
+
+    /**
+     * JDBC types to JSON-friendly values; driver-specific types (jsonb, arrays) are sent as text
+     */
+    private Object normalise(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof UUID
+                || value instanceof BigDecimal || value instanceof Number) {
+            return value;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return value.toString();
+    }
+
+    private record Row(SyncEntityType type, UUID id, long changeSeq, Map<String, Object> columns) {
+    }
+}
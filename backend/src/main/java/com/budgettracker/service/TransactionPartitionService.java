@@ -0,0 +1,251 @@
+package com.budgettracker.service;
+
+import com.budgettracker.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Migrates transactions to quarterly range partitions on transaction_date and maintains them.
+ *
+ * Zero-downtime path (shadow table created by migration V1_0_6):
+ * 1. A trigger mirrors every write on transactions into transactions_partitioned.
+ * 2. {@link #backfillChunk(int)} copies existing rows in primary-key order, locking each chunk
+ *    FOR SHARE so a concurrent update cannot be overwritten by a stale copy. The progress row
+ *    is locked for the chunk, so only one instance copies at a time.
+ * 3. {@link #cutover()} verifies row counts and swaps the tables by rename in one short
+ *    transaction. The old table is kept as transactions_legacy for rollback. Foreign keys that
+ *    referenced transactions(id) are replaced by the triggers from migration V1_0_14.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionPartitionService {
+
+    private static final String TABLE = "transactions";
+    private static final String SHADOW_TABLE = "transactions_partitioned";
+    private static final String LEGACY_TABLE = "transactions_legacy";
+    private static final String STATUS_SQL =
+            "SELECT last_id, rows_copied, completed_at, cut_over_at FROM partition_backfill_progress " +
+            "WHERE table_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Create missing partitions from the current quarter through {@code quartersAhead} quarters ahead
+     * on whichever table is currently partitioned.
+     *
+     * @return names of the partitions created
+     */
+    public List<String> createFuturePartitions(LocalDate today, int quartersAhead) {
+        String parent = isCutOver() ? TABLE : SHADOW_TABLE;
+        List<String> existing = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ?",
+                String.class, parent);
+
+        List<String> created = new ArrayList<>();
+        LocalDate quarterStart = quarterStart(today);
+        for (int i = 0; i <= quartersAhead; i++, quarterStart = quarterStart.plusMonths(3)) {
+            String name = partitionName(quarterStart);
+            if (existing.contains(name)) {
+                continue;
+            }
+            String ddl = String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    name, parent, quarterStart, quarterStart.plusMonths(3));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(ddl));
+            created.add(name);
+            log.info("Created transaction partition {}", name);
+        }
+        return created;
+    }
+
+    /**
+     * Copy the next chunk of existing rows into the shadow table.
+     *
+     * @return number of source rows covered by this chunk; 0 once the backfill is complete or
+     *         while another instance holds the progress row
+     */
+    @Transactional
+    public int backfillChunk(int chunkSize) {
+        BackfillStatus status = lockStatus(true);
+        if (status == null || status.completed()) {
+            return 0;
+        }
+
+        UUID after = status.lastId() != null ? status.lastId() : new UUID(0, 0);
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM " + TABLE + " WHERE id > ? ORDER BY id LIMIT ? FOR SHARE",
+                UUID.class, after, chunkSize);
+
+        if (ids.isEmpty()) {
+            jdbcTemplate.update(
+                    "UPDATE partition_backfill_progress SET completed_at = ?, updated_at = ? WHERE table_name = ?",
+                    LocalDateTime.now(), LocalDateTime.now(), TABLE);
+            log.info("Transaction partition backfill complete: {} rows copied", status.rowsCopied());
+            return 0;
+        }
+
+        UUID last = ids.get(ids.size() - 1);
+        int copied = jdbcTemplate.update(
+                "INSERT INTO " + SHADOW_TABLE + " SELECT * FROM " + TABLE + " WHERE id > ? AND id <= ? " +
+                "ON CONFLICT (id, transaction_date) DO NOTHING",
+                after, last);
+
+        jdbcTemplate.update(
+                "UPDATE partition_backfill_progress SET last_id = ?, rows_copied = rows_copied + ?, updated_at = ? " +
+                "WHERE table_name = ?",
+                last, copied, LocalDateTime.now(), TABLE);
+        return ids.size();
+    }
+
+    /**
+     * Swap the partitioned table in once the backfill is complete and row counts match.
+     *
+     * Counting happens before the exclusive lock is taken; the trigger keeps both tables equal
+     * from then on, so the lock is only held for the renames.
+     */
+    @Transactional
+    public void cutover() {
+        BackfillStatus status = lockStatus(false);
+        if (status.cutOver()) {
+            return;
+        }
+        if (!status.completed()) {
+            throw new BusinessException("Transaction partition backfill has not completed", "PARTITION_BACKFILL_INCOMPLETE");
+        }
+
+        long difference = countDifference();
+        if (difference != 0) {
+            throw new BusinessException(
+                    "Partitioned transactions differ from source by " + difference + " rows", "PARTITION_COUNT_MISMATCH");
+        }
+
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+        jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN ACCESS EXCLUSIVE MODE");
+
+        // Foreign keys from tags, attachments and splits cannot target (id) on a partitioned table;
+        // the reference triggers only replace single-column ON DELETE CASCADE keys
+        List<ReferencingKey> referencingKeys = jdbcTemplate.query(
+                "SELECT c.conrelid::regclass::text, c.conname, a.attname, " +
+                "c.confdeltype = 'c' AND cardinality(c.conkey) = 1 AS supported " +
+                "FROM pg_constraint c " +
+                "JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1] " +
+                "WHERE c.contype = 'f' AND c.confrelid = CAST(? AS regclass) AND c.conrelid <> c.confrelid",
+                (rs, rowNum) -> new ReferencingKey(
+                        rs.getString(1), rs.getString(2), rs.getString(3), rs.getBoolean(4)),
+                TABLE);
+        for (ReferencingKey key : referencingKeys) {
+            if (!key.supported()) {
+                throw new BusinessException("Foreign key " + key.constraint() + " on " + key.table() +
+                        " cannot be carried over to the partitioned table", "PARTITION_UNSUPPORTED_FOREIGN_KEY");
+            }
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DROP CONSTRAINT %s", key.table(), key.constraint()));
+        }
+
+        jdbcTemplate.execute("DROP TRIGGER trg_transactions_mirror ON " + TABLE);
+        jdbcTemplate.execute("DROP VIEW IF EXISTS vw_monthly_transaction_summary");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + LEGACY_TABLE);
+        jdbcTemplate.execute("ALTER TABLE " + SHADOW_TABLE + " RENAME TO " + TABLE);
+        jdbcTemplate.execute(
+                "CREATE VIEW vw_monthly_transaction_summary AS " +
+                "SELECT user_id, DATE_TRUNC('month', transaction_date) AS month, currency_code, " +
+                "SUM(CASE WHEN type = 'INCOME' THEN amount ELSE 0 END) AS total_income, " +
+                "SUM(CASE WHEN type = 'EXPENSE' THEN amount ELSE 0 END) AS total_expenses, " +
+                "COUNT(*) AS transaction_count " +
+                "FROM " + TABLE + " WHERE deleted = FALSE " +
+                "GROUP BY user_id, DATE_TRUNC('month', transaction_date), currency_code");
+
+        for (ReferencingKey key : referencingKeys) {
+            jdbcTemplate.execute(String.format(
+                    "CREATE TRIGGER trg_%1$s_transaction_ref BEFORE INSERT OR UPDATE OF %2$s ON %1$s " +
+                    "FOR EACH ROW EXECUTE FUNCTION transactions_check_reference('%2$s')",
+                    key.table(), key.column()));
+            jdbcTemplate.execute(String.format(
+                    "CREATE TRIGGER trg_transactions_cascade_%1$s AFTER DELETE ON %3$s " +
+                    "FOR EACH ROW EXECUTE FUNCTION transactions_cascade_delete('%1$s', '%2$s')",
+                    key.table(), key.column(), TABLE));
+        }
+
+        jdbcTemplate.update(
+                "UPDATE partition_backfill_progress SET cut_over_at = ?, updated_at = ? WHERE table_name = ?",
+                LocalDateTime.now(), LocalDateTime.now(), TABLE);
+        log.info("Transactions cut over to partitioned table; previous table kept as {}", LEGACY_TABLE);
+    }
+
+    /**
+     * Row count difference between source and shadow table (source minus shadow).
+     */
+    public long countDifference() {
+        Long difference = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM " + TABLE + ") - (SELECT COUNT(*) FROM " + SHADOW_TABLE + ")",
+                Long.class);
+        return difference != null ? difference : 0;
+    }
+
+    /**
+     * Number of rows that fell into the default partition, which should stay at zero.
+     */
+    public long countDefaultPartitionRows() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions_default", Long.class);
+        return count != null ? count : 0;
+    }
+
+    public BackfillStatus getStatus() {
+        return jdbcTemplate.queryForObject(STATUS_SQL, this::mapStatus, TABLE);
+    }
+
+    /**
+     * Lock the progress row for the rest of the transaction.
+     *
+     * @param skipLocked return null instead of waiting when another instance holds the row
+     */
+    private BackfillStatus lockStatus(boolean skipLocked) {
+        List<BackfillStatus> rows = jdbcTemplate.query(
+                STATUS_SQL + " FOR UPDATE" + (skipLocked ? " SKIP LOCKED" : ""), this::mapStatus, TABLE);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private BackfillStatus mapStatus(ResultSet rs, int rowNum) throws SQLException {
+        return new BackfillStatus(
+                rs.getObject("last_id", UUID.class),
+                rs.getLong("rows_copied"),
+                rs.getTimestamp("completed_at") != null,
+                rs.getTimestamp("cut_over_at") != null);
+    }
+
+    public boolean isCutOver() {
+        return getStatus().cutOver();
+    }
+
+    static LocalDate quarterStart(LocalDate date) {
+        int quarter = date.get(IsoFields.QUARTER_OF_YEAR);
+        return LocalDate.of(date.getYear(), (quarter - 1) * 3 + 1, 1);
+    }
+
+    static String partitionName(LocalDate quarterStart) {
+        return TABLE + "_p" + quarterStart.getYear() + "_q" + quarterStart.get(IsoFields.QUARTER_OF_YEAR);
+    }
+
+    public record BackfillStatus(UUID lastId, long rowsCopied, boolean completed, boolean cutOver) {
+    }
+
+    private record ReferencingKey(String table, String constraint, String column, boolean supported) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.budgettracker.service;
 
+import com.budgettracker.dto.response.TransactionRow;
 import com.budgettracker.entity.Transaction;
 import com.budgettracker.entity.Wallet;
 import com.budgettracker.entity.enums.TransactionType;
@@ -25,6 +26,8 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final WalletService walletService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final FxRateService fxRateService;
 
     @Transactional
     public Transaction createTransaction(UUID userId, Transaction transaction) {
@@ -37,8 +40,16 @@ public class TransactionService {
         // Set user
         transaction.setUser(wallet.getUser());
 
+        // Rate into the wallet currency comes from the FX rates; a client-supplied rate is only the last resort
+        if (transaction.getCurrencyCode() == null) {
+            transaction.setCurrencyCode(wallet.getCurrencyCode());
+        }
+        transaction.setExchangeRate(fxRateService.resolveRate(
+                transaction.getCurrencyCode(), wallet.getCurrencyCode(), transaction.getExchangeRate()));
+        transaction.calculateAmountInWalletCurrency();
+
         // Update wallet balance
-        BigDecimal amount = transaction.getAmount();
+        BigDecimal amount = transaction.getAmountInWalletCurrency();
         if (transaction.getType() == TransactionType.EXPENSE || transaction.getType() == TransactionType.TRANSFER) {
             amount = amount.negate();
         }
@@ -46,6 +57,7 @@ public class TransactionService {
         walletService.updateBalance(wallet.getId(), amount);
 
         transaction = transactionRepository.save(transaction);
+        cacheInvalidationService.evictReports(userId);
         log.info("Transaction created: {} for user: {}", transaction.getId(), userId);
 
         return transaction;
@@ -57,14 +69,22 @@ public class TransactionService {
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", transactionId));
     }
 
+    /**
+     * List rows for the user's transactions, for endpoints that stream rows straight to JSON
+     */
+    @Transactional(readOnly = true)
+    public Page<TransactionRow> getUserTransactionRows(UUID userId, Pageable pageable) {
+        return transactionRepository.findRowsByUserId(userId, pageable);
+    }
+
     @Transactional(readOnly = true)
-    public Page<Transaction> getUserTransactions(UUID userId, Pageable pageable) {
-        return transactionRepository.findByUserIdAndDeletedFalse(userId, pageable);
+    public Page<TransactionRow> getTransactionRowsByDateRange(UUID userId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return transactionRepository.findRowsByUserAndDateRange(userId, startDate, endDate, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Transaction> getTransactionsByDateRange(UUID userId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return transactionRepository.findByUserAndDateRange(userId, startDate, endDate, pageable);
+    public Page<TransactionRow> searchTransactionRows(UUID userId, String searchTerm, Pageable pageable) {
+        return transactionRepository.searchRows(userId, searchTerm, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -77,26 +97,21 @@ public class TransactionService {
         return transactionRepository.findByCategoryIdAndDeletedFalse(categoryId, pageable);
     }
 
-    @Transactional(readOnly = true)
-    public Page<Transaction> searchTransactions(UUID userId, String searchTerm, Pageable pageable) {
-        return transactionRepository.searchTransactions(userId, searchTerm, pageable);
-    }
-
     @Transactional
     public Transaction updateTransaction(UUID transactionId, Transaction updates) {
         Transaction transaction = getTransactionById(transactionId);
 
         // If amount or type changes, adjust wallet balance
         if (updates.getAmount() != null && !updates.getAmount().equals(transaction.getAmount())) {
-            // Revert old amount
-            BigDecimal oldAmount = transaction.getAmount();
+            // Revert old amount, converted at the rate recorded on the transaction
+            BigDecimal oldAmount = toWalletCurrency(transaction, transaction.getAmount());
             if (transaction.getType() == TransactionType.EXPENSE || transaction.getType() == TransactionType.TRANSFER) {
                 oldAmount = oldAmount.negate();
             }
             walletService.updateBalance(transaction.getWallet().getId(), oldAmount.negate());
 
             // Apply new amount
-            BigDecimal newAmount = updates.getAmount();
+            BigDecimal newAmount = toWalletCurrency(transaction, updates.getAmount());
             if (transaction.getType() == TransactionType.EXPENSE || transaction.getType() == TransactionType.TRANSFER) {
                 newAmount = newAmount.negate();
             }
@@ -112,7 +127,9 @@ public class TransactionService {
         if (updates.getMerchantName() != null) transaction.setMerchantName(updates.getMerchantName());
         if (updates.getLocation() != null) transaction.setLocation(updates.getLocation());
 
-        return transactionRepository.save(transaction);
+        transaction = transactionRepository.save(transaction);
+        cacheInvalidationService.evictReports(transaction.getUser().getId());
+        return transaction;
     }
 
     @Transactional
@@ -120,7 +137,7 @@ public class TransactionService {
         Transaction transaction = getTransactionById(transactionId);
 
         // Revert wallet balance
-        BigDecimal amount = transaction.getAmount();
+        BigDecimal amount = toWalletCurrency(transaction, transaction.getAmount());
         if (transaction.getType() == TransactionType.EXPENSE || transaction.getType() == TransactionType.TRANSFER) {
             amount = amount.negate();
         }
@@ -128,6 +145,7 @@ public class TransactionService {
 
         transaction.softDelete();
         transactionRepository.save(transaction);
+        cacheInvalidationService.evictReports(transaction.getUser().getId());
         log.info("Transaction deleted: {}", transactionId);
     }
 
@@ -153,4 +171,9 @@ public class TransactionService {
         transactionRepository.save(transaction);
         log.info("Transaction reconciled: {}", transactionId);
     }
+
+    private BigDecimal toWalletCurrency(Transaction transaction, BigDecimal amount) {
+        BigDecimal rate = transaction.getExchangeRate();
+        return rate == null ? amount : amount.multiply(rate);
+    }
 }
@@ -30,6 +30,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * Register a new user
@@ -109,6 +110,7 @@ public class UserService {
         }
         if (request.getCurrencyCode() != null) {
             user.setCurrencyCode(request.getCurrencyCode());
+            cacheInvalidationService.evictNetWorth(userId);
         }
 
         user = userRepository.save(user);
@@ -1,5 +1,7 @@
 package com.budgettracker.service;
 
+import com.budgettracker.config.CacheConfig;
+import com.budgettracker.dto.response.NetWorthResponse;
 import com.budgettracker.entity.User;
 import com.budgettracker.entity.Wallet;
 import com.budgettracker.entity.enums.WalletType;
@@ -8,11 +10,14 @@ import com.budgettracker.exception.ResourceNotFoundException;
 import com.budgettracker.repository.WalletRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Slf4j
@@ -22,6 +27,8 @@ public class WalletService {
 
     private final WalletRepository walletRepository;
     private final UserService userService;
+    private final FxRateService fxRateService;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Transactional
     public Wallet createWallet(UUID userId, Wallet wallet) {
@@ -34,6 +41,8 @@ public class WalletService {
         }
 
         wallet = walletRepository.save(wallet);
+        cacheInvalidationService.evictNetWorth(userId);
+        cacheInvalidationService.evictDashboard(userId);
         log.info("Wallet created: {} for user: {}", wallet.getId(), userId);
         return wallet;
     }
@@ -72,6 +81,8 @@ public class WalletService {
         Wallet wallet = getWalletById(walletId);
         wallet.softDelete();
         walletRepository.save(wallet);
+        cacheInvalidationService.evictNetWorth(wallet.getUser().getId());
+        cacheInvalidationService.evictDashboard(wallet.getUser().getId());
         log.info("Wallet deleted: {}", walletId);
     }
 
@@ -111,10 +122,29 @@ public class WalletService {
         log.info("Wallet unarchived: {}", walletId);
     }
 
+    /**
+     * Consolidated net worth in the user's currency.
+     *
+     * Balances are summed per currency in a single grouped query and converted through the
+     * in-memory FX table, so cost does not grow with the number of currencies held. The cache
+     * key includes the rate table timestamp, so a rate refresh is picked up without eviction.
+     */
+    @Cacheable(cacheNames = CacheConfig.NET_WORTH, key = "#userId + ':' + @fxRateService.currentTable.asOf")
     @Transactional(readOnly = true)
-    public BigDecimal getTotalBalance(UUID userId) {
-        BigDecimal total = walletRepository.calculateTotalBalance(userId);
-        return total != null ? total : BigDecimal.ZERO;
+    public NetWorthResponse getNetWorth(UUID userId) {
+        String currencyCode = userService.getUserById(userId).getCurrencyCode();
+
+        Map<String, BigDecimal> balancesByCurrency = new TreeMap<>();
+        for (Object[] row : walletRepository.sumBalancesByCurrency(userId)) {
+            balancesByCurrency.put((String) row[0], (BigDecimal) row[1]);
+        }
+
+        return NetWorthResponse.builder()
+                .currencyCode(currencyCode)
+                .total(fxRateService.convertAndSum(balancesByCurrency, currencyCode))
+                .balancesByCurrency(balancesByCurrency)
+                .ratesAsOf(fxRateService.getCurrentTable().getAsOf())
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -128,6 +158,8 @@ public class WalletService {
         Wallet wallet = getWalletById(walletId);
         wallet.updateBalance(amount);
         walletRepository.save(wallet);
+        cacheInvalidationService.evictNetWorth(wallet.getUser().getId());
+        cacheInvalidationService.evictDashboard(wallet.getUser().getId());
         log.info("Wallet balance updated: {} by {}", walletId, amount);
     }
 }
@@ -0,0 +1,179 @@
+package com.budgettracker.storage;
+
+import com.budgettracker.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Stores attachments on the local filesystem under {@code app.storage.local.root-dir}.
+ *
+ * Uploads are streamed to a temp file in the same directory tree while the SHA-256 is computed,
+ * then atomically moved to {@code objects/ab/cd/<sha256>}. If that path already exists the temp
+ * file is dropped, so identical content is stored once.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalStorageService implements StorageService {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[a-z0-9][a-z0-9/._-]*");
+
+    private final Path root;
+    private final Path tempDir;
+
+    public LocalStorageService(@Value("${app.storage.local.root-dir:./data/attachments}") String rootDir) throws IOException {
+        this.root = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.tempDir = root.resolve("tmp");
+        Files.createDirectories(tempDir);
+        log.info("Local attachment storage at {}", root);
+    }
+
+    @Override
+    public StoredObject store(InputStream content, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+
+        try {
+            long size;
+            try (InputStream in = new DigestInputStream(new LimitedInputStream(content, maxBytes), digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String key = "objects/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+            Path target = resolve(key);
+
+            if (Files.exists(target)) {
+                Files.delete(temp);
+                return new StoredObject(key, sha256, size, true);
+            }
+
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Same content uploaded concurrently; either copy is fine
+                Files.deleteIfExists(temp);
+                return new StoredObject(key, sha256, size, true);
+            }
+            return new StoredObject(key, sha256, size, false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public void storeAt(String key, InputStream content) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        Path temp = Files.createTempFile(tempDir, "derived-", ".part");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public Resource load(String key) {
+        return new FileSystemResource(resolve(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches() || key.contains("..")) {
+            throw new BusinessException("Invalid storage key", "STORAGE_KEY_INVALID");
+        }
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new BusinessException("Invalid storage key", "STORAGE_KEY_INVALID");
+        }
+        return path;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Fails the copy as soon as more than {@code maxBytes} have been read, so oversized
+     * uploads never land on disk in full.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long read;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            read += n;
+            if (read > maxBytes) {
+                throw new BusinessException("Upload exceeds the maximum size of " + maxBytes + " bytes", "UPLOAD_TOO_LARGE");
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.budgettracker.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Content-addressed attachment storage, selected by {@code app.storage.type}.
+ *
+ * Keys are derived from the SHA-256 of the content, so storing the same bytes twice yields
+ * the same key and one stored copy.
+ */
+public interface StorageService {
+
+    /**
+     * Stream content into storage, hashing it on the way
+     *
+     * @param maxBytes uploads larger than this are rejected without being stored
+     */
+    StoredObject store(InputStream content, long maxBytes) throws IOException;
+
+    /**
+     * Store content under a caller-chosen key (derived artefacts such as thumbnails)
+     */
+    void storeAt(String key, InputStream content) throws IOException;
+
+    Resource load(String key);
+
+    boolean exists(String key);
+
+    /**
+     * Local file backing a key, for zero-copy transfer; empty for remote stores
+     */
+    Optional<Path> localPath(String key);
+
+    /**
+     * Content is shared by every attachment with the same hash, so callers must first make sure
+     * no attachment still references the key
+     */
+    void delete(String key) throws IOException;
+}
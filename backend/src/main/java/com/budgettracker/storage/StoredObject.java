@@ -0,0 +1,12 @@
+package com.budgettracker.storage;
+
+/**
+ * Result of storing content
+ *
+ * @param key          storage key, derived from the content hash
+ * @param sha256       hex SHA-256 of the content
+ * @param size         content length in bytes
+ * @param deduplicated true if identical content was already stored and nothing new was written
+ */
+public record StoredObject(String key, String sha256, long size, boolean deduplicated) {
+}
@@ -0,0 +1,19 @@
+package com.budgettracker.sync;
+
+import java.util.Locale;
+
+/**
+ * Policy for fields that both the client and the server changed since the client's base version
+ * ({@code app.sync.conflict-resolution}).
+ */
+public enum ConflictResolution {
+
+    /** The most recent edit wins, by client edit time against the row's updated_at */
+    LAST_WRITE_WINS,
+    SERVER_WINS,
+    CLIENT_WINS;
+
+    public static ConflictResolution fromProperty(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
@@ -0,0 +1,33 @@
+package com.budgettracker.sync;
+
+/**
+ * Tables exposed through delta sync. Declaration order is part of the change ordering
+ * (change_seq, entity type, id), so new types must only be appended.
+ */
+public enum SyncEntityType {
+
+    WALLET("wallets", "user_id = ?"),
+    CATEGORY("categories", "(user_id = ? OR user_id IS NULL)"),
+    TAG("tags", "user_id = ?"),
+    BUDGET("budgets", "user_id = ?"),
+    TRANSACTION("transactions", "user_id = ?");
+
+    private final String table;
+    private final String ownerPredicate;
+
+    SyncEntityType(String table, String ownerPredicate) {
+        this.table = table;
+        this.ownerPredicate = ownerPredicate;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    /**
+     * Rows visible to one user; takes the user id as its single parameter
+     */
+    public String ownerPredicate() {
+        return ownerPredicate;
+    }
+}
@@ -0,0 +1,35 @@
+package com.budgettracker.sync;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A client-writable field of a synced entity, named after its column as in the change feed.
+ */
+public record SyncField<E>(String name, Class<?> type, Function<E, Object> getter, BiConsumer<E, Object> setter) {
+
+    @SuppressWarnings("unchecked")
+    public static <E, V> SyncField<E> of(String name, Class<V> type, Function<E, V> getter, BiConsumer<E, V> setter) {
+        return new SyncField<>(name, type, (Function<E, Object>) getter, (entity, value) -> setter.accept(entity, (V) value));
+    }
+
+    public Object get(E entity) {
+        return getter.apply(entity);
+    }
+
+    public void set(E entity, Object value) {
+        setter.accept(entity, value);
+    }
+
+    /**
+     * Value equality that ignores BigDecimal scale, so 10.5 and 10.50 are the same amount
+     */
+    public static boolean sameValue(Object a, Object b) {
+        if (a instanceof BigDecimal x && b instanceof BigDecimal y) {
+            return x.compareTo(y) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+}
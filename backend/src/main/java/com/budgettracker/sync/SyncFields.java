@@ -0,0 +1,82 @@
+package com.budgettracker.sync;
+
+import com.budgettracker.entity.Budget;
+import com.budgettracker.entity.Category;
+import com.budgettracker.entity.Tag;
+import com.budgettracker.entity.Transaction;
+import com.budgettracker.entity.Wallet;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fields a client may change through a sync push, per entity type. Balances, currencies,
+ * ownership and references stay server-managed and are only changed through the regular API.
+ */
+public final class SyncFields {
+
+    private static final Map<SyncEntityType, Map<String, SyncField<?>>> FIELDS = new EnumMap<>(SyncEntityType.class);
+
+    static {
+        register(SyncEntityType.WALLET, List.of(
+                SyncField.of("name", String.class, Wallet::getName, Wallet::setName),
+                SyncField.of("description", String.class, Wallet::getDescription, Wallet::setDescription),
+                SyncField.of("icon", String.class, Wallet::getIcon, Wallet::setIcon),
+                SyncField.of("color", String.class, Wallet::getColor, Wallet::setColor),
+                SyncField.of("display_order", Integer.class, Wallet::getDisplayOrder, Wallet::setDisplayOrder),
+                SyncField.of("is_archived", Boolean.class, Wallet::getIsArchived, Wallet::setIsArchived),
+                SyncField.of("exclude_from_totals", Boolean.class, Wallet::getExcludeFromTotals, Wallet::setExcludeFromTotals)));
+
+        register(SyncEntityType.CATEGORY, List.of(
+                SyncField.of("name", String.class, Category::getName, Category::setName),
+                SyncField.of("description", String.class, Category::getDescription, Category::setDescription),
+                SyncField.of("icon", String.class, Category::getIcon, Category::setIcon),
+                SyncField.of("color", String.class, Category::getColor, Category::setColor),
+                SyncField.of("display_order", Integer.class, Category::getDisplayOrder, Category::setDisplayOrder),
+                SyncField.of("is_active", Boolean.class, Category::getIsActive, Category::setIsActive)));
+
+        register(SyncEntityType.TAG, List.of(
+                SyncField.of("name", String.class, Tag::getName, Tag::setName),
+                SyncField.of("color", String.class, Tag::getColor, Tag::setColor),
+                SyncField.of("description", String.class, Tag::getDescription, Tag::setDescription)));
+
+        register(SyncEntityType.BUDGET, List.of(
+                SyncField.of("name", String.class, Budget::getName, Budget::setName),
+                SyncField.of("description", String.class, Budget::getDescription, Budget::setDescription),
+                SyncField.of("amount", BigDecimal.class, Budget::getAmount, Budget::setAmount),
+                SyncField.of("alert_threshold", BigDecimal.class, Budget::getAlertThreshold, Budget::setAlertThreshold),
+                SyncField.of("alert_enabled", Boolean.class, Budget::getAlertEnabled, Budget::setAlertEnabled),
+                SyncField.of("rollover_enabled", Boolean.class, Budget::getRolloverEnabled, Budget::setRolloverEnabled),
+                SyncField.of("color", String.class, Budget::getColor, Budget::setColor)));
+
+        // amount changes are turned into wallet balance deltas by SyncPushService
+        register(SyncEntityType.TRANSACTION, List.of(
+                SyncField.of("amount", BigDecimal.class, Transaction::getAmount, Transaction::setAmount),
+                SyncField.of("transaction_date", LocalDate.class, Transaction::getTransactionDate, Transaction::setTransactionDate),
+                SyncField.of("description", String.class, Transaction::getDescription, Transaction::setDescription),
+                SyncField.of("notes", String.class, Transaction::getNotes, Transaction::setNotes),
+                SyncField.of("merchant_name", String.class, Transaction::getMerchantName, Transaction::setMerchantName),
+                SyncField.of("location", String.class, Transaction::getLocation, Transaction::setLocation)));
+    }
+
+    private SyncFields() {
+    }
+
+    /**
+     * Writable field {@code name} of {@code type}, or null when the client may not change it
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> SyncField<E> find(SyncEntityType type, String name) {
+        return (SyncField<E>) FIELDS.get(type).get(name);
+    }
+
+    private static void register(SyncEntityType type, List<? extends SyncField<?>> fields) {
+        Map<String, SyncField<?>> byName = new LinkedHashMap<>();
+        fields.forEach(field -> byName.put(field.name(), field));
+        FIELDS.put(type, byName);
+    }
+}
@@ -0,0 +1,12 @@
+package com.budgettracker.sync;
+
+public enum SyncPushOutcome {
+    /** No concurrent server change; every client field was applied */
+    APPLIED,
+    /** Concurrent server change; non-overlapping fields merged and overlaps resolved by policy */
+    MERGED,
+    /** Concurrent server change; the policy kept the server state for every conflicting field */
+    SERVER_WON,
+    /** Not applied: unknown row, not owned by the user, or unsupported field */
+    REJECTED
+}
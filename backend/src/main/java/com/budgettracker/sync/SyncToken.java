@@ -0,0 +1,52 @@
+package com.budgettracker.sync;
+
+import com.budgettracker.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in the change feed: the last change served, ordered by
+ * (change_seq, entity type, id), plus when the token was issued.
+ */
+public record SyncToken(long changeSeq, int entityOrdinal, UUID id, Instant issuedAt) {
+
+    private static final String VERSION = "v1";
+
+    /**
+     * Position before every change, used for an initial sync
+     */
+    public static SyncToken initial() {
+        return new SyncToken(-1, -1, null, Instant.now());
+    }
+
+    public String encode() {
+        String raw = String.join(":", VERSION, Long.toString(changeSeq), Integer.toString(entityOrdinal),
+                id != null ? id.toString() : "", Long.toString(issuedAt.getEpochSecond()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported token format");
+            }
+            return new SyncToken(Long.parseLong(parts[1]), Integer.parseInt(parts[2]),
+                    parts[3].isEmpty() ? null : UUID.fromString(parts[3]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[4])));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid sync token", "SYNC_TOKEN_INVALID");
+        }
+    }
+
+    public SyncToken advanceTo(long changeSeq, int entityOrdinal, UUID id) {
+        return new SyncToken(changeSeq, entityOrdinal, id, Instant.now());
+    }
+
+    public SyncToken reissue() {
+        return new SyncToken(changeSeq, entityOrdinal, id, Instant.now());
+    }
+}
@@ -0,0 +1,21 @@
+package com.budgettracker.util;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry delays for the outbox-style workers (notification dispatch, attachment processing).
+ */
+public class RetryBackoff {
+
+    /**
+     * Exponential backoff with +/-20% jitter so retries from one burst do not realign.
+     * The first attempt waits {@code baseSeconds}; each later one doubles, up to {@code maxSeconds}.
+     */
+    public static Duration delay(int attempt, long baseSeconds, long maxSeconds) {
+        long exponential = baseSeconds << Math.min(Math.max(attempt - 1, 0), 20);
+        long capped = Math.min(exponential, maxSeconds);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * 1000 * jitter));
+    }
+}
@@ -0,0 +1,30 @@
+-- Budget Tracker Application - Attachment Processing Jobs
+-- Version: 1.0.10
+-- Description: Persisted job state for the asynchronous attachment processing pipeline
+
+-- ============================================================================
+-- ATTACHMENT PROCESSING JOBS
+-- ============================================================================
+-- One row per attachment and stage. next_attempt_at doubles as the lease: a claimed job is
+-- pushed forward by the lease length, so a crashed worker's job becomes claimable again.
+CREATE TABLE attachment_processing_jobs (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    attachment_id UUID NOT NULL REFERENCES transaction_attachments(id) ON DELETE CASCADE,
+    stage VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    max_attempts INTEGER NOT NULL DEFAULT 3,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    duration_ms BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_attachment_job_stage UNIQUE (attachment_id, stage),
+    CONSTRAINT chk_attachment_job_status CHECK (status IN ('PENDING', 'RUNNING', 'SUCCEEDED', 'FAILED'))
+);
+
+-- Only claimable rows are ever scanned by the worker
+CREATE INDEX idx_attachment_job_due ON attachment_processing_jobs(next_attempt_at)
+    WHERE status IN ('PENDING', 'RUNNING');
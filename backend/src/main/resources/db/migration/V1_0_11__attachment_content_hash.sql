@@ -0,0 +1,12 @@
+-- Budget Tracker Application - Attachment Content Hash
+-- Version: 1.0.11
+-- Description: SHA-256 of attachment content for content-addressed, deduplicated storage
+
+ALTER TABLE transaction_attachments ADD COLUMN content_hash VARCHAR(64);
+
+-- Archive rows are copied column-for-column from the hot table, so the archive needs it too
+ALTER TABLE transaction_attachments_archive ADD COLUMN content_hash VARCHAR(64);
+
+-- Used to decide whether stored content is still referenced before removing it
+CREATE INDEX idx_attachment_content_hash ON transaction_attachments(content_hash)
+    WHERE content_hash IS NOT NULL;
@@ -0,0 +1,62 @@
+-- Budget Tracker Application - Delta Sync Change Sequence
+-- Version: 1.0.12
+-- Description: change_seq on synced tables, stamped by trigger with the writing transaction's id
+
+-- change_seq holds the 64-bit id of the transaction that last wrote the row. Transaction ids
+-- are handed out in increasing order, and every id below the snapshot xmin belongs to a
+-- finished transaction, so a reader that only serves change_seq < xmin never skips a row that
+-- commits later with a lower value. A plain sequence cannot give that guarantee because
+-- sequence order is not commit order.
+--
+-- The columns default to 0 so the ALTERs do not rewrite the tables; existing rows are part of
+-- every client's initial sync anyway.
+
+-- ============================================================================
+-- STAMPING FUNCTION
+-- ============================================================================
+-- Inserts that already carry a value (partition mirror and backfill, archive restore) keep it.
+CREATE OR REPLACE FUNCTION stamp_change_seq() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' OR NEW.change_seq = 0 THEN
+        NEW.change_seq := CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================================
+-- SYNCED TABLES
+-- ============================================================================
+ALTER TABLE transactions ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE wallets ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE categories ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE budgets ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tags ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE TRIGGER trg_transactions_change_seq BEFORE INSERT OR UPDATE ON transactions
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_seq();
+CREATE TRIGGER trg_wallets_change_seq BEFORE INSERT OR UPDATE ON wallets
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_seq();
+CREATE TRIGGER trg_categories_change_seq BEFORE INSERT OR UPDATE ON categories
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_seq();
+CREATE TRIGGER trg_budgets_change_seq BEFORE INSERT OR UPDATE ON budgets
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_seq();
+CREATE TRIGGER trg_tags_change_seq BEFORE INSERT OR UPDATE ON tags
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_seq();
+
+-- ============================================================================
+-- PARTITIONED SHADOW AND ARCHIVES
+-- ============================================================================
+-- The shadow (V1_0_6) is filled with SELECT (NEW).*, so its columns must stay in the same
+-- order as transactions. It gets the trigger too, so it keeps stamping after cutover.
+ALTER TABLE transactions_partitioned ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+CREATE TRIGGER trg_transactions_p_change_seq BEFORE INSERT OR UPDATE ON transactions_partitioned
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_seq();
+
+-- Archive rows are copied column-for-column from the hot tables
+ALTER TABLE transactions_archive ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE budgets_archive ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+-- CONCURRENTLY is not supported on partitioned parents; the shadow is indexed here
+CREATE INDEX IF NOT EXISTS idx_transactions_p_sync
+    ON transactions_partitioned(user_id, change_seq, id);
@@ -0,0 +1,11 @@
+-- Budget Tracker Application - Delta Sync Indexes
+-- Version: 1.0.13
+-- Description: (user_id, change_seq, id) indexes serving GET /api/sync/changes
+--              Runs outside a transaction (see .sql.conf) so tables are indexed CONCURRENTLY
+
+-- Each sync page is one range scan per table: user_id = ? AND (change_seq, id) > cursor
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transaction_sync ON transactions(user_id, change_seq, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_wallet_sync ON wallets(user_id, change_seq, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_category_sync ON categories(user_id, change_seq, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_budget_sync ON budgets(user_id, change_seq, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tag_sync ON tags(user_id, change_seq, id);
@@ -0,0 +1,44 @@
+-- Budget Tracker Application - Transaction Partitioning (Phase 2: Reference Triggers)
+-- Version: 1.0.14
+-- Description: Trigger functions that take over from the foreign keys on transactions(id) once
+--              TransactionPartitionService cuts over, since a partitioned table cannot be
+--              referenced by id alone. The cutover attaches them; nothing uses them before that.
+
+-- ============================================================================
+-- REFERENCING SIDE
+-- ============================================================================
+-- BEFORE INSERT OR UPDATE on a referencing table; TG_ARGV[0] is the referencing column.
+-- FOR KEY SHARE blocks a concurrent delete of the transaction, as a foreign key check would.
+CREATE OR REPLACE FUNCTION transactions_check_reference() RETURNS TRIGGER AS $$
+DECLARE
+    ref UUID;
+BEGIN
+    EXECUTE format('SELECT ($1).%I', TG_ARGV[0]) INTO ref USING NEW;
+    IF ref IS NOT NULL THEN
+        PERFORM 1 FROM transactions WHERE id = ref FOR KEY SHARE;
+        IF NOT FOUND THEN
+            RAISE EXCEPTION 'insert or update on table "%" violates reference to transactions', TG_TABLE_NAME
+                USING ERRCODE = 'foreign_key_violation',
+                      DETAIL = format('Key (%s)=(%s) is not present in table "transactions".', TG_ARGV[0], ref);
+        END IF;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================================
+-- REFERENCED SIDE
+-- ============================================================================
+-- AFTER DELETE on transactions; TG_ARGV[0] and TG_ARGV[1] are the referencing table and column.
+-- An UPDATE that moves a row to another quarter runs as delete + insert, so the cascade is
+-- skipped while the id still exists.
+CREATE OR REPLACE FUNCTION transactions_cascade_delete() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM 1 FROM transactions WHERE id = OLD.id;
+    IF FOUND THEN
+        RETURN NULL;
+    END IF;
+    EXECUTE format('DELETE FROM %I WHERE %I = $1', TG_ARGV[0], TG_ARGV[1]) USING OLD.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
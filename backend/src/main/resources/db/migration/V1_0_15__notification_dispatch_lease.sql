@@ -0,0 +1,24 @@
+-- Budget Tracker Application - Notification Dispatch Lease
+-- Version: 1.0.15
+-- Description: Separate lease column for claimed notifications, so claiming no longer overwrites
+--              scheduled_for, and an UNKNOWN status for sends whose outcome could not be observed
+
+-- ============================================================================
+-- DISPATCH LEASE
+-- ============================================================================
+-- Set when a dispatcher claims the row, cleared when the outcome is recorded; an expired lease
+-- makes the row claimable again if the claiming node died mid-send
+ALTER TABLE notifications ADD COLUMN leased_until TIMESTAMP;
+
+-- Archival copies rows column for column, so the archive table needs the column too
+ALTER TABLE notifications_archive ADD COLUMN leased_until TIMESTAMP;
+
+-- ============================================================================
+-- UNKNOWN OUTCOME
+-- ============================================================================
+-- A send that timed out may still have reached the provider, so it is parked instead of retried.
+-- NOT VALID skips the scan of existing rows while the ACCESS EXCLUSIVE lock is held; V1_0_16
+-- validates them in a separate transaction, which only needs a lock that lets writes continue.
+ALTER TABLE notifications DROP CONSTRAINT chk_notification_status;
+ALTER TABLE notifications ADD CONSTRAINT chk_notification_status
+    CHECK (status IN ('PENDING', 'SENT', 'DELIVERED', 'FAILED', 'CANCELLED', 'UNKNOWN')) NOT VALID;
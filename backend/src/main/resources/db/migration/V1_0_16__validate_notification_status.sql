@@ -0,0 +1,7 @@
+-- Budget Tracker Application - Validate Notification Status Constraint
+-- Version: 1.0.16
+-- Description: Checks existing rows against chk_notification_status, added NOT VALID in V1_0_15
+
+-- Its own migration, so it commits separately from the ADD CONSTRAINT: VALIDATE takes
+-- SHARE UPDATE EXCLUSIVE, so inserts and updates continue while the table is scanned
+ALTER TABLE notifications VALIDATE CONSTRAINT chk_notification_status;
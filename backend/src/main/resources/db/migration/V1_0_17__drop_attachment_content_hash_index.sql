@@ -0,0 +1,8 @@
+-- Budget Tracker Application - Drop Attachment Content Hash Index
+-- Version: 1.0.17
+-- Description: Removes idx_attachment_content_hash from V1_0_11, which no query reads
+--              Runs outside a transaction (see .sql.conf) so the drop does not block writes
+
+-- Stored objects are never removed, so nothing needs to ask whether a hash is still referenced.
+-- Whoever adds content removal can add the index back together with that check.
+DROP INDEX CONCURRENTLY IF EXISTS idx_attachment_content_hash;
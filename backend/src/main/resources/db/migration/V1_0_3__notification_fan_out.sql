@@ -0,0 +1,17 @@
+-- Budget Tracker Application - Notification Fan-out Support
+-- Version: 1.0.3
+-- Description: Deduplication key for generated notifications and indexes for the daily reminder sweep
+
+-- ============================================================================
+-- NOTIFICATIONS DEDUPLICATION
+-- ============================================================================
+ALTER TABLE notifications ADD COLUMN dedup_key VARCHAR(200);
+
+-- One generated notification per (source, occurrence, channel); manual notifications leave it NULL
+CREATE UNIQUE INDEX uk_notification_dedup_key ON notifications(dedup_key) WHERE dedup_key IS NOT NULL;
+
+-- ============================================================================
+-- REMINDER SWEEP INDEXES
+-- ============================================================================
+CREATE INDEX idx_subscription_trial_end ON subscriptions(free_trial_end_date)
+    WHERE free_trial = TRUE AND deleted = FALSE;
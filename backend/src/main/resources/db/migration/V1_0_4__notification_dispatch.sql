@@ -0,0 +1,7 @@
+-- Budget Tracker Application - Notification Dispatch Support
+-- Version: 1.0.4
+-- Description: Index backing the dispatcher's SKIP LOCKED claim query
+
+-- Only pending rows are ever claimed, so keep the index limited to them
+CREATE INDEX idx_notification_pending_schedule ON notifications(scheduled_for NULLS FIRST)
+    WHERE status = 'PENDING' AND deleted = FALSE;
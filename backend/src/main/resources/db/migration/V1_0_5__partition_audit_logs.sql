@@ -0,0 +1,68 @@
+-- Budget Tracker Application - Audit Log Partitioning
+-- Version: 1.0.5
+-- Description: Convert audit_logs to monthly range partitions on timestamp so retention is a partition drop
+
+-- ============================================================================
+-- PARTITIONED AUDIT LOGS
+-- ============================================================================
+-- The partition key must be part of the primary key on a partitioned table
+CREATE TABLE audit_logs_partitioned (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    user_id UUID,
+    username VARCHAR(100),
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id UUID,
+    action VARCHAR(50) NOT NULL,
+    old_value JSONB,
+    new_value JSONB,
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(500),
+    session_id VARCHAR(255),
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    success BOOLEAN NOT NULL DEFAULT TRUE,
+    error_message VARCHAR(1000),
+    metadata JSONB,
+    request_id VARCHAR(100),
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+-- Catches rows outside every monthly partition; the partition manager keeps it empty
+CREATE TABLE audit_logs_default PARTITION OF audit_logs_partitioned DEFAULT;
+
+-- One partition per month from the oldest existing row up to three months ahead
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := CAST(date_trunc('month', CURRENT_DATE) + INTERVAL '3 months' AS DATE);
+BEGIN
+    SELECT CAST(date_trunc('month', COALESCE(MIN(timestamp), CURRENT_TIMESTAMP)) AS DATE)
+      INTO month_start
+      FROM audit_logs;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF audit_logs_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'audit_logs_p' || to_char(month_start, 'YYYY_MM'),
+            month_start,
+            CAST(month_start + INTERVAL '1 month' AS DATE));
+        month_start := CAST(month_start + INTERVAL '1 month' AS DATE);
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs_partitioned
+SELECT id, user_id, username, entity_type, entity_id, action, old_value, new_value, ip_address,
+       user_agent, session_id, timestamp, success, error_message, metadata, request_id
+  FROM audit_logs;
+
+DROP TABLE audit_logs;
+ALTER TABLE audit_logs_partitioned RENAME TO audit_logs;
+
+-- ============================================================================
+-- INDEXES (created on the parent, cascaded to every partition)
+-- ============================================================================
+-- Timestamp lookups are served by partition pruning plus the per-partition index
+CREATE INDEX idx_audit_user_id ON audit_logs(user_id, timestamp DESC);
+CREATE INDEX idx_audit_entity ON audit_logs(entity_type, entity_id);
+CREATE INDEX idx_audit_action ON audit_logs(action);
+CREATE INDEX idx_audit_timestamp ON audit_logs(timestamp);
+CREATE INDEX idx_audit_ip_address ON audit_logs(ip_address);
@@ -0,0 +1,99 @@
+-- Budget Tracker Application - Transaction Partitioning (Phase 1: Shadow Table)
+-- Version: 1.0.6
+-- Description: Quarterly range-partitioned shadow of transactions kept in sync by trigger and
+--              backfilled online by TransactionPartitionService, which performs the final swap
+
+-- ============================================================================
+-- PARTITIONED SHADOW TABLE
+-- ============================================================================
+-- LIKE keeps the column order identical, so rows can be copied with SELECT *
+CREATE TABLE transactions_partitioned (
+    LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE,
+    PRIMARY KEY (id, transaction_date)
+) PARTITION BY RANGE (transaction_date);
+
+-- parent_transaction_id cannot reference a partitioned key on id alone; it stays application-enforced
+ALTER TABLE transactions_partitioned
+    ADD CONSTRAINT fk_transactions_p_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_transactions_p_wallet FOREIGN KEY (wallet_id) REFERENCES wallets(id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_transactions_p_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE SET NULL,
+    ADD CONSTRAINT fk_transactions_p_recurring FOREIGN KEY (recurring_template_id)
+        REFERENCES recurring_transactions(id) ON DELETE SET NULL,
+    ADD CONSTRAINT fk_transactions_p_from_wallet FOREIGN KEY (from_wallet_id) REFERENCES wallets(id) ON DELETE SET NULL,
+    ADD CONSTRAINT fk_transactions_p_to_wallet FOREIGN KEY (to_wallet_id) REFERENCES wallets(id) ON DELETE SET NULL,
+    ADD CONSTRAINT fk_transactions_p_subscription FOREIGN KEY (subscription_id)
+        REFERENCES subscriptions(id) ON DELETE SET NULL;
+
+-- Catches dates outside every quarterly partition; the partition manager keeps it empty
+CREATE TABLE transactions_default PARTITION OF transactions_partitioned DEFAULT;
+
+-- One partition per quarter from the oldest transaction up to a year ahead
+DO $$
+DECLARE
+    quarter_start DATE;
+    last_quarter DATE := CAST(date_trunc('quarter', CURRENT_DATE) + INTERVAL '1 year' AS DATE);
+BEGIN
+    SELECT CAST(date_trunc('quarter', COALESCE(MIN(transaction_date), CURRENT_DATE)) AS DATE)
+      INTO quarter_start
+      FROM transactions;
+
+    WHILE quarter_start <= last_quarter LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF transactions_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'transactions_p' || to_char(quarter_start, 'YYYY') || '_q' || to_char(quarter_start, 'Q'),
+            quarter_start,
+            CAST(quarter_start + INTERVAL '3 months' AS DATE));
+        quarter_start := CAST(quarter_start + INTERVAL '3 months' AS DATE);
+    END LOOP;
+END $$;
+
+-- ============================================================================
+-- INDEXES (created on the parent, cascaded to every partition)
+-- ============================================================================
+-- Partition pruning replaces the standalone transaction_date index; id lookups use the primary key
+CREATE INDEX idx_transactions_p_user_date ON transactions_partitioned(user_id, transaction_date DESC);
+CREATE INDEX idx_transactions_p_wallet ON transactions_partitioned(wallet_id, transaction_date DESC);
+CREATE INDEX idx_transactions_p_category ON transactions_partitioned(category_id);
+CREATE INDEX idx_transactions_p_parent ON transactions_partitioned(parent_transaction_id)
+    WHERE parent_transaction_id IS NOT NULL;
+CREATE INDEX idx_transactions_p_subscription ON transactions_partitioned(subscription_id)
+    WHERE subscription_id IS NOT NULL;
+CREATE INDEX idx_transactions_p_bank_id ON transactions_partitioned(bank_transaction_id)
+    WHERE bank_transaction_id IS NOT NULL;
+
+-- ============================================================================
+-- WRITE MIRRORING
+-- ============================================================================
+-- Every change to transactions is replayed onto the shadow table in the same transaction.
+-- Delete-then-insert handles updates that move a row to another quarter.
+CREATE OR REPLACE FUNCTION transactions_mirror_to_partitioned() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM transactions_partitioned
+         WHERE id = OLD.id AND transaction_date = OLD.transaction_date;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO transactions_partitioned SELECT (NEW).*
+            ON CONFLICT (id, transaction_date) DO NOTHING;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_transactions_mirror
+    AFTER INSERT OR UPDATE OR DELETE ON transactions
+    FOR EACH ROW EXECUTE FUNCTION transactions_mirror_to_partitioned();
+
+-- ============================================================================
+-- BACKFILL PROGRESS
+-- ============================================================================
+CREATE TABLE partition_backfill_progress (
+    table_name VARCHAR(100) PRIMARY KEY,
+    last_id UUID,
+    rows_copied BIGINT NOT NULL DEFAULT 0,
+    completed_at TIMESTAMP,
+    cut_over_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO partition_backfill_progress (table_name) VALUES ('transactions');
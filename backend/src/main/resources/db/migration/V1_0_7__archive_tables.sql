@@ -0,0 +1,77 @@
+-- Budget Tracker Application - Cold Storage Archive Tables
+-- Version: 1.0.7
+-- Description: Append-only *_archive tables that receive soft-deleted and aged rows from the hot tables
+
+-- ============================================================================
+-- ARCHIVE TABLES
+-- ============================================================================
+-- Columns mirror the hot table (check constraints and foreign keys deliberately omitted so
+-- archived rows never block schema changes or deletes on the hot side) plus archived_at.
+-- Rows are only ever appended or removed on restore, so pages are packed full.
+CREATE TABLE transactions_archive (
+    LIKE transactions INCLUDING DEFAULTS,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+CREATE TABLE transaction_tags_archive (
+    LIKE transaction_tags INCLUDING DEFAULTS,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (transaction_id, tag_id)
+) WITH (fillfactor = 100);
+
+CREATE TABLE transaction_attachments_archive (
+    LIKE transaction_attachments INCLUDING DEFAULTS,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+CREATE TABLE transaction_splits_archive (
+    LIKE transaction_splits INCLUDING DEFAULTS,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+CREATE TABLE notifications_archive (
+    LIKE notifications INCLUDING DEFAULTS,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+CREATE TABLE budgets_archive (
+    LIKE budgets INCLUDING DEFAULTS,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+CREATE TABLE savings_goals_archive (
+    LIKE savings_goals INCLUDING DEFAULTS,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+CREATE TABLE category_rules_archive (
+    LIKE category_rules INCLUDING DEFAULTS,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+-- ============================================================================
+-- INDEXES
+-- ============================================================================
+CREATE INDEX idx_transactions_archive_user_date ON transactions_archive(user_id, transaction_date);
+CREATE INDEX idx_transaction_tags_archive_tag ON transaction_tags_archive(tag_id);
+CREATE INDEX idx_transaction_attachments_archive_txn ON transaction_attachments_archive(transaction_id);
+CREATE INDEX idx_transaction_splits_archive_parent ON transaction_splits_archive(parent_transaction_id);
+CREATE INDEX idx_notifications_archive_user ON notifications_archive(user_id);
+CREATE INDEX idx_budgets_archive_user ON budgets_archive(user_id);
+CREATE INDEX idx_savings_goals_archive_user ON savings_goals_archive(user_id);
+CREATE INDEX idx_category_rules_archive_user ON category_rules_archive(user_id);
+
+-- ============================================================================
+-- HOT TABLE SELECTION INDEXES
+-- ============================================================================
+-- Lets each archival chunk find its oldest soft-deleted rows without scanning live data
+CREATE INDEX idx_transaction_deleted_at ON transactions(deleted_at) WHERE deleted = TRUE;
+CREATE INDEX idx_notification_deleted_at ON notifications(deleted_at) WHERE deleted = TRUE;
+CREATE INDEX idx_transactions_p_deleted_at ON transactions_partitioned(deleted_at) WHERE deleted = TRUE;
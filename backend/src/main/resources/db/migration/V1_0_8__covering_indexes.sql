@@ -0,0 +1,70 @@
+-- Budget Tracker Application - Covering Index Rework
+-- Version: 1.0.8
+-- Description: Composite partial indexes matching repository predicates; drops low-selectivity single-column indexes
+--              Runs outside a transaction (see .sql.conf) so regular tables are indexed CONCURRENTLY
+
+-- ============================================================================
+-- TRANSACTIONS
+-- ============================================================================
+-- Report aggregates: user + type + date range over completed, live rows.
+-- INCLUDE columns make sums by category and wallet index-only.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transaction_report_covering
+    ON transactions(user_id, type, transaction_date)
+    INCLUDE (amount_in_wallet_currency, category_id, wallet_id)
+    WHERE deleted = FALSE AND status = 'COMPLETED';
+
+-- Listings and recent/top-N feeds: user + date ordering over live rows
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transaction_user_date_live
+    ON transactions(user_id, transaction_date DESC, created_at DESC)
+    WHERE deleted = FALSE;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_transaction_user_date;
+DROP INDEX CONCURRENTLY IF EXISTS idx_transaction_type;
+DROP INDEX CONCURRENTLY IF EXISTS idx_transaction_status;
+DROP INDEX CONCURRENTLY IF EXISTS idx_transaction_deleted;
+DROP INDEX CONCURRENTLY IF EXISTS idx_transaction_date;
+
+-- Partitioned shadow (V1_0_6): CONCURRENTLY is not supported on partitioned parents.
+-- This runs in the same deploy that starts the backfill, while the shadow is still small.
+CREATE INDEX IF NOT EXISTS idx_transactions_p_report_covering
+    ON transactions_partitioned(user_id, type, transaction_date)
+    INCLUDE (amount_in_wallet_currency, category_id, wallet_id)
+    WHERE deleted = FALSE AND status = 'COMPLETED';
+
+-- ============================================================================
+-- WALLETS
+-- ============================================================================
+-- Total balance queries filter user + exclude_from_totals + currency and sum balance
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_wallet_user_live_covering
+    ON wallets(user_id)
+    INCLUDE (balance, currency_code, exclude_from_totals, type)
+    WHERE deleted = FALSE;
+
+-- Bank sync sweep only looks at sync-enabled wallets
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_wallet_sync_due
+    ON wallets(last_synced_at NULLS FIRST)
+    WHERE sync_enabled = TRUE AND deleted = FALSE;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_wallet_user_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_wallet_type;
+DROP INDEX CONCURRENTLY IF EXISTS idx_wallet_currency;
+DROP INDEX CONCURRENTLY IF EXISTS idx_wallet_is_default;
+DROP INDEX CONCURRENTLY IF EXISTS idx_wallet_deleted;
+
+-- ============================================================================
+-- BUDGETS
+-- ============================================================================
+-- Active budget lookups: user + period bounds over live ACTIVE rows
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_budget_user_active
+    ON budgets(user_id, end_date)
+    INCLUDE (start_date)
+    WHERE deleted = FALSE AND status = 'ACTIVE';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_budget_user_live
+    ON budgets(user_id)
+    WHERE deleted = FALSE;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_budget_user_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_budget_status;
+DROP INDEX CONCURRENTLY IF EXISTS idx_budget_period;
+DROP INDEX CONCURRENTLY IF EXISTS idx_budget_deleted;
@@ -0,0 +1,21 @@
+-- Budget Tracker Application - FX Rate Snapshots
+-- Version: 1.0.9
+-- Description: Local history of exchange rates fetched from the configured FX provider
+
+-- ============================================================================
+-- FX RATE SNAPSHOTS
+-- ============================================================================
+-- One row per quote currency per refresh; rates are quoted as 1 base = rate quote
+CREATE TABLE fx_rate_snapshots (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    base_currency VARCHAR(3) NOT NULL,
+    quote_currency VARCHAR(3) NOT NULL,
+    rate DECIMAL(19, 8) NOT NULL,
+    as_of TIMESTAMP NOT NULL,
+    provider VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_fx_rate_snapshot UNIQUE (base_currency, quote_currency, as_of),
+    CONSTRAINT chk_fx_rate_positive CHECK (rate > 0)
+);
+
+CREATE INDEX idx_fx_rate_as_of ON fx_rate_snapshots(as_of DESC);
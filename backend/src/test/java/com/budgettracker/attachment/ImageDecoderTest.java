@@ -0,0 +1,101 @@
+package com.budgettracker.attachment;
+
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageDecoderTest {
+
+    private final ImageDecoder decoder = new ImageDecoder(10_000_000);
+
+    @Test
+    void imagesWithinTheLimitDecodeAtFullResolution() throws IOException {
+        BufferedImage image = decoder.read(png(300, 200), "image/png");
+
+        assertThat(image.getWidth()).isEqualTo(300);
+        assertThat(image.getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    void oversizedImagesAreRejectedFromTheirHeader() {
+        // A valid PNG header for 40000x40000 with no pixel data: decoding would fail, so the
+        // rejection must come from the declared size
+        byte[] bomb = pngHeader(40_000, 40_000);
+
+        assertThatThrownBy(() -> decoder.read(bomb, "image/png"))
+                .isInstanceOf(NonRetryableProcessingException.class)
+                .hasMessageContaining("40000x40000");
+    }
+
+    @Test
+    void largeImagesAreSubsampledTowardsTheTarget() throws IOException {
+        BufferedImage image = decoder.read(png(2000, 1000), "image/png", 100);
+
+        // Every 10th pixel, keeping twice the target
+        assertThat(image.getWidth()).isEqualTo(200);
+        assertThat(image.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    void unknownFormatsAreNotRetried() {
+        assertThatThrownBy(() -> decoder.read("plain text".getBytes(StandardCharsets.UTF_8), "image/x-unknown"))
+                .isInstanceOf(NonRetryableProcessingException.class);
+    }
+
+    @Test
+    void pdfPagesAreSizedFromTheMediaBoxAndRenderDpi() {
+        PDPage a4 = new PDPage(PDRectangle.A4);
+        PDPage poster = new PDPage(new PDRectangle(14_400, 14_400));
+
+        // A4 at 300 dpi is about 8.7 million pixels; a 200 inch square page at 72 dpi is 207 million
+        assertThatCode(() -> decoder.checkPage(a4, 300)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> decoder.checkPage(poster, 72))
+                .isInstanceOf(NonRetryableProcessingException.class);
+        assertThatThrownBy(() -> decoder.checkPage(a4, 600))
+                .isInstanceOf(NonRetryableProcessingException.class);
+    }
+
+    static byte[] png(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17)
+                .put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width)
+                .putInt(height)
+                .put((byte) 8)   // bit depth
+                .put((byte) 2)   // truecolour
+                .put((byte) 0)
+                .put((byte) 0)
+                .put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        return ByteBuffer.allocate(8 + 4 + 17 + 4)
+                .put(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})
+                .putInt(13)
+                .put(ihdr.array())
+                .putInt((int) crc.getValue())
+                .array();
+    }
+}
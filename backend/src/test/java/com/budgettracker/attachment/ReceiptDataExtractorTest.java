@@ -0,0 +1,112 @@
+package com.budgettracker.attachment;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptDataExtractorTest {
+
+    private final ReceiptDataExtractor extractor = new ReceiptDataExtractor();
+
+    @Test
+    void labelledTotalWinsOverTheLargestAmount() {
+        ReceiptData data = extractor.extract("""
+                CORNER CAFE
+                Latte          4.50
+                Bagel          3.25
+                TOTAL          7.75
+                Cash          20.00
+                Change        12.25
+                """);
+
+        assertThat(data.totalAmount()).isEqualByComparingTo("7.75");
+    }
+
+    @Test
+    void largestAmountIsUsedWithoutATotalLabel() {
+        ReceiptData data = extractor.extract("""
+                Hardware Store
+                Screws         2.10
+                Drill      1,249.99
+                Tape           5.00
+                """);
+
+        assertThat(data.totalAmount()).isEqualByComparingTo("1249.99");
+    }
+
+    @Test
+    void subtotalAndTaxLinesAreNotTakenAsTheTotal() {
+        ReceiptData data = extractor.extract("""
+                Book Shop
+                Subtotal      20.00
+                Total        21.60
+                Total VAT      1.60
+                Sub-total     20.00
+                """);
+
+        assertThat(data.totalAmount()).isEqualByComparingTo("21.60");
+    }
+
+    @Test
+    void lastLabelledTotalIsTheGrandTotal() {
+        ReceiptData data = extractor.extract("""
+                Fuel Station
+                Total fuel    40.00
+                Grand total   42.50
+                """);
+
+        assertThat(data.totalAmount()).isEqualByComparingTo("42.50");
+    }
+
+    @Test
+    void commonDateFormatsAreRecognised() {
+        assertThat(extractor.extract("Shop\n2024-03-05\n").date()).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(extractor.extract("Shop\n05/03/2024\n").date()).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(extractor.extract("Shop\n05.03.2024\n").date()).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(extractor.extract("Shop\n5 March 2024\n").date()).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(extractor.extract("Shop\nMar 5, 2024\n").date()).isEqualTo(LocalDate.of(2024, 3, 5));
+    }
+
+    @Test
+    void futureDatesAreTreatedAsMisreads() {
+        // Two-digit years parse into 2000-2099, so 99 is read as 2099
+        assertThat(extractor.extract("Shop\n31/12/99\n").date()).isNull();
+        assertThat(extractor.extract("Shop\nPrinted 01/01/2999\nSold 2024-01-15\n").date())
+                .isEqualTo(LocalDate.of(2024, 1, 15));
+    }
+
+    @Test
+    void merchantIsTheFirstTextLineNearTheTop() {
+        ReceiptData data = extractor.extract("""
+
+                12/03/2024
+                ** 42 **
+                Green Grocer Ltd
+                Apples         3.20
+                """);
+
+        assertThat(data.merchant()).isEqualTo("Green Grocer Ltd");
+    }
+
+    @Test
+    void merchantIsOnlySearchedInTheFirstLines() {
+        ReceiptData data = extractor.extract("""
+                1.00
+                2.00
+                3.00
+                4.00
+                5.00
+                Late Heading
+                """);
+
+        assertThat(data.merchant()).isNull();
+    }
+
+    @Test
+    void blankTextYieldsNothing() {
+        assertThat(extractor.extract("  ")).isEqualTo(new ReceiptData(null, null, null));
+        assertThat(extractor.extract(null)).isEqualTo(new ReceiptData(null, null, null));
+    }
+}
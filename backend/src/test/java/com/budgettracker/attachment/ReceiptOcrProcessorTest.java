@@ -0,0 +1,19 @@
+package com.budgettracker.attachment;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReceiptOcrProcessorTest {
+
+    // No tessdata here: the size check has to reject the image before Tesseract is reached
+    private final ReceiptOcrProcessor processor = new ReceiptOcrProcessor(new ReceiptDataExtractor(),
+            new ImageDecoder(1_000_000), "/nonexistent/tessdata", "eng", 3, 300, 100_000);
+
+    @Test
+    void oversizedImagesAreNotRetried() {
+        assertThatThrownBy(() -> processor.process(ImageDecoderTest.pngHeader(20_000, 20_000), "receipt.png"))
+                .isInstanceOf(NonRetryableProcessingException.class)
+                .hasMessageContaining("pixel limit");
+    }
+}
@@ -0,0 +1,134 @@
+package com.budgettracker.attachment;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThumbnailGeneratorTest {
+
+    private final ThumbnailGenerator generator = new ThumbnailGenerator(100, 0.8f, 72, new ImageDecoder(10_000_000));
+
+    @Test
+    void imageIsScaledToFitKeepingItsAspectRatio() throws IOException {
+        BufferedImage thumbnail = decode(generator.generate(png(1000, 500, 0xFF336699), "receipt.png"));
+
+        assertThat(thumbnail.getWidth()).isEqualTo(100);
+        assertThat(thumbnail.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void smallImageIsNotUpscaled() throws IOException {
+        BufferedImage thumbnail = decode(generator.generate(png(40, 30, 0xFF336699), "receipt.png"));
+
+        assertThat(thumbnail.getWidth()).isEqualTo(40);
+        assertThat(thumbnail.getHeight()).isEqualTo(30);
+    }
+
+    @Test
+    void transparentAreasBecomeWhite() throws IOException {
+        BufferedImage thumbnail = decode(generator.generate(png(200, 200, 0x00000000), "receipt.png"));
+
+        int rgb = thumbnail.getRGB(50, 50);
+        assertThat((rgb >> 16) & 0xFF).isGreaterThan(240);
+        assertThat((rgb >> 8) & 0xFF).isGreaterThan(240);
+        assertThat(rgb & 0xFF).isGreaterThan(240);
+    }
+
+    @Test
+    void firstPdfPageIsRendered() throws IOException {
+        BufferedImage thumbnail = decode(generator.generate(pdf(), "statement.pdf"));
+
+        // A4 portrait
+        assertThat(thumbnail.getHeight()).isEqualTo(100);
+        assertThat(thumbnail.getWidth()).isEqualTo(71);
+    }
+
+    @Test
+    void unsupportedTypesAreNotRetried() {
+        byte[] text = "not an image".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> generator.generate(text, "notes.txt"))
+                .isInstanceOf(NonRetryableProcessingException.class);
+    }
+
+    @Test
+    void corruptImagesAreNotRetried() {
+        byte[] truncated = Arrays.copyOf(png(50, 50, 0xFF336699), 40);
+
+        assertThatThrownBy(() -> generator.generate(truncated, "receipt.png"))
+                .isInstanceOf(NonRetryableProcessingException.class);
+    }
+
+    @Test
+    void oversizedSourcesAreRejectedBeforeDecoding() throws IOException {
+        assertThatThrownBy(() -> generator.generate(ImageDecoderTest.pngHeader(50_000, 50_000), "receipt.png"))
+                .isInstanceOf(NonRetryableProcessingException.class)
+                .hasMessageContaining("pixel limit");
+        byte[] poster = pdf(new PDRectangle(50_000, 50_000));
+        assertThatThrownBy(() -> generator.generate(poster, "poster.pdf"))
+                .isInstanceOf(NonRetryableProcessingException.class)
+                .hasMessageContaining("pixel limit");
+    }
+
+    @Test
+    void keysAreSharedByIdenticalContent() {
+        String hash = "ab".repeat(32);
+
+        assertThat(generator.keyFor(UUID.randomUUID(), hash))
+                .isEqualTo(generator.keyFor(UUID.randomUUID(), hash))
+                .isEqualTo("thumbnails/ab/ab/" + hash + "-100.jpg");
+
+        UUID attachmentId = UUID.randomUUID();
+        assertThat(generator.keyFor(attachmentId, null))
+                .isEqualTo("thumbnails/attachments/" + attachmentId + "-100.jpg");
+    }
+
+    private static byte[] png(int width, int height, int argb) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] pdf() throws IOException {
+        return pdf(PDRectangle.A4);
+    }
+
+    private static byte[] pdf(PDRectangle pageSize) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage(pageSize));
+            document.addPage(new PDPage(pageSize));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static BufferedImage decode(byte[] jpeg) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertThat(image).isNotNull();
+        return image;
+    }
+}
@@ -0,0 +1,59 @@
+package com.budgettracker.audit;
+
+import com.budgettracker.entity.AuditLog;
+import com.budgettracker.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {"app.audit.enabled=true", "app.audit.flush-interval-ms=100"})
+class AuditLogWriterIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void flushedBatchIsCommitted() throws InterruptedException {
+        String requestId = UUID.randomUUID().toString();
+        List<AuditLog> records = IntStream.range(0, 25)
+                .mapToObj(i -> AuditLog.builder()
+                        .entityType("Transaction")
+                        .entityId(UUID.randomUUID())
+                        .action("CREATE")
+                        .newValue("{\"amount\": " + i + "}")
+                        .timestamp(LocalDateTime.now())
+                        .success(true)
+                        .requestId(requestId)
+                        .build())
+                .toList();
+
+        records.forEach(record -> assertThat(auditLogWriter.enqueue(record)).isTrue());
+
+        // Read back on a separate connection, so only committed rows are visible
+        long deadline = System.currentTimeMillis() + 10_000;
+        Integer stored = 0;
+        while (System.currentTimeMillis() < deadline) {
+            stored = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM audit_logs WHERE request_id = ?", Integer.class, requestId);
+            if (stored == records.size()) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+        assertThat(stored).isEqualTo(records.size());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT new_value ->> 'amount' FROM audit_logs WHERE request_id = ? AND new_value ->> 'amount' = '24'",
+                String.class, requestId)).isEqualTo("24");
+    }
+}
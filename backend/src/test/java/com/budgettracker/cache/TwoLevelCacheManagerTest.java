@@ -0,0 +1,125 @@
+package com.budgettracker.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheManagerTest {
+
+    private static final String CACHE = "reports.dashboard";
+
+    private final RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+    private final RedisCache l2 = mock(RedisCache.class);
+    private final RedisCacheWriter redisWriter = mock(RedisCacheWriter.class);
+    private final CacheInvalidationPublisher publisher = mock(CacheInvalidationPublisher.class);
+    private TwoLevelCacheManager cacheManager;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisCacheManager.getCache(CACHE)).thenReturn(l2);
+        when(l2.getCacheConfiguration()).thenReturn(RedisCacheConfiguration.defaultCacheConfig());
+        when(l2.getNativeCache()).thenReturn(redisWriter);
+        when(publisher.getNodeId()).thenReturn("node-a");
+        cacheManager = new TwoLevelCacheManager(redisCacheManager, publisher, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(1), Map.of());
+        cache = (TwoLevelCache) cacheManager.getCache(CACHE);
+    }
+
+    @Test
+    void l2HitIsKeptInL1() {
+        when(l2.get("user:1")).thenReturn(new SimpleValueWrapper("summary"));
+
+        assertThat(cache.get("user:1").get()).isEqualTo("summary");
+        assertThat(cache.get("user:1").get()).isEqualTo("summary");
+
+        verify(l2, times(1)).get("user:1");
+    }
+
+    @Test
+    void writesGoToBothTiersAndAreBroadcast() {
+        cache.put("user:1", "summary");
+
+        verify(l2).put("user:1", "summary");
+        verify(publisher).publishKey(CACHE, "user:1");
+        assertThat(cache.get("user:1").get()).isEqualTo("summary");
+
+        cache.evict("user:1");
+
+        verify(l2).evict("user:1");
+        verify(publisher, times(2)).publishKey(CACHE, "user:1");
+        assertThat(cache.get("user:1")).isNull();
+    }
+
+    @Test
+    void prefixEvictionCleansRedisAndIsBroadcast() {
+        cache.put("user:1", "a");
+        cache.put("user:2", "b");
+        cache.put("other:1", "c");
+
+        cache.evictByPrefix("user:");
+
+        verify(redisWriter).clean(CACHE, (CACHE + "::user:*").getBytes(StandardCharsets.UTF_8));
+        verify(publisher).publishPrefix(CACHE, "user:");
+        assertThat(cache.get("user:1")).isNull();
+        assertThat(cache.get("other:1").get()).isEqualTo("c");
+    }
+
+    @Test
+    void invalidationFromAnotherNodeDropsOnlyTheL1Copy() {
+        cache.put("user:1", "a");
+        cache.put("user:2", "b");
+        cache.put("other:1", "c");
+
+        receive("node-b|" + CACHE + "|PREFIX|user:");
+
+        assertThat(cache.get("user:1")).isNull();
+        assertThat(cache.get("user:2")).isNull();
+        assertThat(cache.get("other:1").get()).isEqualTo("c");
+        verify(l2, times(0)).evict("user:1");
+
+        receive("node-b|" + CACHE + "|KEY|other:1");
+
+        assertThat(cache.get("other:1")).isNull();
+    }
+
+    @Test
+    void clearFromAnotherNodeEmptiesL1() {
+        cache.put("user:1", "a");
+
+        receive("node-b|" + CACHE + "|CLEAR|");
+
+        assertThat(cache.get("user:1")).isNull();
+    }
+
+    @Test
+    void ownInvalidationsAreIgnored() {
+        cache.put("user:1", "a");
+
+        receive("node-a|" + CACHE + "|CLEAR|");
+
+        assertThat(cache.get("user:1").get()).isEqualTo("a");
+    }
+
+    private void receive(String body) {
+        cacheManager.onMessage(new DefaultMessage(
+                CacheInvalidationPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
@@ -0,0 +1,75 @@
+package com.budgettracker.config;
+
+import com.budgettracker.audit.AuditEntityListener;
+import com.budgettracker.audit.AuditLogWriter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FastStartConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = FastStartConfig.criticalBeansExcludeFilter();
+
+    @Test
+    void infrastructureStaysEager() {
+        assertThat(isEager(HikariDataSource.class)).isTrue();
+        assertThat(isEager(CaffeineCacheManager.class)).isTrue();
+    }
+
+    @Test
+    void beansWithScheduledMethodsStayEager() {
+        assertThat(isEager(Job.class)).isTrue();
+        assertThat(isEager(InheritedJob.class)).isTrue();
+    }
+
+    @Test
+    void beansThatRegisterSideEffectsOnCreationStayEager() {
+        // Registers its Hibernate post-commit listeners in @PostConstruct and nothing injects it
+        assertThat(isEager(AuditEntityListener.class)).isTrue();
+        assertThat(isEager(AuditLogWriter.class)).isTrue();
+        assertThat(isEager(Listener.class)).isTrue();
+        assertThat(isEager(TransactionalListener.class)).isTrue();
+    }
+
+    @Test
+    void everythingElseIsLazy() {
+        assertThat(isEager(Plain.class)).isFalse();
+    }
+
+    private boolean isEager(Class<?> beanType) {
+        return filter.isExcluded("bean", null, beanType);
+    }
+
+    static class Job {
+        @Scheduled(fixedDelay = 1000)
+        void run() {
+        }
+    }
+
+    static class InheritedJob extends Job {
+    }
+
+    static class Listener {
+        @EventListener(ApplicationReadyEvent.class)
+        void onReady() {
+        }
+    }
+
+    static class TransactionalListener {
+        @TransactionalEventListener
+        void afterCommit(Object event) {
+        }
+    }
+
+    static class Plain {
+        void run() {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.budgettracker.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeatureAutoConfigurationFilterTest {
+
+    private static final String KAFKA = "org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration";
+    private static final String KAFKA_METRICS =
+            "org.springframework.boot.actuate.autoconfigure.metrics.KafkaMetricsAutoConfiguration";
+    private static final String REDIS = "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration";
+
+    @Test
+    void disabledFeatureSkipsItsAutoConfigurations() {
+        boolean[] matches = filter(new MockEnvironment().withProperty("app.features.event-streaming", "false"))
+                .match(new String[] {KAFKA, REDIS, null, KAFKA_METRICS}, null);
+
+        assertThat(matches).containsExactly(false, true, true, false);
+    }
+
+    @Test
+    void featuresAreOnUnlessSwitchedOff() {
+        assertThat(filter(new MockEnvironment()).match(new String[] {KAFKA, KAFKA_METRICS}, null))
+                .containsExactly(true, true);
+        assertThat(filter(new MockEnvironment().withProperty("app.features.event-streaming", "true"))
+                .match(new String[] {KAFKA}, null))
+                .containsExactly(true);
+    }
+
+    @Test
+    void registeredAsAnImportFilter() {
+        assertThat(SpringFactoriesLoader.loadFactories(AutoConfigurationImportFilter.class, getClass().getClassLoader()))
+                .hasAtLeastOneElementOfType(FeatureAutoConfigurationFilter.class);
+    }
+
+    private static FeatureAutoConfigurationFilter filter(MockEnvironment environment) {
+        FeatureAutoConfigurationFilter filter = new FeatureAutoConfigurationFilter();
+        filter.setEnvironment(environment);
+        return filter;
+    }
+}
@@ -0,0 +1,79 @@
+package com.budgettracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VirtualThreadConfigTest {
+
+    private final HikariDataSource hikari = mock(HikariDataSource.class);
+    private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DataSource guarded;
+
+    @BeforeEach
+    void wrapPool() {
+        when(hikari.getMaximumPoolSize()).thenReturn(10);
+        when(hikari.getPoolName()).thenReturn("main");
+        when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        ObjectProvider<MeterRegistry> registry = beanFactory.getBeanProvider(MeterRegistry.class);
+        BeanPostProcessor guard = VirtualThreadConfig.connectionAdmissionGuard(
+                new MockEnvironment().withProperty("app.datasource.max-waiters-per-connection", "2"), registry);
+
+        guarded = (DataSource) guard.postProcessAfterInitialization(hikari, "dataSource");
+    }
+
+    @Test
+    void onlyHikariPoolsAreWrapped() {
+        DataSource other = mock(DataSource.class);
+        BeanPostProcessor guard = VirtualThreadConfig.connectionAdmissionGuard(
+                new MockEnvironment(), new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+        assertThat(guarded).isInstanceOf(VirtualThreadConfig.AdmissionControlledDataSource.class);
+        assertThat(guard.postProcessAfterInitialization(other, "other")).isSameAs(other);
+    }
+
+    @Test
+    void requestsBelowTheWaiterLimitJoinThePool() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(19);
+        when(hikari.getConnection()).thenReturn(connection);
+
+        assertThat(guarded.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    void requestsBeyondTheWaiterLimitAreRejectedImmediately() throws Exception {
+        // 10 connections x 2 waiters per connection
+        when(pool.getThreadsAwaitingConnection()).thenReturn(20);
+
+        assertThatThrownBy(guarded::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("saturated");
+
+        verify(hikari, never()).getConnection();
+        assertThat(meterRegistry.counter("hikaricp.connections.rejected", "pool", "main").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.budgettracker.controller;
+
+import com.budgettracker.security.UserPrincipal;
+import com.budgettracker.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.budgettracker.support.StatementBudget.assertMaxStatements;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the most requested endpoints. The seeded user has enough wallets,
+ * categories and transactions that a per-row lazy load would blow the budget.
+ */
+@AutoConfigureMockMvc
+class HotEndpointStatementBudgetIT extends PostgresIntegrationTest {
+
+    private static final int TRANSACTIONS = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void seedUser() {
+        UUID userId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+            List<UUID> wallets = List.of(UUID.randomUUID(), UUID.randomUUID());
+            for (UUID walletId : wallets) {
+                jdbcTemplate.update("INSERT INTO wallets (id, user_id, name, type, balance) " +
+                        "VALUES (?, ?, 'Wallet', 'CASH', 1000)", walletId, userId);
+            }
+            List<UUID> categories = jdbcTemplate.queryForList(
+                    "SELECT id FROM categories WHERE type = 'EXPENSE' LIMIT 3", UUID.class);
+            for (int i = 0; i < TRANSACTIONS; i++) {
+                jdbcTemplate.update(
+                        "INSERT INTO transactions (user_id, wallet_id, category_id, type, amount, " +
+                        "amount_in_wallet_currency, currency_code, transaction_date) " +
+                        "VALUES (?, ?, ?, 'EXPENSE', 10, 10, 'USD', CURRENT_DATE - ?)",
+                        userId, wallets.get(i % wallets.size()), categories.get(i % categories.size()), i % 20);
+            }
+        });
+        principal = new UserPrincipal(userId, userId + "@example.com", null, null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), true, true);
+    }
+
+    @Test
+    void transactionListStaysWithinBudget() throws Exception {
+        assertMaxStatements(2, () -> mockMvc.perform(get("/api/transactions").param("size", "20")
+                        .with(user(principal))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(20));
+    }
+
+    @Test
+    void dashboardStaysWithinBudget() throws Exception {
+        // Includes the user lookup for the net worth currency
+        assertMaxStatements(7, () -> mockMvc.perform(get("/api/reports/dashboard").with(user(principal))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void spendingByCategoryStaysWithinBudget() throws Exception {
+        assertMaxStatements(1, () -> mockMvc.perform(get("/api/reports/spending-by-category")
+                        .with(user(principal))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void monthlyTrendsStayWithinBudget() throws Exception {
+        // Income and expense sums per month, six months by default
+        assertMaxStatements(12, () -> mockMvc.perform(get("/api/reports/trends").with(user(principal))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void recentTransactionsStayWithinBudget() throws Exception {
+        assertMaxStatements(1, () -> mockMvc.perform(get("/api/reports/recent-transactions")
+                        .param("limit", "20").with(user(principal))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(20));
+    }
+}
@@ -0,0 +1,107 @@
+package com.budgettracker.dto;
+
+import com.budgettracker.dto.response.TransactionResponse;
+import com.budgettracker.dto.response.TransactionRow;
+import com.budgettracker.entity.enums.TransactionStatus;
+import com.budgettracker.entity.enums.TransactionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingPageResponseTest {
+
+    // Same settings as spring.jackson in application.yml, plus the JacksonConfig module
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .timeZone(TimeZone.getTimeZone("UTC"))
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new BlackbirdModule())
+            .build();
+
+    @Test
+    void writesTheSameJsonAsTheMappedResponse() throws Exception {
+        TransactionRow complete = row(new BigDecimal("1.000000"), "Weekly shop", "Aisle 4",
+                LocalDateTime.of(2024, 3, 2, 9, 15, 30, 123_456_789));
+        // Null fields are left out, and a whole-minute time keeps its seconds
+        TransactionRow sparse = row(null, null, null, null);
+        List<TransactionRow> rows = List.of(complete, sparse);
+        PageRequest pageable = PageRequest.of(2, 2);
+
+        String expected = objectMapper.writeValueAsString(ApiResponse.success(PageResponse.of(
+                new PageImpl<>(rows.stream().map(StreamingPageResponseTest::toResponse).toList(), pageable, 41))));
+        String actual = objectMapper.writeValueAsString(
+                new StreamingPageResponse<>(new PageImpl<>(rows, pageable, 41), TransactionRow::write));
+
+        assertThat(withoutTimestamp(actual)).isEqualTo(withoutTimestamp(expected));
+        JsonNode tree = objectMapper.readTree(actual);
+        assertThat(tree.path("timestamp").asText()).isNotEmpty();
+        assertThat(tree.path("data").path("content").get(1).has("notes")).isFalse();
+    }
+
+    @Test
+    void emptyPageKeepsThePageMetadata() throws Exception {
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        String expected = objectMapper.writeValueAsString(
+                ApiResponse.success(PageResponse.of(new PageImpl<TransactionResponse>(List.of(), pageable, 0))));
+        String actual = objectMapper.writeValueAsString(
+                new StreamingPageResponse<TransactionRow>(new PageImpl<>(List.of(), pageable, 0), TransactionRow::write));
+
+        assertThat(withoutTimestamp(actual)).isEqualTo(withoutTimestamp(expected));
+        assertThat(objectMapper.readTree(actual).path("data").path("empty").asBoolean()).isTrue();
+    }
+
+    /**
+     * Compared as text, so field order and number formatting (1.000000, not 1.0) must match too
+     */
+    private static String withoutTimestamp(String json) {
+        return json.replaceAll("\"timestamp\":\"[^\"]*\"", "");
+    }
+
+    private static TransactionRow row(BigDecimal exchangeRate, String notes, String location, LocalDateTime updatedAt) {
+        return new TransactionRow(UUID.randomUUID(), UUID.randomUUID(), "Checking", UUID.randomUUID(), "Groceries",
+                TransactionType.EXPENSE, new BigDecimal("42.50"), "USD", exchangeRate, new BigDecimal("42.50"),
+                LocalDate.of(2024, 3, 1), "Whole Foods", notes, "Whole Foods Market", location,
+                TransactionStatus.COMPLETED, false, true, LocalDateTime.of(2024, 3, 1, 12, 0), updatedAt);
+    }
+
+    private static TransactionResponse toResponse(TransactionRow row) {
+        return TransactionResponse.builder()
+                .id(row.id())
+                .walletId(row.walletId())
+                .walletName(row.walletName())
+                .categoryId(row.categoryId())
+                .categoryName(row.categoryName())
+                .type(row.type().name())
+                .amount(row.amount())
+                .currencyCode(row.currencyCode())
+                .exchangeRate(row.exchangeRate())
+                .amountInWalletCurrency(row.amountInWalletCurrency())
+                .transactionDate(row.transactionDate())
+                .description(row.description())
+                .notes(row.notes())
+                .merchantName(row.merchantName())
+                .location(row.location())
+                .status(row.status().name())
+                .isReconciled(row.isReconciled())
+                .hasAttachments(row.hasAttachments())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+}
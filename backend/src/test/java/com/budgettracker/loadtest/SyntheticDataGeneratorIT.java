@@ -0,0 +1,178 @@
+package com.budgettracker.loadtest;
+
+import com.budgettracker.entity.Transaction;
+import com.budgettracker.repository.TransactionRepository;
+import com.budgettracker.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Runs scripts/load-test/generate-data.sh against the test database through psql. Skipped
+ * where no psql client is installed.
+ */
+class SyntheticDataGeneratorIT extends PostgresIntegrationTest {
+
+    private static final Path SCRIPT = Path.of("..", "scripts", "load-test", "generate-data.sh");
+    private static final UUID FIRST_USER = UUID.fromString("10ad0001-0000-4000-8000-000000000001");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @BeforeAll
+    static void requirePsql() {
+        assumeThat(run(List.of("psql", "--version"), Map.of()).exitCode()).as("psql available").isZero();
+    }
+
+    @BeforeEach
+    @AfterEach
+    void clean() {
+        assertSucceeded(generator("clean", Map.of()));
+    }
+
+    @Test
+    void seedsConsistentDataAndCleansItUp() {
+        assertSucceeded(generator("seed", Map.of("USERS", "3", "TRANSACTIONS_PER_USER", "40", "DAYS", "30")));
+
+        assertThat(count("SELECT COUNT(*) FROM users WHERE CAST(id AS TEXT) LIKE '10ad0001-%'")).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM wallets WHERE CAST(user_id AS TEXT) LIKE '10ad0001-%'"))
+                .isBetween(3, 12);
+        // Activity varies 0.5x-1.5x per user
+        assertThat(count("SELECT COUNT(*) FROM transactions WHERE CAST(user_id AS TEXT) LIKE '10ad0001-%'"))
+                .isBetween(60, 180);
+        assertThat(count("SELECT COUNT(*) FROM transactions WHERE CAST(user_id AS TEXT) LIKE '10ad0001-%' " +
+                "AND (amount < 0.5 OR transaction_date > CURRENT_DATE OR transaction_date < CURRENT_DATE - 30)"))
+                .isZero();
+        assertThat(count("SELECT COUNT(*) FROM wallets w WHERE CAST(w.user_id AS TEXT) LIKE '10ad0001-%' " +
+                "AND w.balance <> w.initial_balance + COALESCE((SELECT SUM(CASE WHEN t.type = 'INCOME' " +
+                "THEN t.amount ELSE -t.amount END) FROM transactions t WHERE t.wallet_id = w.id), 0)"))
+                .isZero();
+
+        // The rows map onto the entities the endpoints under load read
+        List<Transaction> recent = transactionTemplate.execute(status ->
+                transactionRepository.findTopNByUserId(FIRST_USER, 5));
+        assertThat(recent).isNotEmpty().allSatisfy(transaction -> {
+            assertThat(transaction.getCategory()).isNotNull();
+            assertThat(transaction.getTransactionDate()).isAfterOrEqualTo(LocalDate.now().minusDays(30));
+        });
+
+        assertSucceeded(generator("clean", Map.of()));
+        assertThat(count("SELECT COUNT(*) FROM users WHERE CAST(id AS TEXT) LIKE '10ad0001-%'")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM transactions WHERE CAST(user_id AS TEXT) LIKE '10ad0001-%'")).isZero();
+    }
+
+    @Test
+    void sameSeedGivesTheSameData() {
+        Map<String, String> settings = Map.of("USERS", "2", "TRANSACTIONS_PER_USER", "25", "SEED", "7");
+
+        assertSucceeded(generator("seed", settings));
+        String first = fingerprint();
+        assertSucceeded(generator("clean", Map.of()));
+        assertSucceeded(generator("seed", settings));
+
+        assertThat(fingerprint()).isEqualTo(first);
+    }
+
+    @Test
+    void refusesToSeedTwice() {
+        Map<String, String> settings = Map.of("USERS", "1", "TRANSACTIONS_PER_USER", "5");
+
+        assertSucceeded(generator("seed", settings));
+        Result second = generator("seed", settings);
+        assertThat(second.exitCode()).as(second.output()).isNotZero();
+    }
+
+    private String fingerprint() {
+        return jdbcTemplate.queryForObject(
+                "SELECT md5(string_agg(CONCAT_WS(',', id, wallet_id, category_id, type, amount, transaction_date, " +
+                "merchant_name), ';' ORDER BY id)) FROM transactions WHERE CAST(user_id AS TEXT) LIKE '10ad0001-%'",
+                String.class);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    private static void assertSucceeded(Result result) {
+        assertThat(result.exitCode()).as(result.output()).isZero();
+    }
+
+    private Result generator(String command, Map<String, String> settings) {
+        URI database = URI.create(url.substring("jdbc:".length()));
+        String psql = String.join(" ", "psql", "-h", database.getHost(), "-p", Integer.toString(database.getPort()),
+                "-U", username, "-d", database.getPath().substring(1));
+
+        Map<String, String> environment = new HashMap<>(settings);
+        environment.put("PSQL", psql);
+        environment.put("PGPASSWORD", password);
+        return run(List.of("bash", SCRIPT.toString(), command), environment);
+    }
+
+    /**
+     * Output goes to a file rather than a pipe, so a chatty process cannot block on a full pipe
+     * and the timeout applies however much it prints.
+     */
+    private static Result run(List<String> command, Map<String, String> environment) {
+        Path output = null;
+        try {
+            output = Files.createTempFile("generate-data-", ".log");
+            ProcessBuilder builder = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile());
+            builder.environment().putAll(environment);
+
+            Process process = builder.start();
+            if (!process.waitFor(2, TimeUnit.MINUTES)) {
+                process.destroyForcibly();
+                return new Result(-1, "Timed out after 2 minutes: " + command + "\n" + Files.readString(output));
+            }
+            return new Result(process.exitValue(), Files.readString(output));
+        } catch (IOException e) {
+            return new Result(-1, "Could not run " + command + ": " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(-1, "Interrupted while running " + command);
+        } finally {
+            if (output != null) {
+                output.toFile().delete();
+            }
+        }
+    }
+
+    private record Result(int exitCode, String output) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.budgettracker.metrics;
+
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.repository.TransactionRepository;
+import com.budgettracker.service.WalletService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotPathMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HotPathMetricsAspect aspect = new HotPathMetricsAspect(meterRegistry);
+
+    @Test
+    void serviceCallsAreTimedByClassAndMethod() throws Throwable {
+        ProceedingJoinPoint joinPoint = serviceCall("getNetWorth");
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertThat(aspect.timeService(joinPoint)).isEqualTo("result");
+
+        assertThat(meterRegistry.get("app.service.invocations")
+                .tags("class", "WalletService", "method", "getNetWorth", "exception", "none")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedServiceCallsAreTaggedWithTheException() throws Throwable {
+        ProceedingJoinPoint joinPoint = serviceCall("getWalletById");
+        when(joinPoint.proceed()).thenThrow(new BusinessException("Wallet not found", "WALLET_NOT_FOUND"));
+
+        assertThatThrownBy(() -> aspect.timeService(joinPoint)).isInstanceOf(BusinessException.class);
+
+        assertThat(meterRegistry.get("app.service.invocations")
+                .tags("method", "getWalletById", "exception", "BusinessException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rowsAreRecordedForCollectionsAndSlices() {
+        JoinPoint.StaticPart joinPoint = repositoryCall("findTopNByUserId");
+
+        aspect.countRows(joinPoint, List.of("a", "b", "c"));
+        aspect.countRows(joinPoint, new PageImpl<>(List.of("a"), PageRequest.of(0, 20), 41));
+
+        var rows = meterRegistry.get("app.repository.rows")
+                .tags("repository", "TransactionRepository", "method", "findTopNByUserId")
+                .summary();
+        assertThat(rows.count()).isEqualTo(2);
+        assertThat(rows.totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    void singleRowResultsAreNotRecorded() {
+        JoinPoint.StaticPart joinPoint = repositoryCall("findById");
+
+        aspect.countRows(joinPoint, Optional.empty());
+        aspect.countRows(joinPoint, 5L);
+
+        assertThat(meterRegistry.find("app.repository.rows").summary()).isNull();
+    }
+
+    private static ProceedingJoinPoint serviceCall(String method) {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = signature(WalletService.class, method);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        return joinPoint;
+    }
+
+    private static JoinPoint.StaticPart repositoryCall(String method) {
+        JoinPoint.StaticPart joinPoint = mock(JoinPoint.StaticPart.class);
+        Signature signature = signature(TransactionRepository.class, method);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        return joinPoint;
+    }
+
+    private static Signature signature(Class<?> type, String method) {
+        Signature signature = mock(Signature.class);
+        when(signature.getDeclaringType()).thenReturn(type);
+        when(signature.getName()).thenReturn(method);
+        return signature;
+    }
+}
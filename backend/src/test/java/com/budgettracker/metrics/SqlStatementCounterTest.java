@@ -0,0 +1,52 @@
+package com.budgettracker.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @Test
+    void statementsOutsideAScopeAreNotCounted() {
+        assertThat(counter.inspect("select 1")).isEqualTo("select 1");
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            assertThat(scope.count()).isZero();
+        }
+    }
+
+    @Test
+    void nestedScopesAddUpInTheirParent() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+            counter.inspect("select a");
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                counter.inspect("select a");
+                counter.inspect("update b");
+
+                assertThat(inner.count()).isEqualTo(2);
+            }
+            counter.inspect("select a");
+
+            assertThat(outer.count()).isEqualTo(4);
+            assertThat(outer.statements()).containsEntry("select a", 3).containsEntry("update b", 1);
+        }
+
+        counter.inspect("select c");
+        try (SqlStatementCounter.Scope next = SqlStatementCounter.open()) {
+            assertThat(next.count()).isZero();
+        }
+    }
+
+    @Test
+    void scopesAreConfinedToTheirThread() throws InterruptedException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            Thread other = new Thread(() -> counter.inspect("select elsewhere"));
+            other.start();
+            other.join();
+
+            assertThat(scope.count()).isZero();
+        }
+    }
+}
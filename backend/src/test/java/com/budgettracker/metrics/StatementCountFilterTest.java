@@ -0,0 +1,68 @@
+package com.budgettracker.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCountFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final StatementCountFilter filter = new StatementCountFilter(meterRegistry, 5, 3, Set.of("/api/sync/push"));
+
+    @Test
+    void statementsAreRecordedUnderTheUriPattern() throws Exception {
+        handle("/api/wallets/{id}", "select w", "select t");
+
+        assertThat(meterRegistry.get("app.request.statements")
+                .tags("method", "GET", "uri", "/api/wallets/{id}")
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.find("app.request.statements.violations").counter()).isNull();
+    }
+
+    @Test
+    void requestsOverBudgetAreCounted() throws Exception {
+        handle("/api/reports/dashboard", "select a", "select b", "select c", "select d", "select e", "select f");
+
+        assertThat(violations("/api/reports/dashboard", "budget")).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedSelectsAreCountedEvenOnExemptUris() throws Exception {
+        handle("/api/sync/push", "select c", "select c", "select c", "update t", "update t", "update t", "update t");
+
+        assertThat(violations("/api/sync/push", "repeated")).isEqualTo(1);
+        assertThat(meterRegistry.find("app.request.statements.violations").tag("type", "budget").counter()).isNull();
+    }
+
+    @Test
+    void unmatchedRequestsShareOneSeries() throws Exception {
+        handle(null, "select 1");
+
+        assertThat(meterRegistry.get("app.request.statements").tag("uri", "UNKNOWN").summary().count()).isEqualTo(1);
+    }
+
+    private void handle(String pattern, String... statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/whatever");
+        if (pattern != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        }
+        FilterChain chain = (req, res) -> {
+            for (String sql : statements) {
+                counter.inspect(sql);
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+
+    private double violations(String uri, String type) {
+        return meterRegistry.get("app.request.statements.violations").tags("uri", uri, "type", type).counter().count();
+    }
+}
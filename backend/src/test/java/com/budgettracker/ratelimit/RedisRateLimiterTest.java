@@ -0,0 +1,51 @@
+package com.budgettracker.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisRateLimiterTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RateLimiter fallback = mock(RateLimiter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RedisRateLimiter limiter = new RedisRateLimiter(redisTemplate, fallback, 60, 10, meterRegistry);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void scriptResultBecomesTheDecision() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(1L, 7L))
+                .thenReturn(List.of(0L, 2_500_000L));
+
+        assertThat(limiter.tryAcquire("user:a", 1)).isEqualTo(RateLimitDecision.allow(7));
+        assertThat(limiter.tryAcquire("user:a", 1)).isEqualTo(RateLimitDecision.reject(2501));
+        // One request per second: 1,000,000 microseconds per token, a tolerance of 10 tokens
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of("rate-limit:user:a")),
+                eq("1000000"), eq("10000000"), eq("1"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unreachableRedisFallsBackToLocalBuckets() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(fallback.tryAcquire("user:a", 5)).thenReturn(RateLimitDecision.allow(3));
+
+        assertThat(limiter.tryAcquire("user:a", 5)).isEqualTo(RateLimitDecision.allow(3));
+        assertThat(meterRegistry.counter("rate.limit.store.errors", "store", "redis").count()).isEqualTo(1);
+    }
+}
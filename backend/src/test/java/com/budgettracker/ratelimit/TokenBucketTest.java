@@ -0,0 +1,88 @@
+package com.budgettracker.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void fullBucketAllowsABurstOfCapacity() {
+        TokenBucket bucket = new TokenBucket(SECOND, 5, 0);
+
+        for (int remaining = 4; remaining >= 0; remaining--) {
+            assertThat(bucket.tryAcquire(1, 0)).isEqualTo(RateLimitDecision.allow(remaining));
+        }
+
+        RateLimitDecision rejected = bucket.tryAcquire(1, 0);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isBetween(1000L, 1001L);
+    }
+
+    @Test
+    void tokensRefillOnePerInterval() {
+        TokenBucket bucket = new TokenBucket(SECOND, 2, 0);
+        bucket.tryAcquire(2, 0);
+
+        assertThat(bucket.tryAcquire(1, SECOND / 2).allowed()).isFalse();
+        assertThat(bucket.tryAcquire(1, SECOND).allowed()).isTrue();
+        assertThat(bucket.tryAcquire(1, SECOND).allowed()).isFalse();
+
+        // Idle time never fills the bucket beyond its capacity
+        assertThat(bucket.tryAcquire(1, 100 * SECOND)).isEqualTo(RateLimitDecision.allow(1));
+    }
+
+    @Test
+    void rejectedRequestsTakeNothing() {
+        TokenBucket bucket = new TokenBucket(SECOND, 5, 0);
+        bucket.tryAcquire(3, 0);
+
+        assertThat(bucket.tryAcquire(3, 0).allowed()).isFalse();
+        assertThat(bucket.tryAcquire(2, 0)).isEqualTo(RateLimitDecision.allow(0));
+    }
+
+    @Test
+    void concurrentCallersNeverOverdraw() throws Exception {
+        int capacity = 1000;
+        TokenBucket bucket = new TokenBucket(SECOND, capacity, 0);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> granted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Callable<Integer> caller = () -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < capacity; i++) {
+                        if (bucket.tryAcquire(1, 0).allowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                };
+                granted.add(executor.submit(caller));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> future : granted) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(capacity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
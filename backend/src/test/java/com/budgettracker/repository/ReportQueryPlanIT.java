@@ -0,0 +1,183 @@
+package com.budgettracker.repository;
+
+import com.budgettracker.entity.enums.TransactionType;
+import com.budgettracker.metrics.SqlStatementCounter;
+import com.budgettracker.support.PostgresIntegrationTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the covering indexes from migration V1_0_8: the SQL Hibernate generates for each report
+ * query is captured and EXPLAINed as a generic plan, with sequential scans disabled so the result
+ * reflects whether an index can serve the query at all rather than what the planner picks for a
+ * small table.
+ */
+class ReportQueryPlanIT extends PostgresIntegrationTest {
+
+    private static final LocalDate FROM = LocalDate.now().withDayOfYear(1);
+    private static final LocalDate TO = FROM.plusYears(1).minusDays(1);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private UUID userId;
+
+    @BeforeEach
+    void seedAndVacuum() {
+        userId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            UUID walletId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+            jdbcTemplate.update("INSERT INTO wallets (id, user_id, name, type) VALUES (?, ?, 'Cash', 'CASH')",
+                    walletId, userId);
+            jdbcTemplate.update(
+                    "INSERT INTO transactions (user_id, wallet_id, type, amount, amount_in_wallet_currency, " +
+                    "currency_code, transaction_date) " +
+                    "SELECT ?, ?, 'EXPENSE', 10, 10, 'USD', CURRENT_DATE - (n % 365) FROM generate_series(1, 500) n",
+                    userId, walletId);
+        });
+        // Index-only scans depend on the visibility map, which only VACUUM sets
+        onPlainConnection(statement -> statement.execute("VACUUM ANALYZE transactions, wallets, budgets"));
+    }
+
+    @Test
+    void sumByTypeAndDateRangeIsIndexOnly() {
+        assertIndexOnly(sqlOf(() -> transactionRepository.sumByUserIdAndTypeAndDateRange(
+                userId, TransactionType.EXPENSE, FROM, TO)), "idx_transaction_report_covering");
+    }
+
+    @Test
+    void spendingByCategoryIsIndexOnly() {
+        assertIndexOnly(sqlOf(() -> transactionRepository.calculateSpendingByCategory(userId, FROM, TO)),
+                "idx_transaction_report_covering");
+    }
+
+    @Test
+    void spendingByWalletIsIndexOnly() {
+        assertIndexOnly(sqlOf(() -> transactionRepository.calculateSpendingByWallet(userId, FROM, TO)),
+                "idx_transaction_report_covering");
+    }
+
+    @Test
+    void balancesByCurrencyAreIndexOnly() {
+        assertIndexOnly(sqlOf(() -> walletRepository.sumBalancesByCurrency(userId)),
+                "idx_wallet_user_live_covering");
+    }
+
+    @Test
+    void activeBudgetCountIsIndexOnly() {
+        assertIndexOnly(sqlOf(() -> budgetRepository.countActiveBudgets(userId)), "idx_budget_user_active");
+    }
+
+    private String sqlOf(Runnable repositoryCall) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            repositoryCall.run();
+            assertThat(scope.statements()).hasSize(1);
+            return scope.statements().keySet().iterator().next();
+        }
+    }
+
+    private void assertIndexOnly(String sql, String expectedIndex) {
+        List<String> scans = new ArrayList<>();
+        onPlainConnection(statement -> {
+            statement.execute("SET enable_seqscan = off");
+            try (ResultSet plan = statement.executeQuery(
+                    "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + positionalParameters(sql))) {
+                plan.next();
+                collectScans(objectMapper.readTree(plan.getString(1)).get(0).get("Plan"), scans);
+            }
+        });
+
+        assertThat(scans).as("scans for %s", sql).containsExactly("Index Only Scan using " + expectedIndex);
+    }
+
+    /**
+     * A connection outside the pool: auto-commit for VACUUM, and the simple query protocol, since
+     * the extended one would expect values for the $n placeholders of a generic plan.
+     */
+    private void onPlainConnection(StatementWork work) {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("preferQueryMode", "simple");
+        try (Connection connection = DriverManager.getConnection(url, properties);
+             Statement statement = connection.createStatement()) {
+            work.run(statement);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface StatementWork {
+        void run(Statement statement) throws Exception;
+    }
+
+    /**
+     * EXPLAIN (GENERIC_PLAN) takes $n placeholders rather than JDBC's ?.
+     */
+    private static String positionalParameters(String sql) {
+        StringBuilder result = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                result.append('$').append(++parameter);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static void collectScans(JsonNode node, List<String> scans) {
+        String nodeType = node.path("Node Type").asText();
+        if (nodeType.endsWith("Scan")) {
+            String index = node.path("Index Name").asText(null);
+            scans.add(index != null ? nodeType + " using " + index : nodeType + " on " + node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectScans(child, scans);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.notification.LocalNotificationSink;
+import com.budgettracker.notification.NotificationMessage;
+import com.budgettracker.service.NotificationDispatchService;
+import com.budgettracker.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+
+@TestPropertySource(properties = {
+        "app.notification.dispatcher.enabled=true",
+        "app.notification.dispatcher.poll-interval-ms=3600000",
+        "app.notification.dispatcher.send-timeout-seconds=1"
+})
+class NotificationDispatcherIT extends PostgresIntegrationTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private NotificationDispatchService dispatchService;
+
+    @SpyBean
+    private LocalNotificationSink sink;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+    private LocalDateTime due;
+
+    @BeforeEach
+    void createUser() {
+        userId = UUID.randomUUID();
+        due = LocalDateTime.now().minusMinutes(1).withNano(0);
+        inTransaction("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+    }
+
+    @Test
+    void claimLeasesRowsWithoutMovingTheirSchedule() {
+        UUID first = notification("first");
+        UUID second = notification("second");
+
+        List<UUID> claimed = ids(dispatchService.claimBatch(100, LEASE));
+
+        assertThat(claimed).contains(first, second);
+        Map<String, Object> row = row(first);
+        assertThat(((Timestamp) row.get("scheduled_for")).toLocalDateTime()).isEqualTo(due);
+        assertThat(((Timestamp) row.get("leased_until")).toLocalDateTime()).isAfter(LocalDateTime.now());
+        assertThat(ids(dispatchService.claimBatch(100, LEASE))).doesNotContain(first, second);
+    }
+
+    @Test
+    void claimSkipsRowsLockedByAnotherDispatcher() {
+        UUID locked = notification("locked");
+        UUID free = notification("free");
+
+        List<UUID> claimed = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM notifications WHERE id = ? FOR UPDATE", locked);
+            try {
+                return CompletableFuture.supplyAsync(() -> ids(dispatchService.claimBatch(100, LEASE)))
+                        .get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(claimed).contains(free).doesNotContain(locked);
+        assertThat(row(locked).get("leased_until")).isNull();
+    }
+
+    @Test
+    void timedOutSendIsMarkedUnknownInsteadOfRetried() throws Exception {
+        doAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        }).when(sink).send(argThat(message -> "slow".equals(message.title())));
+        UUID slow = notification("slow");
+        UUID fast = notification("fast");
+
+        dispatcher.dispatchPendingNotifications();
+
+        Map<String, Object> slowRow = row(slow);
+        assertThat(slowRow.get("status")).isEqualTo("UNKNOWN");
+        assertThat(slowRow.get("retry_count")).isEqualTo(0);
+        assertThat(slowRow.get("leased_until")).isNull();
+        assertThat(row(fast).get("status")).isEqualTo("SENT");
+        assertThat(ids(dispatchService.claimBatch(100, LEASE))).doesNotContain(slow);
+    }
+
+    private UUID notification(String title) {
+        UUID id = UUID.randomUUID();
+        inTransaction("INSERT INTO notifications (id, user_id, type, title, message, channel, status, scheduled_for) " +
+                        "VALUES (?, ?, 'BUDGET_ALERT', ?, 'message', 'EMAIL', 'PENDING', ?)",
+                id, userId, title, Timestamp.valueOf(due));
+        return id;
+    }
+
+    private Map<String, Object> row(UUID id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, retry_count, scheduled_for, leased_until FROM notifications WHERE id = ?", id);
+    }
+
+    private static List<UUID> ids(List<NotificationMessage> messages) {
+        return messages.stream().map(NotificationMessage::id).toList();
+    }
+
+    private void inTransaction(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+}
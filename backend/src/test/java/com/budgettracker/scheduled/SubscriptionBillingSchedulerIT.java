@@ -0,0 +1,94 @@
+package com.budgettracker.scheduled;
+
+import com.budgettracker.support.PostgresIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionBillingSchedulerIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private SubscriptionBillingScheduler billingScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID walletId;
+
+    @BeforeEach
+    void rejectPoisonedTransactions() {
+        // Stands in for any per-row failure: inserting the poisoned subscription's transaction fails
+        inTransaction("CREATE FUNCTION reject_poisoned() RETURNS TRIGGER AS $$ BEGIN " +
+                "IF NEW.description = 'poisoned' THEN RAISE EXCEPTION 'poisoned row'; END IF; RETURN NEW; " +
+                "END; $$ LANGUAGE plpgsql");
+        inTransaction("CREATE TRIGGER trg_reject_poisoned BEFORE INSERT ON transactions " +
+                "FOR EACH ROW EXECUTE FUNCTION reject_poisoned()");
+    }
+
+    @AfterEach
+    void removeTrigger() {
+        inTransaction("DROP TRIGGER trg_reject_poisoned ON transactions");
+        inTransaction("DROP FUNCTION reject_poisoned()");
+    }
+
+    @Test
+    void failingSubscriptionIsSkippedAndTheRestAreBilled() {
+        UUID userId = UUID.randomUUID();
+        walletId = UUID.randomUUID();
+        inTransaction("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+        inTransaction("INSERT INTO wallets (id, user_id, name, type, balance) VALUES (?, ?, 'Cash', 'CASH', 100)",
+                walletId, userId);
+        LocalDate due = LocalDate.now().minusDays(1);
+        UUID first = subscription(userId, "first", due);
+        UUID poisoned = subscription(userId, "poisoned", due);
+        UUID last = subscription(userId, "last", due);
+        double failuresBefore = meterRegistry.counter("subscription.billing.subscription.failures").count();
+
+        billingScheduler.processSubscriptionBilling();
+
+        assertThat(nextBillingDate(first)).isAfter(LocalDate.now());
+        assertThat(nextBillingDate(last)).isAfter(LocalDate.now());
+        assertThat(nextBillingDate(poisoned)).isEqualTo(due);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE subscription_id IN (?, ?)", Integer.class, first, last))
+                .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT balance FROM wallets WHERE id = ?", BigDecimal.class, walletId))
+                .isEqualByComparingTo("80");
+        assertThat(meterRegistry.counter("subscription.billing.subscription.failures").count() - failuresBefore)
+                .isEqualTo(1);
+    }
+
+    private UUID subscription(UUID userId, String name, LocalDate nextBillingDate) {
+        UUID id = UUID.randomUUID();
+        inTransaction("INSERT INTO subscriptions (id, user_id, wallet_id, name, amount, currency_code, " +
+                        "billing_frequency, start_date, next_billing_date) " +
+                        "VALUES (?, ?, ?, ?, 10, 'USD', 'MONTHLY', ?, ?)",
+                id, userId, walletId, name, nextBillingDate.minusMonths(1), nextBillingDate);
+        return id;
+    }
+
+    private LocalDate nextBillingDate(UUID subscriptionId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_billing_date FROM subscriptions WHERE id = ?", LocalDate.class, subscriptionId);
+    }
+
+    private void inTransaction(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+}
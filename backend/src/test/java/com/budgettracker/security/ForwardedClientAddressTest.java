@@ -0,0 +1,77 @@
+package com.budgettracker.security;
+
+import org.apache.catalina.Valve;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatWebServerFactoryCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The rate limiter keys anonymous callers by {@code getRemoteAddr()}; under the prod profile that
+ * must be the client behind the ingress, not the ingress itself.
+ */
+class ForwardedClientAddressTest {
+
+    private Valve forwardedHeaders;
+
+    @BeforeEach
+    void configureTomcatFromTheProdProfile() throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        new YamlPropertySourceLoader().load("prod", new ClassPathResource("application-prod.yml"))
+                .forEach(environment.getPropertySources()::addFirst);
+        ServerProperties server = Binder.get(environment).bindOrCreate("server", ServerProperties.class);
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+        new TomcatWebServerFactoryCustomizer(environment, server).customize(factory);
+
+        assertThat(factory.getEngineValves()).hasSize(1);
+        forwardedHeaders = factory.getEngineValves().iterator().next();
+    }
+
+    @Test
+    void clientBehindTheIngressIsTheRemoteAddress() throws Exception {
+        assertThat(remoteAddress("10.0.3.7", "203.0.113.9")).isEqualTo("203.0.113.9");
+    }
+
+    @Test
+    void addressesSpoofedByTheClientAreSkipped() throws Exception {
+        // nginx appends the address it saw; anything to its left came from the client
+        assertThat(remoteAddress("10.0.3.7", "198.51.100.1, 203.0.113.9")).isEqualTo("203.0.113.9");
+    }
+
+    @Test
+    void headerFromAnUntrustedPeerIsIgnored() throws Exception {
+        assertThat(remoteAddress("203.0.113.50", "198.51.100.1")).isEqualTo("203.0.113.50");
+    }
+
+    private String remoteAddress(String peer, String forwardedFor) throws Exception {
+        Request request = new Request(new Connector());
+        request.setCoyoteRequest(new org.apache.coyote.Request());
+        request.setRemoteAddr(peer);
+        request.getCoyoteRequest().getMimeHeaders().addValue("X-Forwarded-For").setString(forwardedFor);
+
+        AtomicReference<String> seen = new AtomicReference<>();
+        forwardedHeaders.setNext(new ValveBase() {
+            @Override
+            public void invoke(Request request, Response response) {
+                seen.set(request.getRemoteAddr());
+            }
+        });
+        forwardedHeaders.invoke(request, null);
+        return seen.get();
+    }
+}
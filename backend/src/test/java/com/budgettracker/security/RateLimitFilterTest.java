@@ -0,0 +1,103 @@
+package com.budgettracker.security;
+
+import com.budgettracker.ratelimit.RateLimitDecision;
+import com.budgettracker.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+    private final RateLimitFilter filter = new RateLimitFilter(rateLimiter, new ObjectMapper().findAndRegisterModules(),
+            new SimpleMeterRegistry(), 100, costs());
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void anonymousCallersAreLimitedByAddressAtUnitCost() throws Exception {
+        when(rateLimiter.tryAcquire("ip:10.0.0.1", 1)).thenReturn(RateLimitDecision.allow(42));
+        MockHttpServletRequest request = request("/api/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("100");
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("42");
+    }
+
+    @Test
+    void authenticatedCallersAreLimitedPerUserAtTheEndpointCost() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UserPrincipal principal = new UserPrincipal(userId, "user@example.com", null, null, List.of(), true, true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+        when(rateLimiter.tryAcquire("user:" + userId, 10)).thenReturn(RateLimitDecision.allow(0));
+
+        filter.doFilter(request("/api/transactions/export/csv"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire("user:" + userId, 10);
+    }
+
+    @Test
+    void rejectedRequestsGet429WithRetryAfter() throws Exception {
+        when(rateLimiter.tryAcquire("ip:127.0.0.1", 5)).thenReturn(RateLimitDecision.reject(1500));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/reports/dashboard"), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("RATE_LIMITED");
+    }
+
+    @Test
+    void operationalEndpointsAreNotLimited() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/actuator/health"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verify(rateLimiter, never()).tryAcquire(anyString(), anyInt());
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRequestURI(path);
+        return request;
+    }
+
+    private static Map<String, Integer> costs() {
+        Map<String, Integer> costs = new LinkedHashMap<>();
+        costs.put("/api/reports/**", 5);
+        costs.put("/api/**/export/**", 10);
+        return costs;
+    }
+}
@@ -0,0 +1,113 @@
+package com.budgettracker.service;
+
+import com.budgettracker.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchivalServiceIT extends PostgresIntegrationTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.now().minusDays(90);
+
+    @Autowired
+    private ArchivalService archivalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+    private UUID walletId;
+    private UUID categoryId;
+
+    @BeforeEach
+    void createUser() {
+        userId = UUID.randomUUID();
+        walletId = UUID.randomUUID();
+        inTransaction("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+        inTransaction("INSERT INTO wallets (id, user_id, name, type) VALUES (?, ?, 'Cash', 'CASH')", walletId, userId);
+        categoryId = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE type = 'EXPENSE' LIMIT 1", UUID.class);
+    }
+
+    @Test
+    void softDeletedTransactionMovesWithItsChildrenAndRestores() {
+        UUID expired = transactionWithChildren(CUTOFF.minusDays(1));
+        UUID recent = transactionWithChildren(CUTOFF.plusDays(1));
+        UUID live = transactionWithChildren(null);
+
+        while (archivalService.archiveSoftDeletedChunk("transactions", CUTOFF, 100) > 0) {
+            // archive everything past the cutoff
+        }
+
+        assertThat(count("transactions", "id", expired)).isZero();
+        assertThat(count("transactions_archive", "id", expired)).isEqualTo(1);
+        assertThat(count("transaction_tags_archive", "transaction_id", expired)).isEqualTo(1);
+        assertThat(count("transaction_splits_archive", "parent_transaction_id", expired)).isEqualTo(1);
+        assertThat(count("transaction_attachments_archive", "transaction_id", expired)).isEqualTo(1);
+        assertThat(count("transactions", "id", recent)).isEqualTo(1);
+        assertThat(count("transactions", "id", live)).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status -> archivalService.restore("transactions", expired, true));
+
+        assertThat(count("transactions_archive", "id", expired)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted FROM transactions WHERE id = ?", Boolean.class, expired))
+                .isFalse();
+        assertThat(count("transaction_tags", "transaction_id", expired)).isEqualTo(1);
+        assertThat(count("transaction_splits", "parent_transaction_id", expired)).isEqualTo(1);
+        assertThat(count("transaction_attachments", "transaction_id", expired)).isEqualTo(1);
+    }
+
+    @Test
+    void softDeletedNotificationIsArchived() {
+        UUID id = UUID.randomUUID();
+        inTransaction("INSERT INTO notifications (id, user_id, type, title, message, channel, deleted, deleted_at) " +
+                        "VALUES (?, ?, 'BUDGET_ALERT', 'title', 'message', 'IN_APP', true, ?)",
+                id, userId, Timestamp.valueOf(CUTOFF.minusDays(1)));
+
+        while (archivalService.archiveSoftDeletedChunk("notifications", CUTOFF, 100) > 0) {
+            // archive everything past the cutoff
+        }
+
+        assertThat(count("notifications", "id", id)).isZero();
+        assertThat(count("notifications_archive", "id", id)).isEqualTo(1);
+    }
+
+    private UUID transactionWithChildren(LocalDateTime deletedAt) {
+        UUID id = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            UUID tagId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO tags (id, user_id, name) VALUES (?, ?, ?)", tagId, userId, "tag-" + tagId);
+            jdbcTemplate.update(
+                    "INSERT INTO transactions (id, user_id, wallet_id, category_id, type, amount, currency_code, " +
+                    "transaction_date, deleted, deleted_at) VALUES (?, ?, ?, ?, 'EXPENSE', 10, 'USD', CURRENT_DATE, ?, ?)",
+                    id, userId, walletId, categoryId, deletedAt != null,
+                    deletedAt != null ? Timestamp.valueOf(deletedAt) : null);
+            jdbcTemplate.update("INSERT INTO transaction_tags (transaction_id, tag_id) VALUES (?, ?)", id, tagId);
+            jdbcTemplate.update(
+                    "INSERT INTO transaction_splits (parent_transaction_id, category_id, amount) VALUES (?, ?, 5)",
+                    id, categoryId);
+            jdbcTemplate.update("INSERT INTO transaction_attachments (transaction_id, file_name, file_url) " +
+                    "VALUES (?, 'receipt.jpg', 'local://receipt.jpg')", id);
+        });
+        return id;
+    }
+
+    private int count(String table, String column, UUID id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Integer.class, id);
+    }
+
+    private void inTransaction(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+}
@@ -0,0 +1,133 @@
+package com.budgettracker.service;
+
+import com.budgettracker.entity.enums.ProcessingStage;
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.service.AttachmentProcessingService.ClaimedJob;
+import com.budgettracker.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestPropertySource(properties = {"app.ocr.max-attempts=2", "app.ocr.retry-base-delay-seconds=0"})
+class AttachmentProcessingServiceIT extends PostgresIntegrationTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Autowired
+    private AttachmentProcessingService processingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID transactionId;
+
+    @BeforeEach
+    void createTransaction() {
+        UUID userId = UUID.randomUUID();
+        UUID walletId = UUID.randomUUID();
+        transactionId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+            jdbcTemplate.update("INSERT INTO wallets (id, user_id, name, type) VALUES (?, ?, 'Cash', 'CASH')",
+                    walletId, userId);
+            jdbcTemplate.update("INSERT INTO transactions (id, user_id, wallet_id, type, amount, currency_code, " +
+                    "transaction_date) VALUES (?, ?, ?, 'EXPENSE', 10, 'USD', CURRENT_DATE)", transactionId, userId, walletId);
+        });
+    }
+
+    @Test
+    void claimedJobIsLeasedAndCannotBeRequeuedWhileRunning() {
+        UUID attachmentId = attachment();
+        UUID jobId = processingService.enqueue(attachmentId, ProcessingStage.OCR).getId();
+
+        List<ClaimedJob> claimed = processingService.claimBatch(ProcessingStage.OCR, 100, LEASE);
+
+        assertThat(claimed).extracting(ClaimedJob::jobId).contains(jobId);
+        assertThat(claimed).filteredOn(job -> job.jobId().equals(jobId)).singleElement()
+                .satisfies(job -> assertThat(job.attempt()).isEqualTo(1));
+        assertThat(processingService.claimBatch(ProcessingStage.OCR, 100, LEASE))
+                .extracting(ClaimedJob::jobId).doesNotContain(jobId);
+        assertThat(processingService.claimBatch(ProcessingStage.THUMBNAIL, 100, LEASE))
+                .extracting(ClaimedJob::jobId).doesNotContain(jobId);
+        assertThatThrownBy(() -> processingService.enqueue(attachmentId, ProcessingStage.OCR))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void claimSkipsJobsLockedByAnotherWorker() {
+        UUID locked = processingService.enqueue(attachment(), ProcessingStage.OCR).getId();
+        UUID free = processingService.enqueue(attachment(), ProcessingStage.OCR).getId();
+
+        List<UUID> claimed = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM attachment_processing_jobs WHERE id = ? FOR UPDATE", locked);
+            try {
+                return CompletableFuture.supplyAsync(() -> processingService.claimBatch(ProcessingStage.OCR, 100, LEASE)
+                                .stream().map(ClaimedJob::jobId).toList())
+                        .get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(claimed).contains(free).doesNotContain(locked);
+        assertThat(status(locked)).isEqualTo("PENDING");
+    }
+
+    @Test
+    void expiredLeaseIsClaimedAgainUntilAttemptsRunOut() {
+        UUID jobId = processingService.enqueue(attachment(), ProcessingStage.OCR).getId();
+
+        // A zero lease stands in for a worker that died mid-job
+        assertThat(claimIds(Duration.ZERO)).contains(jobId);
+        assertThat(claimIds(LEASE)).contains(jobId);
+        assertThat(processingService.fail(jobId, "tesseract crashed", true)).isFalse();
+
+        assertThat(status(jobId)).isEqualTo("FAILED");
+        assertThat(claimIds(LEASE)).doesNotContain(jobId);
+    }
+
+    @Test
+    void retryableFailureIsRescheduledAndSuccessCompletes() {
+        UUID jobId = processingService.enqueue(attachment(), ProcessingStage.OCR).getId();
+
+        assertThat(claimIds(LEASE)).contains(jobId);
+        assertThat(processingService.fail(jobId, "timeout", true)).isTrue();
+        assertThat(status(jobId)).isEqualTo("PENDING");
+
+        assertThat(claimIds(LEASE)).contains(jobId);
+        processingService.complete(jobId, 5);
+        assertThat(status(jobId)).isEqualTo("SUCCEEDED");
+    }
+
+    private List<UUID> claimIds(Duration lease) {
+        return processingService.claimBatch(ProcessingStage.OCR, 100, lease).stream().map(ClaimedJob::jobId).toList();
+    }
+
+    private UUID attachment() {
+        UUID id = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO transaction_attachments (id, transaction_id, file_name, file_url) " +
+                "VALUES (?, ?, 'receipt.jpg', 'local://receipt.jpg')", id, transactionId));
+        return id;
+    }
+
+    private String status(UUID jobId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM attachment_processing_jobs WHERE id = ?",
+                String.class, jobId);
+    }
+}
@@ -0,0 +1,114 @@
+package com.budgettracker.service;
+
+import com.budgettracker.entity.TransactionAttachment;
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.support.PostgresIntegrationTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// OCR needs native tesseract; the thumbnail stage shows the jobs are written with the row
+@TestPropertySource(properties = "app.thumbnails.enabled=true")
+class AttachmentServiceIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID transactionId = UUID.randomUUID();
+    private EntityManager requestEntityManager;
+
+    @BeforeEach
+    void seedAndOpenRequestSession() {
+        UUID walletId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+            jdbcTemplate.update("INSERT INTO wallets (id, user_id, name, type) VALUES (?, ?, 'Cash', 'CASH')",
+                    walletId, userId);
+            jdbcTemplate.update("INSERT INTO transactions (id, user_id, wallet_id, type, amount, currency_code, " +
+                    "transaction_date) VALUES (?, ?, ?, 'EXPENSE', 10, 'USD', CURRENT_DATE)", transactionId, userId, walletId);
+        });
+
+        // What the open-in-view interceptor binds for a web request
+        requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+    }
+
+    @AfterEach
+    void closeRequestSession() {
+        TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+        EntityManagerFactoryUtils.closeEntityManager(requestEntityManager);
+    }
+
+    @Test
+    void bodyStreamsWithoutATransactionOrPinnedConnection() {
+        List<Boolean> stateWhileStreaming = new ArrayList<>();
+        InputStream body = new ByteArrayInputStream(("receipt " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] buffer, int offset, int length) {
+                if (stateWhileStreaming.isEmpty()) {
+                    stateWhileStreaming.add(TransactionSynchronizationManager.isActualTransactionActive());
+                    stateWhileStreaming.add(requestEntityManager.unwrap(SessionImplementor.class)
+                            .getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected());
+                }
+                return super.read(buffer, offset, length);
+            }
+        };
+
+        TransactionAttachment attachment = attachmentService.upload(userId, transactionId, body,
+                "receipt.png", "image/png", true);
+
+        assertThat(stateWhileStreaming).as("transaction active, connection held").containsExactly(false, false);
+        assertThat(attachment.getFileUrl()).isEqualTo("/api/attachments/" + attachment.getId() + "/content");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_attachments WHERE id = ? " +
+                "AND transaction_id = ? AND content_hash IS NOT NULL", Integer.class, attachment.getId(), transactionId))
+                .isOne();
+        assertThat(jdbcTemplate.queryForList("SELECT stage FROM attachment_processing_jobs WHERE attachment_id = ?",
+                String.class, attachment.getId())).containsExactly("THUMBNAIL");
+    }
+
+    @Test
+    void otherUsersCannotUploadAndNothingIsStored() {
+        InputStream body = new ByteArrayInputStream(new byte[] {1, 2, 3}) {
+            @Override
+            public synchronized int read(byte[] buffer, int offset, int length) {
+                throw new AssertionError("body must not be read before the ownership check");
+            }
+        };
+
+        assertThatThrownBy(() -> attachmentService.upload(UUID.randomUUID(), transactionId, body,
+                "receipt.png", "image/png", true))
+                .isInstanceOf(BusinessException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_attachments WHERE transaction_id = ?",
+                Integer.class, transactionId)).isZero();
+    }
+}
@@ -0,0 +1,98 @@
+package com.budgettracker.service;
+
+import com.budgettracker.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestPropertySource(properties = "app.audit.enabled=true")
+class AuditPartitionServiceIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private AuditPartitionService partitionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void createdPartitionsAreCommitted() {
+        LocalDate farFuture = LocalDate.now().plusYears(20);
+
+        List<String> created = partitionService.createFuturePartitions(farFuture, 2);
+
+        assertThat(created).containsExactly(
+                AuditPartitionService.partitionName(YearMonth.from(farFuture)),
+                AuditPartitionService.partitionName(YearMonth.from(farFuture).plusMonths(1)),
+                AuditPartitionService.partitionName(YearMonth.from(farFuture).plusMonths(2)));
+        assertThat(partitionsOfParent()).containsAll(created);
+        assertThat(partitionService.createFuturePartitions(farFuture, 2)).isEmpty();
+    }
+
+    @Test
+    void expiredPartitionsAreDroppedAndCommitted() {
+        LocalDate longAgo = LocalDate.of(2001, 3, 15);
+        String expired = AuditPartitionService.partitionName(YearMonth.from(longAgo));
+        partitionService.createFuturePartitions(longAgo, 0);
+        assertThat(partitionsOfParent()).contains(expired);
+
+        List<String> dropped = partitionService.dropExpiredPartitions(LocalDate.now(), 365);
+
+        assertThat(dropped).contains(expired);
+        assertThat(partitionsOfParent()).doesNotContain(expired);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_class WHERE relname = ?", Integer.class, expired)).isZero();
+        // The current month is inside the retention window and stays
+        assertThat(partitionsOfParent()).contains(AuditPartitionService.partitionName(YearMonth.now()));
+    }
+
+    @Test
+    void rowsStrandedInTheDefaultPartitionMoveIntoTheNewPartition() {
+        LocalDate strandedMonth = LocalDate.now().plusYears(40).withDayOfMonth(1);
+        String partition = AuditPartitionService.partitionName(YearMonth.from(strandedMonth));
+        UUID id = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO audit_logs (id, entity_type, action, timestamp) VALUES (?, 'Wallet', 'CREATE', ?)",
+                id, strandedMonth.atStartOfDay().plusDays(3)));
+        assertThat(rowsIn("audit_logs_default", id)).isOne();
+
+        List<String> created = partitionService.createFuturePartitions(strandedMonth, 0);
+
+        assertThat(created).containsExactly(partition);
+        assertThat(partitionsOfParent()).contains(partition);
+        assertThat(rowsIn("audit_logs_default", id)).isZero();
+        assertThat(rowsIn(partition, id)).isOne();
+        assertThat(rowsIn("audit_logs", id)).isOne();
+        // The attached table carries the parent's primary key
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO audit_logs (id, entity_type, action, timestamp) VALUES (?, 'Wallet', 'CREATE', ?)",
+                id, strandedMonth.atStartOfDay().plusDays(3))))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    private int rowsIn(String table, UUID id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+
+    private List<String> partitionsOfParent() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = 'audit_logs'",
+                String.class);
+    }
+}
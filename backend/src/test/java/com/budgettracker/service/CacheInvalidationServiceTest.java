@@ -0,0 +1,84 @@
+package com.budgettracker.service;
+
+import com.budgettracker.config.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheInvalidationServiceTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final CacheInvalidationService invalidationService = new CacheInvalidationService(cacheManager);
+
+    private final UUID user = UUID.randomUUID();
+    private final UUID otherUser = UUID.randomUUID();
+
+    @BeforeEach
+    void populate() {
+        for (UUID userId : new UUID[] {user, otherUser}) {
+            dashboard().put(userId + ":2026-01-01:2026-01-31", "summary");
+            dashboard().put(userId + ":2026-02-01:2026-02-28", "summary");
+            trends().put(userId + ":6", "trends");
+            categories().put(userId.toString(), "categories");
+        }
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictsEveryReportOfOneUserOnly() {
+        invalidationService.evictReports(user);
+
+        assertThat(dashboard().get(user + ":2026-01-01:2026-01-31")).isNull();
+        assertThat(dashboard().get(user + ":2026-02-01:2026-02-28")).isNull();
+        assertThat(trends().get(user + ":6")).isNull();
+        assertThat(dashboard().get(otherUser + ":2026-01-01:2026-01-31")).isNotNull();
+        assertThat(trends().get(otherUser + ":6")).isNotNull();
+        assertThat(categories().get(user.toString())).isNotNull();
+    }
+
+    @Test
+    void categoryChangeAlsoEvictsReports() {
+        invalidationService.evictCategories(user);
+
+        assertThat(categories().get(user.toString())).isNull();
+        assertThat(trends().get(user + ":6")).isNull();
+        assertThat(categories().get(otherUser.toString())).isNotNull();
+    }
+
+    @Test
+    void evictionWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        invalidationService.evictReports(user);
+
+        assertThat(dashboard().get(user + ":2026-01-01:2026-01-31")).isNotNull();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(dashboard().get(user + ":2026-01-01:2026-01-31")).isNull();
+    }
+
+    private Cache dashboard() {
+        return cacheManager.getCache(CacheConfig.REPORTS_DASHBOARD);
+    }
+
+    private Cache trends() {
+        return cacheManager.getCache(CacheConfig.REPORTS_TRENDS);
+    }
+
+    private Cache categories() {
+        return cacheManager.getCache(CacheConfig.CATEGORIES);
+    }
+}
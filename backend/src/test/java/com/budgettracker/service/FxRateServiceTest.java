@@ -0,0 +1,90 @@
+package com.budgettracker.service;
+
+import com.budgettracker.entity.FxRateSnapshot;
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.fx.FxRateProvider;
+import com.budgettracker.fx.FxRateTable;
+import com.budgettracker.repository.FxRateSnapshotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FxRateServiceTest {
+
+    private final FxRateSnapshotRepository snapshotRepository = mock(FxRateSnapshotRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FxRateProvider provider = mock(FxRateProvider.class);
+    private FxRateService fxRateService;
+
+    @BeforeEach
+    void setUp() {
+        when(provider.name()).thenReturn("test");
+        when(snapshotRepository.findFirstByBaseCurrencyAndQuoteCurrencyOrderByAsOfDesc(anyString(), anyString()))
+                .thenReturn(Optional.empty());
+        fxRateService = new FxRateService(snapshotRepository, List.of(provider), meterRegistry, "USD", "test");
+    }
+
+    @Test
+    void currentTableWinsOverSuppliedRate() {
+        publish(Map.of("EUR", new BigDecimal("0.5")));
+
+        assertThat(fxRateService.resolveRate("USD", "EUR", new BigDecimal("0.9"))).isEqualByComparingTo("0.5");
+        assertThat(meterRegistry.find("fx.rates.fallback").counter()).isNull();
+    }
+
+    @Test
+    void fallsBackToLatestStoredSnapshot() {
+        stored("EUR", "0.5");
+        stored("GBP", "0.25");
+
+        assertThat(fxRateService.resolveRate("EUR", "GBP", new BigDecimal("9"))).isEqualByComparingTo("0.5");
+        assertThat(fxRateService.resolveRate("USD", "EUR", null)).isEqualByComparingTo("0.5");
+        assertThat(meterRegistry.counter("fx.rates.fallback", "source", "snapshot").count()).isEqualTo(2);
+    }
+
+    @Test
+    void fallsBackToSuppliedRateWhenNothingIsStored() {
+        assertThat(fxRateService.resolveRate("USD", "EUR", new BigDecimal("0.9"))).isEqualByComparingTo("0.9");
+        assertThat(meterRegistry.counter("fx.rates.fallback", "source", "supplied").count()).isEqualTo(1);
+    }
+
+    @Test
+    void failsWithoutAnyRate() {
+        assertThatThrownBy(() -> fxRateService.resolveRate("USD", "EUR", null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("USD to EUR");
+    }
+
+    @Test
+    void sameCurrencyNeedsNoRates() {
+        assertThat(fxRateService.resolveRate("EUR", "eur", null)).isEqualByComparingTo("1");
+    }
+
+    private void publish(Map<String, BigDecimal> rates) {
+        when(provider.fetchLatest("USD")).thenReturn(new FxRateTable("USD", LocalDateTime.now(), "test", rates));
+        fxRateService.refresh();
+    }
+
+    private void stored(String quoteCurrency, String rate) {
+        when(snapshotRepository.findFirstByBaseCurrencyAndQuoteCurrencyOrderByAsOfDesc("USD", quoteCurrency))
+                .thenReturn(Optional.of(FxRateSnapshot.builder()
+                        .baseCurrency("USD")
+                        .quoteCurrency(quoteCurrency)
+                        .rate(new BigDecimal(rate))
+                        .asOf(LocalDateTime.now().minusDays(3))
+                        .provider("test")
+                        .build()));
+    }
+}
@@ -0,0 +1,95 @@
+package com.budgettracker.service;
+
+import com.budgettracker.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationFanOutServiceIT extends PostgresIntegrationTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private NotificationFanOutService fanOutService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+    private UUID walletId;
+
+    @BeforeEach
+    void createUser() {
+        userId = UUID.randomUUID();
+        walletId = UUID.randomUUID();
+        inTransaction("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+        inTransaction("INSERT INTO wallets (id, user_id, name, type) VALUES (?, ?, 'Cash', 'CASH')", walletId, userId);
+    }
+
+    @Test
+    void remindersInsideTheirWindowAreCreatedOncePerChannel() {
+        UUID renewing = subscription("renewing", TODAY.plusDays(2));
+        UUID later = subscription("later", TODAY.plusDays(20));
+        UUID trial = subscription("trial", TODAY.plusDays(25));
+        inTransaction("UPDATE subscriptions SET free_trial = true, free_trial_end_date = ?, status = 'TRIAL' WHERE id = ?",
+                TODAY.plusDays(1), trial);
+        UUID recurring = UUID.randomUUID();
+        inTransaction("INSERT INTO recurring_transactions (id, user_id, wallet_id, name, type, amount, currency_code, " +
+                        "frequency, start_date, next_occurrence_date) " +
+                        "VALUES (?, ?, ?, 'rent', 'EXPENSE', 500, 'USD', 'MONTHLY', ?, ?)",
+                recurring, userId, walletId, TODAY.minusMonths(1), TODAY.plusDays(1));
+
+        fanOutService.generateReminders(TODAY);
+
+        // Push is off by default, so each source gets an in-app and an email notification
+        assertThat(channels("SUBSCRIPTION_REMINDER", renewing)).containsExactlyInAnyOrder("IN_APP", "EMAIL");
+        assertThat(channels("SUBSCRIPTION_REMINDER", later)).isEmpty();
+        assertThat(channels("TRIAL_ENDING", trial)).containsExactlyInAnyOrder("IN_APP", "EMAIL");
+        assertThat(channels("RECURRING_TRANSACTION", recurring)).containsExactlyInAnyOrder("IN_APP", "EMAIL");
+
+        fanOutService.generateReminders(TODAY);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE user_id = ?", Integer.class, userId)).isEqualTo(6);
+    }
+
+    @Test
+    void userPreferencesLimitTheChannels() {
+        inTransaction("UPDATE users SET pref_email_notifications = false WHERE id = ?", userId);
+        UUID renewing = subscription("renewing", TODAY.plusDays(1));
+
+        fanOutService.generateReminders(TODAY);
+
+        assertThat(channels("SUBSCRIPTION_REMINDER", renewing)).containsExactly("IN_APP");
+    }
+
+    private UUID subscription(String name, LocalDate nextBillingDate) {
+        UUID id = UUID.randomUUID();
+        inTransaction("INSERT INTO subscriptions (id, user_id, wallet_id, name, amount, currency_code, " +
+                        "billing_frequency, start_date, next_billing_date) " +
+                        "VALUES (?, ?, ?, ?, 10, 'USD', 'MONTHLY', ?, ?)",
+                id, userId, walletId, name, nextBillingDate.minusMonths(1), nextBillingDate);
+        return id;
+    }
+
+    private List<String> channels(String type, UUID relatedEntityId) {
+        return jdbcTemplate.queryForList(
+                "SELECT channel FROM notifications WHERE type = ? AND related_entity_id = ?",
+                String.class, type, relatedEntityId);
+    }
+
+    private void inTransaction(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+}
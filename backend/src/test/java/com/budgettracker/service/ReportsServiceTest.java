@@ -0,0 +1,47 @@
+package com.budgettracker.service;
+
+import com.budgettracker.dto.response.NetWorthResponse;
+import com.budgettracker.entity.enums.TransactionType;
+import com.budgettracker.repository.BudgetRepository;
+import com.budgettracker.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final WalletService walletService = mock(WalletService.class);
+    private final ReportsService reportsService = new ReportsService(
+            transactionRepository, walletService, mock(BudgetRepository.class));
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void dashboardTotalIsTheConsolidatedNetWorth() {
+        // 100 USD and 20 EUR must not be added as 120
+        when(walletService.getNetWorth(userId)).thenReturn(NetWorthResponse.builder()
+                .currencyCode("EUR")
+                .total(new BigDecimal("70.00"))
+                .balancesByCurrency(Map.of("USD", new BigDecimal("100"), "EUR", new BigDecimal("20")))
+                .build());
+        when(transactionRepository.sumByUserIdAndTypeAndDateRange(userId, TransactionType.INCOME, FROM, TO))
+                .thenReturn(new BigDecimal("50"));
+
+        Map<String, Object> summary = reportsService.getDashboardSummary(userId, FROM, TO);
+
+        assertThat(summary).containsEntry("totalBalance", new BigDecimal("70.00"))
+                .containsEntry("currencyCode", "EUR")
+                .containsEntry("totalExpense", BigDecimal.ZERO)
+                .containsEntry("netIncome", new BigDecimal("50"));
+    }
+}
@@ -0,0 +1,225 @@
+package com.budgettracker.service;
+
+import com.budgettracker.config.CacheConfig;
+import com.budgettracker.dto.request.SyncPushRequest;
+import com.budgettracker.dto.response.SyncPushResponse;
+import com.budgettracker.dto.response.SyncPushResult;
+import com.budgettracker.support.PostgresIntegrationTest;
+import com.budgettracker.sync.SyncEntityType;
+import com.budgettracker.sync.SyncPushOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs with the default last-write-wins policy. "Server edits" are made with plain SQL after the
+ * client's base version, standing in for another device that synced first.
+ */
+class SyncPushServiceIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private SyncPushService syncPushService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private UUID userId;
+    private UUID walletId;
+
+    @BeforeEach
+    void seedUser() {
+        userId = UUID.randomUUID();
+        walletId = UUID.randomUUID();
+        inTransaction("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+        inTransaction("INSERT INTO wallets (id, user_id, name, type, balance) VALUES (?, ?, 'Cash', 'CASH', 80)",
+                walletId, userId);
+    }
+
+    @Test
+    void concurrentEditsOfDifferentFieldsMerge() {
+        UUID id = transaction();
+        inTransaction("UPDATE transactions SET description = 'server', version = version + 1, updated_at = NOW() " +
+                "WHERE id = ?", id);
+
+        SyncPushResult result = pushOne(change(id, 0, Instant.now().minus(Duration.ofHours(1)),
+                Map.of("notes", "client"), nullValued("notes")));
+
+        assertThat(result.getOutcome()).isEqualTo(SyncPushOutcome.APPLIED);
+        assertThat(text(id, "description")).isEqualTo("server");
+        assertThat(text(id, "notes")).isEqualTo("client");
+        assertThat(result.getVersion()).isEqualTo(
+                jdbcTemplate.queryForObject("SELECT version FROM transactions WHERE id = ?", Long.class, id));
+    }
+
+    @Test
+    void overlappingEditsAreResolvedByEditTime() {
+        UUID older = transaction();
+        UUID newer = transaction();
+        inTransaction("UPDATE transactions SET description = 'server', version = version + 1, updated_at = NOW() " +
+                "WHERE id IN (?, ?)", older, newer);
+
+        SyncPushResponse response = push(
+                change(older, 0, Instant.now().minus(Duration.ofHours(1)),
+                        Map.of("description", "stale client"), Map.of("description", "seeded")),
+                change(newer, 0, Instant.now().plus(Duration.ofHours(1)),
+                        Map.of("description", "fresh client", "notes", "added"), seededBase()));
+
+        SyncPushResult serverWon = response.getResults().get(0);
+        assertThat(serverWon.getOutcome()).isEqualTo(SyncPushOutcome.SERVER_WON);
+        assertThat(serverWon.getServerWonFields()).containsExactly("description");
+        assertThat(text(older, "description")).isEqualTo("server");
+
+        SyncPushResult clientWon = response.getResults().get(1);
+        assertThat(clientWon.getOutcome()).isEqualTo(SyncPushOutcome.MERGED);
+        assertThat(clientWon.getConflictingFields()).containsExactly("description");
+        assertThat(clientWon.getServerWonFields()).isNull();
+        assertThat(text(newer, "description")).isEqualTo("fresh client");
+        assertThat(text(newer, "notes")).isEqualTo("added");
+        assertThat(jdbcTemplate.queryForObject("SELECT conflict_resolved FROM transactions WHERE id = ?",
+                Boolean.class, newer)).isTrue();
+
+        assertThat(response.getServerWon()).isEqualTo(1);
+        assertThat(response.getMerged()).isEqualTo(1);
+    }
+
+    @Test
+    void amountEditsAndDeletesMoveTheWalletBalanceOnce() {
+        UUID edited = transaction();
+        UUID deleted = transaction();
+
+        // The second edit of the same field in one batch supersedes the first
+        SyncPushResponse response = push(
+                change(edited, 0, Instant.now(), Map.of("amount", 25), Map.of()),
+                change(edited, 0, Instant.now(), Map.of("amount", 40), Map.of()),
+                delete(deleted, 0));
+
+        assertThat(response.getApplied()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT amount FROM transactions WHERE id = ?", BigDecimal.class, edited))
+                .isEqualByComparingTo("40");
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted FROM transactions WHERE id = ?", Boolean.class, deleted))
+                .isTrue();
+        // 80 - (40 - 10) + 10
+        assertThat(jdbcTemplate.queryForObject("SELECT balance FROM wallets WHERE id = ?", BigDecimal.class, walletId))
+                .isEqualByComparingTo("60");
+    }
+
+    @Test
+    void changesOutsideTheWritableSurfaceAreRejected() {
+        UUID own = transaction();
+        UUID otherUser = UUID.randomUUID();
+        UUID foreignWallet = UUID.randomUUID();
+        inTransaction("INSERT INTO users (id, email) VALUES (?, ?)", otherUser, otherUser + "@example.com");
+        inTransaction("INSERT INTO wallets (id, user_id, name, type) VALUES (?, ?, 'Theirs', 'CASH')",
+                foreignWallet, otherUser);
+
+        SyncPushRequest.Change foreign = change(foreignWallet, 0, Instant.now(), Map.of("name", "Mine"), Map.of());
+        foreign.setEntityType(SyncEntityType.WALLET);
+
+        SyncPushResponse response = push(
+                change(own, 0, Instant.now(), Map.of("currency_code", "EUR"), Map.of()),
+                foreign,
+                delete(UUID.randomUUID(), 0));
+
+        assertThat(response.getResults()).extracting(SyncPushResult::getOutcome).containsExactly(
+                SyncPushOutcome.REJECTED, SyncPushOutcome.REJECTED, SyncPushOutcome.APPLIED);
+        assertThat(response.getResults().get(0).getReason()).isEqualTo("UNSUPPORTED_FIELD:currency_code");
+        assertThat(response.getResults().get(1).getReason()).isEqualTo("NOT_FOUND");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM wallets WHERE id = ?", String.class, foreignWallet))
+                .isEqualTo("Theirs");
+    }
+
+    @Test
+    void walletChangesEvictNetWorth() {
+        Cache netWorth = cacheManager.getCache(CacheConfig.NET_WORTH);
+        netWorth.put(userId + ":cached", "stale");
+
+        SyncPushRequest.Change exclude = change(walletId, 0, Instant.now(), Map.of("exclude_from_totals", true),
+                Map.of("exclude_from_totals", false));
+        exclude.setEntityType(SyncEntityType.WALLET);
+
+        assertThat(pushOne(exclude).getOutcome()).isEqualTo(SyncPushOutcome.APPLIED);
+        assertThat(netWorth.get(userId + ":cached")).isNull();
+    }
+
+    private SyncPushResult pushOne(SyncPushRequest.Change change) {
+        return push(change).getResults().get(0);
+    }
+
+    private SyncPushResponse push(SyncPushRequest.Change... changes) {
+        SyncPushRequest request = new SyncPushRequest();
+        request.setDeviceId("test-device");
+        request.setChanges(List.of(changes));
+        return syncPushService.push(userId, request);
+    }
+
+    private static SyncPushRequest.Change change(UUID id, long baseVersion, Instant changedAt,
+                                                 Map<String, Object> fields, Map<String, Object> baseFields) {
+        SyncPushRequest.Change change = new SyncPushRequest.Change();
+        change.setEntityType(SyncEntityType.TRANSACTION);
+        change.setOperation("UPDATE");
+        change.setId(id);
+        change.setBaseVersion(baseVersion);
+        change.setChangedAt(changedAt);
+        change.setFields(fields);
+        change.setBaseFields(baseFields);
+        return change;
+    }
+
+    private static SyncPushRequest.Change delete(UUID id, long baseVersion) {
+        SyncPushRequest.Change change = change(id, baseVersion, Instant.now(), null, null);
+        change.setOperation("DELETE");
+        return change;
+    }
+
+    /**
+     * Map.of rejects null values, which is how a client reports a field that was empty
+     */
+    private static Map<String, Object> nullValued(String field) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(field, null);
+        return fields;
+    }
+
+    private static Map<String, Object> seededBase() {
+        Map<String, Object> fields = nullValued("notes");
+        fields.put("description", "seeded");
+        return fields;
+    }
+
+    private UUID transaction() {
+        UUID id = UUID.randomUUID();
+        inTransaction("INSERT INTO transactions (id, user_id, wallet_id, type, amount, amount_in_wallet_currency, " +
+                "currency_code, description, transaction_date) " +
+                "VALUES (?, ?, ?, 'EXPENSE', 10, 10, 'USD', 'seeded', CURRENT_DATE)", id, userId, walletId);
+        return id;
+    }
+
+    private String text(UUID transactionId, String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT " + column + " FROM transactions WHERE id = ?", String.class, transactionId);
+    }
+
+    private void inTransaction(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+}
@@ -0,0 +1,159 @@
+package com.budgettracker.service;
+
+import com.budgettracker.dto.response.SyncChange;
+import com.budgettracker.dto.response.SyncChangesResponse;
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.support.PostgresIntegrationTest;
+import com.budgettracker.sync.SyncToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyncServiceIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+    private UUID walletId;
+
+    @BeforeEach
+    void seedUser() {
+        userId = UUID.randomUUID();
+        walletId = UUID.randomUUID();
+        inTransaction("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+        inTransaction("INSERT INTO wallets (id, user_id, name, type) VALUES (?, ?, 'Cash', 'CASH')", walletId, userId);
+    }
+
+    @Test
+    void pagesCoverEveryChangeOnceAndFollowUpdatesAndDeletes() {
+        List<UUID> seeded = new ArrayList<>(List.of(walletId));
+        for (int i = 0; i < 3; i++) {
+            seeded.add(tag("tag-" + i));
+        }
+        for (int i = 0; i < 4; i++) {
+            seeded.add(transaction());
+        }
+
+        List<SyncChange> initial = new ArrayList<>();
+        String token = drain(null, 2, initial);
+
+        assertThat(ownChanges(initial)).containsExactlyInAnyOrderElementsOf(seeded);
+
+        UUID updated = seeded.get(4);
+        UUID deleted = seeded.get(1);
+        inTransaction("UPDATE transactions SET description = 'edited', version = version + 1 WHERE id = ?", updated);
+        inTransaction("UPDATE tags SET deleted = TRUE, deleted_at = NOW() WHERE id = ?", deleted);
+
+        List<SyncChange> delta = new ArrayList<>();
+        drain(token, 2, delta);
+
+        assertThat(delta).extracting(SyncChange::getId).containsExactly(updated, deleted);
+        assertThat(delta.get(0).getOperation()).isEqualTo("UPDATE");
+        assertThat(delta.get(0).getData()).containsEntry("description", "edited").doesNotContainKey("change_seq");
+        assertThat(delta.get(1).getOperation()).isEqualTo("DELETE");
+        assertThat(delta.get(1).getData()).isNull();
+    }
+
+    @Test
+    void changesCommittedBehindAnOpenWriterWaitForIt() {
+        String token = drain(null, 1000, new ArrayList<>());
+
+        // The open transaction takes its id first; the concurrent one commits while it is still open
+        UUID early = UUID.randomUUID();
+        List<SyncChange> whileOpen = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("INSERT INTO tags (id, user_id, name) VALUES (?, ?, 'early')", early, userId);
+            try {
+                return CompletableFuture.supplyAsync(() -> {
+                    tag("late");
+                    return syncService.getChanges(userId, token, 1000).getChanges();
+                }).get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(whileOpen).isEmpty();
+
+        List<SyncChange> afterCommit = syncService.getChanges(userId, token, 1000).getChanges();
+        assertThat(afterCommit).hasSize(2);
+        assertThat(afterCommit.get(0).getId()).isEqualTo(early);
+    }
+
+    @Test
+    void tokenOlderThanTheTombstoneWindowRequiresReset() {
+        String stale = new SyncToken(0, -1, null, Instant.now().minus(Duration.ofDays(31))).encode();
+
+        SyncChangesResponse response = syncService.getChanges(userId, stale, 100);
+
+        assertThat(response.getResetRequired()).isTrue();
+        assertThat(response.getChanges()).isEmpty();
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThatThrownBy(() -> syncService.getChanges(userId, "not-a-token", 100))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    /**
+     * Follows nextToken until hasMore is false and returns the last token
+     */
+    private String drain(String token, int pageSize, List<SyncChange> into) {
+        SyncChangesResponse page;
+        do {
+            page = syncService.getChanges(userId, token, pageSize);
+            assertThat(page.getChanges()).hasSizeLessThanOrEqualTo(pageSize);
+            into.addAll(page.getChanges());
+            token = page.getNextToken();
+        } while (page.getHasMore());
+        return token;
+    }
+
+    /**
+     * Ids of the user's own rows; shared system categories are part of every feed
+     */
+    private static List<UUID> ownChanges(List<SyncChange> changes) {
+        return changes.stream()
+                .filter(change -> !change.getEntityType().equals("CATEGORY"))
+                .map(SyncChange::getId)
+                .toList();
+    }
+
+    private UUID tag(String name) {
+        UUID id = UUID.randomUUID();
+        inTransaction("INSERT INTO tags (id, user_id, name) VALUES (?, ?, ?)", id, userId, name);
+        return id;
+    }
+
+    private UUID transaction() {
+        UUID id = UUID.randomUUID();
+        inTransaction("INSERT INTO transactions (id, user_id, wallet_id, type, amount, currency_code, transaction_date) " +
+                "VALUES (?, ?, ?, 'EXPENSE', 10, 'USD', CURRENT_DATE)", id, userId, walletId);
+        return id;
+    }
+
+    private void inTransaction(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+}
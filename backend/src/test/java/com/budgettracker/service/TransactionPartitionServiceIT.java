@@ -0,0 +1,168 @@
+package com.budgettracker.service;
+
+import com.budgettracker.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the backfill and the cutover on a container of its own, since the cutover swaps the
+ * transactions table out from under every other test.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TransactionPartitionServiceIT {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        PostgresIntegrationTest.registerPostgres(registry, postgres);
+    }
+
+    @Autowired
+    private TransactionPartitionService partitionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static final List<UUID> transactionIds = new ArrayList<>();
+
+    @Test
+    @Order(1)
+    void createdPartitionsAreCommitted() {
+        LocalDate farFuture = LocalDate.now().plusYears(20);
+
+        List<String> created = partitionService.createFuturePartitions(farFuture, 1);
+
+        assertThat(created).hasSize(2);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = 'transactions_partitioned'",
+                String.class)).containsAll(created);
+    }
+
+    @Test
+    @Order(2)
+    void backfillSkipsWhileAnotherInstanceHoldsTheProgressRow() throws Exception {
+        seedTransactions(5);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList(
+                    "SELECT table_name FROM partition_backfill_progress WHERE table_name = 'transactions' FOR UPDATE");
+            try {
+                int rows = CompletableFuture.supplyAsync(() -> partitionService.backfillChunk(100))
+                        .get(10, TimeUnit.SECONDS);
+                assertThat(rows).isZero();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(partitionService.getStatus().rowsCopied()).isZero();
+        assertThat(partitionService.backfillChunk(100)).isEqualTo(transactionIds.size());
+    }
+
+    @Test
+    @Order(3)
+    void cutoverCarriesReferencesOverToThePartitionedTable() {
+        while (partitionService.backfillChunk(2) > 0) {
+            // copy until the source is exhausted
+        }
+        assertThat(partitionService.getStatus().completed()).isTrue();
+
+        partitionService.cutover();
+
+        assertThat(partitionService.isCutOver()).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE relname = 'transactions'", String.class)).isEqualTo("p");
+
+        // Dangling references are rejected
+        assertThatThrownBy(() -> inTransaction(
+                "INSERT INTO transaction_tags (transaction_id, tag_id) SELECT ?, id FROM tags LIMIT 1",
+                UUID.randomUUID()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        // Moving a row to another quarter keeps its children
+        UUID moved = transactionIds.get(0);
+        inTransaction("UPDATE transactions SET transaction_date = transaction_date + INTERVAL '3 months' WHERE id = ?",
+                moved);
+        assertThat(childCount("transaction_tags", "transaction_id", moved)).isEqualTo(1);
+        assertThat(childCount("transaction_splits", "parent_transaction_id", moved)).isEqualTo(1);
+
+        // Deleting a transaction cascades to its children
+        UUID deleted = transactionIds.get(1);
+        inTransaction("DELETE FROM transactions WHERE id = ?", deleted);
+        assertThat(childCount("transaction_tags", "transaction_id", deleted)).isZero();
+        assertThat(childCount("transaction_splits", "parent_transaction_id", deleted)).isZero();
+        assertThat(childCount("transaction_attachments", "transaction_id", deleted)).isZero();
+    }
+
+    private void seedTransactions(int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            UUID userId = UUID.randomUUID();
+            UUID walletId = UUID.randomUUID();
+            UUID tagId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO users (id, email) VALUES (?, ?)", userId, userId + "@example.com");
+            jdbcTemplate.update("INSERT INTO wallets (id, user_id, name, type) VALUES (?, ?, 'Cash', 'CASH')",
+                    walletId, userId);
+            jdbcTemplate.update("INSERT INTO tags (id, user_id, name) VALUES (?, ?, 'groceries')", tagId, userId);
+            UUID categoryId = jdbcTemplate.queryForObject(
+                    "SELECT id FROM categories WHERE type = 'EXPENSE' LIMIT 1", UUID.class);
+
+            for (int i = 0; i < count; i++) {
+                UUID id = UUID.randomUUID();
+                jdbcTemplate.update(
+                        "INSERT INTO transactions (id, user_id, wallet_id, category_id, type, amount, currency_code, " +
+                        "transaction_date) VALUES (?, ?, ?, ?, 'EXPENSE', 10, 'USD', CURRENT_DATE)",
+                        id, userId, walletId, categoryId);
+                jdbcTemplate.update("INSERT INTO transaction_tags (transaction_id, tag_id) VALUES (?, ?)", id, tagId);
+                jdbcTemplate.update(
+                        "INSERT INTO transaction_splits (parent_transaction_id, category_id, amount) VALUES (?, ?, 5)",
+                        id, categoryId);
+                jdbcTemplate.update(
+                        "INSERT INTO transaction_attachments (transaction_id, file_name, file_url) " +
+                        "VALUES (?, 'receipt.jpg', 'local://receipt.jpg')",
+                        id);
+                transactionIds.add(id);
+            }
+        });
+    }
+
+    private void inTransaction(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+
+    private int childCount(String table, String column, UUID transactionId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Integer.class, transactionId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.budgettracker.service;
+
+import com.budgettracker.dto.response.NetWorthResponse;
+import com.budgettracker.entity.User;
+import com.budgettracker.entity.Wallet;
+import com.budgettracker.exception.BusinessException;
+import com.budgettracker.fx.FxRateProvider;
+import com.budgettracker.fx.FxRateTable;
+import com.budgettracker.repository.FxRateSnapshotRepository;
+import com.budgettracker.repository.WalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WalletServiceTest {
+
+    private final WalletRepository walletRepository = mock(WalletRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final FxRateProvider provider = mock(FxRateProvider.class);
+    private final CacheInvalidationService cacheInvalidationService = mock(CacheInvalidationService.class);
+    private final UUID userId = UUID.randomUUID();
+    private WalletService walletService;
+
+    @BeforeEach
+    void setUp() {
+        when(provider.name()).thenReturn("test");
+        when(provider.fetchLatest("USD")).thenReturn(new FxRateTable("USD", LocalDateTime.now(), "test",
+                Map.of("EUR", new BigDecimal("0.5"), "GBP", new BigDecimal("0.25"))));
+        FxRateService fxRateService = new FxRateService(mock(FxRateSnapshotRepository.class), List.of(provider),
+                new SimpleMeterRegistry(), "USD", "test");
+        fxRateService.refresh();
+
+        User user = new User();
+        user.setId(userId);
+        user.setCurrencyCode("EUR");
+        when(userService.getUserById(userId)).thenReturn(user);
+        walletService = new WalletService(walletRepository, userService, fxRateService, cacheInvalidationService);
+    }
+
+    @Test
+    void netWorthConvertsEachCurrencyTotalIntoTheUserCurrency() {
+        when(walletRepository.sumBalancesByCurrency(userId)).thenReturn(List.of(
+                new Object[] {"USD", new BigDecimal("100")},
+                new Object[] {"EUR", new BigDecimal("20")},
+                new Object[] {"GBP", new BigDecimal("10")}));
+
+        NetWorthResponse netWorth = walletService.getNetWorth(userId);
+
+        // 100 USD = 50 EUR, 10 GBP = 20 EUR
+        assertThat(netWorth.getCurrencyCode()).isEqualTo("EUR");
+        assertThat(netWorth.getTotal()).isEqualByComparingTo("90.00");
+        assertThat(netWorth.getBalancesByCurrency()).containsOnlyKeys("EUR", "GBP", "USD");
+        assertThat(netWorth.getRatesAsOf()).isNotNull();
+    }
+
+    @Test
+    void netWorthWithoutWalletsIsZero() {
+        when(walletRepository.sumBalancesByCurrency(userId)).thenReturn(List.of());
+
+        assertThat(walletService.getNetWorth(userId).getTotal()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void unknownCurrencyIsRejectedRatherThanSkipped() {
+        when(walletRepository.sumBalancesByCurrency(userId)).thenReturn(List.<Object[]>of(
+                new Object[] {"JPY", new BigDecimal("1000")}));
+
+        assertThatThrownBy(() -> walletService.getNetWorth(userId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("JPY");
+    }
+
+    @Test
+    void balanceChangesEvictTheDashboardAlongsideNetWorth() {
+        Wallet wallet = new Wallet();
+        wallet.setId(UUID.randomUUID());
+        wallet.setUser(userService.getUserById(userId));
+        wallet.setBalance(new BigDecimal("10"));
+        when(walletRepository.findById(wallet.getId())).thenReturn(Optional.of(wallet));
+        when(walletRepository.save(any(Wallet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        walletService.createWallet(userId, new Wallet());
+        walletService.updateBalance(wallet.getId(), new BigDecimal("5"));
+        walletService.deleteWallet(wallet.getId());
+
+        verify(cacheInvalidationService, times(3)).evictNetWorth(userId);
+        verify(cacheInvalidationService, times(3)).evictDashboard(userId);
+    }
+}
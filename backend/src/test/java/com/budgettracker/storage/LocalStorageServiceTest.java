@@ -0,0 +1,94 @@
+package com.budgettracker.storage;
+
+import com.budgettracker.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalStorageServiceTest {
+
+    @TempDir
+    private Path root;
+
+    private LocalStorageService storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalStorageService(root.toString());
+    }
+
+    @Test
+    void contentIsStoredUnderItsHash() throws IOException {
+        StoredObject stored = storage.store(content("receipt"), 1024);
+
+        assertThat(stored.sha256()).hasSize(64);
+        assertThat(stored.key()).isEqualTo("objects/" + stored.sha256().substring(0, 2) + "/"
+                + stored.sha256().substring(2, 4) + "/" + stored.sha256());
+        assertThat(stored.size()).isEqualTo(7);
+        assertThat(stored.deduplicated()).isFalse();
+        assertThat(storage.exists(stored.key())).isTrue();
+        try (InputStream in = storage.load(stored.key()).getInputStream()) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("receipt");
+        }
+    }
+
+    @Test
+    void identicalContentIsStoredOnce() throws IOException {
+        StoredObject first = storage.store(content("receipt"), 1024);
+        StoredObject second = storage.store(content("receipt"), 1024);
+
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(second.deduplicated()).isTrue();
+        assertThat(storedFiles()).hasSize(1);
+    }
+
+    @Test
+    void oversizedUploadIsRejectedWithoutLeavingFiles() throws IOException {
+        assertThatThrownBy(() -> storage.store(content("a receipt that is too long"), 8))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("maximum size");
+
+        assertThat(storedFiles()).isEmpty();
+    }
+
+    @Test
+    void derivedContentIsStoredAtItsKey() throws IOException {
+        storage.storeAt("thumbnails/ab/thumb.jpg", content("thumbnail"));
+
+        assertThat(storage.localPath("thumbnails/ab/thumb.jpg")).hasValueSatisfying(path ->
+                assertThat(path).hasContent("thumbnail"));
+
+        storage.delete("thumbnails/ab/thumb.jpg");
+
+        assertThat(storage.exists("thumbnails/ab/thumb.jpg")).isFalse();
+        assertThat(storage.localPath("thumbnails/ab/thumb.jpg")).isEmpty();
+    }
+
+    @Test
+    void keysCannotEscapeTheRoot() {
+        assertThatThrownBy(() -> storage.load("../outside")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> storage.load("objects/../../outside")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> storage.load("/etc/passwd")).isInstanceOf(BusinessException.class);
+    }
+
+    private static InputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Stream<Path> storedFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).toList().stream();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.budgettracker.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class for integration tests that need real PostgreSQL: the schema is
+ * built by the Flyway migrations and the connection settings match production
+ * (auto-commit off), so transaction boundaries behave as they do when deployed.
+ *
+ * One container is shared by every subclass and left to Testcontainers to
+ * stop; tests are skipped when no Docker daemon is available.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registerPostgres(registry, POSTGRES);
+    }
+
+    /**
+     * Point the application at {@code postgres}. Tests that rewrite the schema itself use this
+     * with a container of their own instead of extending this class.
+     */
+    public static void registerPostgres(DynamicPropertyRegistry registry, PostgreSQLContainer<?> postgres) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("app.features.event-streaming", () -> "false");
+        registry.add("spring.kafka.bootstrap-servers", () -> "localhost:9092");
+        registry.add("logging.level.org.hibernate.SQL", () -> "INFO");
+        registry.add("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", () -> "INFO");
+    }
+}
@@ -0,0 +1,43 @@
+package com.budgettracker.support;
+
+import com.budgettracker.metrics.SqlStatementCounter;
+
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * Test assertion on the number of Hibernate statements an action issues, counted through
+ * {@link SqlStatementCounter}, e.g. wrapping {@code mockMvc.perform(...)}:
+ *
+ * <pre>{@code
+ * StatementBudget.assertMaxStatements(4, () -> mockMvc.perform(get("/api/transactions")))
+ *         .andExpect(status().isOk());
+ * }</pre>
+ */
+public final class StatementBudget {
+
+    private StatementBudget() {
+    }
+
+    /**
+     * Run {@code action} and fail if it issued more than {@code maxStatements} statements.
+     *
+     * @throws AssertionError listing the statements issued when the budget is exceeded
+     */
+    public static <T> T assertMaxStatements(int maxStatements, Callable<T> action) throws Exception {
+        T result;
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        try {
+            result = action.call();
+        } finally {
+            scope.close();
+        }
+        if (scope.count() > maxStatements) {
+            throw new AssertionError("Expected at most " + maxStatements + " SQL statements but was "
+                    + scope.count() + ":\n" + scope.statements().entrySet().stream()
+                    .map(entry -> entry.getValue() + "x " + entry.getKey())
+                    .collect(Collectors.joining("\n")));
+        }
+        return result;
+    }
+}
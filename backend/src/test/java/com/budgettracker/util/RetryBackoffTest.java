@@ -0,0 +1,23 @@
+package com.budgettracker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBackoffTest {
+
+    @Test
+    void delayDoublesPerAttemptWithinTheJitterBand() {
+        assertThat(RetryBackoff.delay(1, 30, 3600)).isBetween(Duration.ofSeconds(24), Duration.ofSeconds(36));
+        assertThat(RetryBackoff.delay(2, 30, 3600)).isBetween(Duration.ofSeconds(48), Duration.ofSeconds(72));
+        assertThat(RetryBackoff.delay(3, 30, 3600)).isBetween(Duration.ofSeconds(96), Duration.ofSeconds(144));
+    }
+
+    @Test
+    void delayIsCappedAndSafeForLargeAttemptCounts() {
+        assertThat(RetryBackoff.delay(500, 30, 3600)).isBetween(Duration.ofSeconds(2880), Duration.ofSeconds(4320));
+        assertThat(RetryBackoff.delay(0, 30, 3600)).isBetween(Duration.ofSeconds(24), Duration.ofSeconds(36));
+    }
+}
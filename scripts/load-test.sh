@@ -0,0 +1,111 @@
+#!/bin/bash
+
+###############################################################################
+# Load Test Script
+#
+# Runs a k6 scenario against a running backend and records throughput and
+# latency percentiles (overall and per endpoint) under a label.
+#
+# Scenarios (SCENARIO=...):
+#   api-mix    self-registering users, fixed VUs; used to compare thread modes
+#   scenarios  seeded data, fixed arrival rate per endpoint (dashboard, list,
+#              search, create, batch import); used for pod and pool sizing
+#
+#   ./scripts/load-test.sh seed                      # generate-data.sh (COPY)
+#   SCENARIO=scenarios ./scripts/load-test.sh pool-20
+#   DB_POOL_SIZE=40 ... SCENARIO=scenarios ./scripts/load-test.sh pool-40
+#   ./scripts/load-test.sh compare pool-20 pool-40
+#
+#   SPRING_PROFILES_ACTIVE=prod                  -> ./scripts/load-test.sh platform
+#   SPRING_PROFILES_ACTIVE=prod,virtual-threads  -> ./scripts/load-test.sh virtual
+#
+# Disable the rate limiter for the target (APP_SECURITY_RATE_LIMIT_ENABLED=false;
+# the docker-compose dev profile already does), otherwise it decides the result.
+#
+# Environment: BASE_URL (default http://localhost:8080), DURATION (2m),
+#   api-mix: VUS (200); scenarios: RATE_SCALE (1), ACTIVE_USERS (50), SEEDED_USERS
+###############################################################################
+
+set -e
+
+# Colors
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+RESULTS_DIR="$PROJECT_ROOT/load-test-results"
+
+print_info() { echo -e "${BLUE}ℹ ${NC}$1"; }
+print_success() { echo -e "${GREEN}✓ ${NC}$1"; }
+print_error() { echo -e "${RED}✗ ${NC}$1"; }
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+VUS="${VUS:-200}"
+DURATION="${DURATION:-2m}"
+SCENARIO="${SCENARIO:-api-mix}"
+
+# Prints "label  endpoint  rps  p50  p95  p99  failed" from a k6 summary file, one row for
+# the whole run and one per endpoint when the scenario tags requests with an endpoint
+summarize() {
+    local label=$1
+    jq -r --arg label "$label" '
+        def row($name; $duration; $reqs):
+            [$label, $name,
+             (($reqs.values.rate // 0) * 10 | floor / 10 | tostring) + " req/s",
+             "p50 " + ($duration.values["p(50)"] | floor | tostring) + " ms",
+             "p95 " + ($duration.values["p(95)"] | floor | tostring) + " ms",
+             "p99 " + ($duration.values["p(99)"] | floor | tostring) + " ms"];
+        .metrics as $m
+        | (row("all"; $m.http_req_duration; $m.http_reqs)
+           + ["failed " + (($m.http_req_failed.values.rate * 100) | tostring) + "%"]),
+          ($m | keys[] | select(startswith("http_req_duration{endpoint:"))
+              | capture("endpoint:(?<name>[^}]+)").name as $name
+              | select($name != "setup")
+              | row($name; $m[.]; $m["http_reqs{endpoint:" + $name + "}"] // {}))
+        | @tsv' "$RESULTS_DIR/$label.json"
+}
+
+run() {
+    local label=$1
+    mkdir -p "$RESULTS_DIR"
+    print_info "Running $SCENARIO for $DURATION against $BASE_URL ($label)"
+
+    local env_vars=(BASE_URL VUS DURATION RATE_SCALE ACTIVE_USERS SEEDED_USERS IMPORT_BATCH_SIZE)
+    if command -v k6 > /dev/null 2>&1; then
+        SUMMARY_FILE="$RESULTS_DIR/$label.json" k6 run --quiet \
+            $(for var in "${env_vars[@]}"; do [ -n "${!var}" ] && echo "-e $var=${!var}"; done) \
+            "$SCRIPT_DIR/load-test/$SCENARIO.js"
+    else
+        docker run --rm -i --network host \
+            $(for var in "${env_vars[@]}"; do [ -n "${!var}" ] && echo "-e $var=${!var}"; done) \
+            -e SUMMARY_FILE="/results/$label.json" \
+            -v "$SCRIPT_DIR/load-test:/scripts:ro" -v "$RESULTS_DIR:/results" \
+            grafana/k6 run --quiet "/scripts/$SCENARIO.js"
+    fi
+
+    print_success "Results saved to $RESULTS_DIR/$label.json"
+    summarize "$label" | column -t -s $'\t'
+}
+
+case "${1:-}" in
+    seed|clean)
+        "$SCRIPT_DIR/load-test/generate-data.sh" "$1"
+        ;;
+    compare)
+        [ $# -ge 3 ] || { print_error "Usage: $0 compare <label> <label>..."; exit 1; }
+        shift
+        for label in "$@"; do
+            summarize "$label"
+        done | column -t -s $'\t'
+        ;;
+    "")
+        print_error "Usage: $0 <label> | compare <label> <label>... | seed | clean"
+        exit 1
+        ;;
+    *)
+        run "$1"
+        ;;
+esac
@@ -0,0 +1,77 @@
+// k6 load scenario: authenticated read/write mix against the REST API.
+// Run through scripts/load-test.sh, which passes BASE_URL, VUS and DURATION.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200');
+const DURATION = __ENV.DURATION || '2m';
+const USERS = parseInt(__ENV.USERS || '20');
+
+export const options = {
+    scenarios: {
+        api_mix: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+// Registers USERS users with one wallet each; VUs share them round-robin
+export function setup() {
+    const run = Date.now();
+    const users = [];
+    for (let i = 0; i < USERS; i++) {
+        const email = `loadtest-${run}-${i}@example.com`;
+        const password = 'LoadTest123!';
+        const registered = http.post(`${BASE_URL}/api/auth/register`,
+            JSON.stringify({ email, username: `lt${run}${i}`, password, currencyCode: 'USD' }),
+            { headers: JSON_HEADERS });
+        check(registered, { 'registered': (r) => r.status === 201 });
+        const auth = http.post(`${BASE_URL}/api/auth/login`,
+            JSON.stringify({ emailOrUsername: email, password }), { headers: JSON_HEADERS });
+        const token = auth.json('data.accessToken');
+        const headers = { ...JSON_HEADERS, Authorization: `Bearer ${token}` };
+
+        const wallet = http.post(`${BASE_URL}/api/wallets`,
+            JSON.stringify({ name: 'Load test', type: 'CASH', currencyCode: 'USD', initialBalance: 1000 }),
+            { headers });
+        users.push({ headers, walletId: wallet.json('data.id') });
+    }
+    return { users };
+}
+
+export default function (data) {
+    const user = data.users[__VU % data.users.length];
+    const roll = Math.random();
+
+    let res;
+    if (roll < 0.6) {
+        res = http.get(`${BASE_URL}/api/transactions?page=0&size=20`, { headers: user.headers, tags: { name: 'list' } });
+    } else if (roll < 0.8) {
+        res = http.get(`${BASE_URL}/api/reports/dashboard`, { headers: user.headers, tags: { name: 'dashboard' } });
+    } else {
+        res = http.post(`${BASE_URL}/api/transactions`, JSON.stringify({
+            walletId: user.walletId,
+            type: 'EXPENSE',
+            amount: (Math.random() * 100).toFixed(2),
+            currencyCode: 'USD',
+            transactionDate: new Date().toISOString().substring(0, 10),
+            description: 'Load test',
+        }), { headers: user.headers, tags: { name: 'create' } });
+    }
+    check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function handleSummary(data) {
+    const out = __ENV.SUMMARY_FILE || 'summary.json';
+    return { [out]: JSON.stringify(data, null, 2) };
+}
@@ -0,0 +1,229 @@
+#!/bin/bash
+
+###############################################################################
+# Synthetic Data Generator
+#
+# Seeds USERS users, each with 1-4 wallets, two custom categories and around
+# TRANSACTIONS_PER_USER transactions spread over the last DAYS days. Rows are
+# streamed into PostgreSQL with COPY. Output depends only on SEED, so repeated
+# runs give the same data set.
+#
+# Transaction dates are relative to the day of the run.
+#
+# Distributions:
+#   - activity per user varies 0.5x-1.5x around TRANSACTIONS_PER_USER
+#   - ~90% expenses, log-normal amounts (median ~28, long tail); ~10% income
+#   - categories and merchants follow a Zipf-like popularity curve
+#   - most spending goes through the user's default wallet
+#
+# Seeded users log in as loadtest-<n>@example.com / LoadTest123!
+# Every seeded id starts with 10ad, and 'clean' removes them again.
+#
+#   ./scripts/load-test/generate-data.sh
+#   USERS=5000 TRANSACTIONS_PER_USER=1000 ./scripts/load-test/generate-data.sh
+#   ./scripts/load-test/generate-data.sh clean
+#
+# The schema must exist (start the backend once so Flyway migrates it).
+# PSQL overrides how the database is reached; by default it uses psql inside
+# the docker-compose postgres container.
+###############################################################################
+
+set -eo pipefail
+
+# Colors
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+print_info() { echo -e "${BLUE}ℹ ${NC}$1"; }
+print_success() { echo -e "${GREEN}✓ ${NC}$1"; }
+print_error() { echo -e "${RED}✗ ${NC}$1"; }
+
+USERS="${USERS:-1000}"
+TRANSACTIONS_PER_USER="${TRANSACTIONS_PER_USER:-500}"
+DAYS="${DAYS:-365}"
+SEED="${SEED:-42}"
+PSQL="${PSQL:-docker exec -i budget-tracker-postgres psql -U postgres -d budget_tracker}"
+
+# bcrypt (strength 10) of LoadTest123!
+PASSWORD_HASH='$2a$10$ixnRjtf75pbwIYZQvth95.FYvDPSi29/T1Mh.DD76lHGK4VEC7EEK'
+
+psql_run() {
+    $PSQL -v ON_ERROR_STOP=1 -q "$@"
+}
+
+# Emits CSV rows for one table; every table replays the same per-user random stream
+generate() {
+    local table=$1
+    awk -v table="$table" -v users="$USERS" -v per_user="$TRANSACTIONS_PER_USER" -v days="$DAYS" \
+        -v seed="$SEED" -v today="$(( $(date +%s) / 86400 ))" -v hash="$PASSWORD_HASH" \
+        -v expense_file="$EXPENSE_CATEGORIES" -v income_file="$INCOME_CATEGORIES" '
+    function uid(kind, a, b) { return sprintf("10ad%04x-%04x-4000-8000-%012x", kind, a, b) }
+
+    # Days since 1970-01-01 to YYYY-MM-DD (proleptic Gregorian)
+    function iso_date(z,    era, doe, yoe, y, doy, mp, d, m) {
+        z += 719468
+        era = int(z / 146097)
+        doe = z - era * 146097
+        yoe = int((doe - int(doe / 1460) + int(doe / 36524) - int(doe / 146096)) / 365)
+        y = yoe + era * 400
+        doy = doe - (365 * yoe + int(yoe / 4) - int(yoe / 100))
+        mp = int((5 * doy + 2) / 153)
+        d = doy - int((153 * mp + 2) / 5) + 1
+        m = mp < 10 ? mp + 3 : mp - 9
+        return sprintf("%04d-%02d-%02d", y + (m <= 2), m, d)
+    }
+
+    # Quoted CSV field; an empty value becomes NULL
+    function field(value) { return value == "" ? "" : "\"" value "\"" }
+
+    function gaussian() { return sqrt(-2 * log(1 - rand())) * cos(6.283185307179586 * rand()) }
+
+    # Index into a cumulative Zipf table of size n
+    function zipf(cumulative, n,    r, i) {
+        r = rand() * cumulative[n]
+        for (i = 1; i < n && cumulative[i] < r; i++) { }
+        return i
+    }
+
+    function build_zipf(cumulative, n, exponent,    i, total) {
+        total = 0
+        for (i = 1; i <= n; i++) { total += 1 / (i ^ exponent); cumulative[i] = total }
+    }
+
+    BEGIN {
+        while ((getline line < expense_file) > 0) expense[++expense_count] = line
+        while ((getline line < income_file) > 0) income[++income_count] = line
+        build_zipf(expense_weight, expense_count, 1.1)
+
+        merchant_count = split("Whole Foods Market,Trader Joes,Amazon,Starbucks,Shell,Uber,Target,Walmart," \
+            "Costco,Netflix,Spotify,CVS Pharmacy,Chipotle,Home Depot,Lyft,Apple,McDonalds,Safeway,Delta Air Lines," \
+            "IKEA,Best Buy,Walgreens,Exxon,Airbnb,Subway,Dunkin,Kroger,Panera Bread,AT&T,Comcast", merchants, ",")
+        build_zipf(merchant_weight, merchant_count, 1.0)
+        split("CHECKING,CREDIT_CARD,SAVINGS,CASH", wallet_types, ",")
+        split("Everyday,Credit Card,Savings,Cash", wallet_names, ",")
+
+        tx = 0
+        for (u = 1; u <= users; u++) {
+            srand(seed * 100003 + u)
+            wallets = 1 + int(rand() * 4)
+            activity = 0.5 + rand()
+            created = today - days - 1 - int(rand() * 30)
+
+            if (table == "users") {
+                printf "%s,loadtest-%d@example.com,loadtest%d,%s,Load,Test %d,ACTIVE,true,USD,%s 09:00:00\n",
+                    uid(1, 0, u), u, u, hash, u, iso_date(created)
+            } else if (table == "user_roles") {
+                printf "%s,USER\n", uid(1, 0, u)
+            } else if (table == "wallets") {
+                for (w = 1; w <= wallets; w++) {
+                    initial = w == 3 ? 5000 : (w == 1 ? 1500 : 0)
+                    printf "%s,%s,%s,%s,USD,%d,%d,%s,%d,%s 09:00:00\n", uid(2, w, u), uid(1, 0, u),
+                        wallet_names[w], wallet_types[w], initial, initial, (w == 1 ? "true" : "false"), w, iso_date(created)
+                }
+            } else if (table == "categories") {
+                printf "%s,%s,Side Project,EXPENSE,false,true,100,%s 09:00:00\n", uid(3, 1, u), uid(1, 0, u), iso_date(created)
+                printf "%s,%s,Freelance,INCOME,false,true,101,%s 09:00:00\n", uid(3, 2, u), uid(1, 0, u), iso_date(created)
+            } else if (table == "transactions") {
+                count = int(per_user * activity)
+                for (i = 0; i < count; i++) {
+                    tx++
+                    date = iso_date(today - int(rand() * days))
+                    time = sprintf("%02d:%02d:%02d", 7 + int(rand() * 15), int(rand() * 60), int(rand() * 60))
+                    if (rand() < 0.10) {
+                        type = "INCOME"
+                        amount = 2400 + 400 * gaussian()
+                        category = rand() < 0.15 ? uid(3, 2, u) : income[1 + int(rand() * income_count)]
+                        merchant = ""
+                        description = "Income"
+                        wallet = 1
+                    } else {
+                        type = "EXPENSE"
+                        amount = exp(log(28) + 0.9 * gaussian())
+                        category = rand() < 0.03 ? uid(3, 1, u) : expense[zipf(expense_weight, expense_count)]
+                        merchant = merchants[zipf(merchant_weight, merchant_count)]
+                        description = "Purchase at " merchant
+                        wallet = wallets == 1 || rand() < 0.7 ? 1 : 1 + int(rand() * wallets)
+                    }
+                    if (amount < 0.5) amount = 0.5
+                    printf "%s,%s,%s,%s,%s,%.2f,USD,1,%.2f,%s,%s,%s,COMPLETED,%s %s\n",
+                        uid(4, 0, tx), uid(1, 0, u), uid(2, wallet, u), category, type, amount, amount,
+                        date, field(description), field(merchant), date, time
+                }
+            }
+        }
+    }'
+}
+
+copy() {
+    local table=$1 columns=$2
+    local start=$SECONDS
+    generate "$table" | psql_run -c "\\copy $table ($columns) FROM STDIN WITH (FORMAT csv)"
+    print_success "$table loaded in $((SECONDS - start))s"
+}
+
+clean() {
+    print_info "Removing seeded load-test data"
+    # Wallets, categories and transactions cascade from users
+    psql_run -c "DELETE FROM users WHERE email LIKE 'loadtest-%@example.com' AND CAST(id AS TEXT) LIKE '10ad0001-%'"
+    print_success "Seeded data removed"
+}
+
+seed() {
+    if ! psql_run -tAc "SELECT 1 FROM information_schema.tables WHERE table_name = 'transactions'" | grep -q 1; then
+        print_error "Schema not found; start the backend once so Flyway creates it"
+        exit 1
+    fi
+    if psql_run -tAc "SELECT 1 FROM users WHERE CAST(id AS TEXT) LIKE '10ad0001-%' LIMIT 1" | grep -q 1; then
+        print_error "Seeded data already present; run '$0 clean' first"
+        exit 1
+    fi
+
+    EXPENSE_CATEGORIES=$(mktemp)
+    INCOME_CATEGORIES=$(mktemp)
+    trap 'rm -f "$EXPENSE_CATEGORIES" "$INCOME_CATEGORIES"' EXIT
+
+    # System categories in a stable order, so the popularity ranking is the same on every database
+    psql_run -tAc "SELECT id FROM categories WHERE is_system AND type = 'EXPENSE' AND parent_category_id IS NOT NULL ORDER BY name" > "$EXPENSE_CATEGORIES"
+    psql_run -tAc "SELECT id FROM categories WHERE is_system AND type = 'INCOME' ORDER BY name" > "$INCOME_CATEGORIES"
+    if [ ! -s "$EXPENSE_CATEGORIES" ] || [ ! -s "$INCOME_CATEGORIES" ]; then
+        print_error "System categories missing; expected the V1_0_2 seed data"
+        exit 1
+    fi
+
+    print_info "Seeding $USERS users x ~$TRANSACTIONS_PER_USER transactions over $DAYS days (seed $SEED)"
+    copy users "id, email, username, password_hash, first_name, last_name, status, email_verified, currency_code, created_at"
+    copy user_roles "user_id, role"
+    copy wallets "id, user_id, name, type, currency_code, balance, initial_balance, is_default, display_order, created_at"
+    copy categories "id, user_id, name, type, is_system, is_active, display_order, created_at"
+    copy transactions "id, user_id, wallet_id, category_id, type, amount, currency_code, exchange_rate, amount_in_wallet_currency, transaction_date, description, merchant_name, status, created_at"
+
+    print_info "Updating wallet balances and statistics"
+    psql_run <<'SQL'
+UPDATE wallets w
+SET balance = w.initial_balance + s.delta
+FROM (
+    SELECT wallet_id, SUM(CASE WHEN type = 'INCOME' THEN amount ELSE -amount END) AS delta
+    FROM transactions
+    WHERE CAST(user_id AS TEXT) LIKE '10ad0001-%'
+    GROUP BY wallet_id
+) s
+WHERE s.wallet_id = w.id;
+
+ANALYZE users;
+ANALYZE wallets;
+ANALYZE categories;
+ANALYZE transactions;
+SQL
+    print_success "Seed complete"
+}
+
+case "${1:-seed}" in
+    seed) seed ;;
+    clean) clean ;;
+    *)
+        print_error "Usage: $0 [seed|clean]"
+        exit 1
+        ;;
+esac
@@ -0,0 +1,138 @@
+// k6 load scenarios against data seeded by generate-data.sh.
+// Each endpoint group runs at its own fixed arrival rate, so per-endpoint latency percentiles
+// are comparable across runs. Run through scripts/load-test.sh with SCENARIO=scenarios.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const DURATION = __ENV.DURATION || '2m';
+const SEEDED_USERS = parseInt(__ENV.SEEDED_USERS || '1000');
+const ACTIVE_USERS = parseInt(__ENV.ACTIVE_USERS || '50');
+const RATE_SCALE = parseFloat(__ENV.RATE_SCALE || '1');
+const IMPORT_BATCH_SIZE = parseInt(__ENV.IMPORT_BATCH_SIZE || '100');
+
+const MERCHANTS = ['Whole Foods', 'Amazon', 'Starbucks', 'Shell', 'Uber', 'Target', 'Costco', 'Netflix'];
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+function scenario(exec, ratePerSecond) {
+    const rate = Math.max(1, Math.round(ratePerSecond * RATE_SCALE));
+    return {
+        executor: 'constant-arrival-rate',
+        exec,
+        rate,
+        timeUnit: '1s',
+        duration: DURATION,
+        preAllocatedVUs: rate * 2,
+        maxVUs: rate * 20,
+        tags: { endpoint: exec },
+    };
+}
+
+const ENDPOINTS = ['dashboard', 'list', 'search', 'create', 'batch_import'];
+
+export const options = {
+    scenarios: {
+        dashboard: scenario('dashboard', 20),
+        list: scenario('list', 40),
+        search: scenario('search', 10),
+        create: scenario('create', 10),
+        batch_import: scenario('batch_import', 1),
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // Per-endpoint thresholds make k6 report per-endpoint submetrics in the summary
+    thresholds: Object.assign({ http_req_failed: ['rate<0.01'] }, ...ENDPOINTS.map((endpoint) => ({
+        [`http_req_duration{endpoint:${endpoint}}`]: ['p(99)<5000'],
+        [`http_reqs{endpoint:${endpoint}}`]: ['count>0'],
+    }))),
+};
+
+// Logs in ACTIVE_USERS of the seeded users, spread over the seeded range
+export function setup() {
+    const users = [];
+    const step = Math.max(1, Math.floor(SEEDED_USERS / ACTIVE_USERS));
+    for (let n = 1; n <= SEEDED_USERS && users.length < ACTIVE_USERS; n += step) {
+        const auth = http.post(`${BASE_URL}/api/auth/login`,
+            JSON.stringify({ emailOrUsername: `loadtest-${n}@example.com`, password: 'LoadTest123!' }),
+            { headers: JSON_HEADERS, tags: { endpoint: 'setup' } });
+        if (!check(auth, { 'seeded user logged in': (r) => r.status === 200 })) {
+            continue;
+        }
+        const headers = { ...JSON_HEADERS, Authorization: `Bearer ${auth.json('data.accessToken')}` };
+
+        const page = http.get(`${BASE_URL}/api/transactions?page=0&size=${IMPORT_BATCH_SIZE}`,
+            { headers, tags: { endpoint: 'setup' } });
+        const transactions = page.json('data.content') || [];
+        users.push({
+            headers,
+            walletId: transactions.length > 0 ? transactions[0].walletId : null,
+            transactionIds: transactions.map((t) => t.id),
+        });
+    }
+    if (users.length === 0) {
+        throw new Error('No seeded users could log in; run scripts/load-test/generate-data.sh first');
+    }
+    return { users };
+}
+
+function pick(array) {
+    return array[Math.floor(Math.random() * array.length)];
+}
+
+function ok(res) {
+    check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function dashboard(data) {
+    ok(http.get(`${BASE_URL}/api/reports/dashboard`, { headers: pick(data.users).headers }));
+}
+
+export function list(data) {
+    const page = Math.floor(Math.random() * 5);
+    ok(http.get(`${BASE_URL}/api/transactions?page=${page}&size=20`, { headers: pick(data.users).headers }));
+}
+
+export function search(data) {
+    const query = encodeURIComponent(pick(MERCHANTS));
+    ok(http.get(`${BASE_URL}/api/transactions/search?query=${query}&page=0&size=20`, { headers: pick(data.users).headers }));
+}
+
+export function create(data) {
+    const user = pick(data.users);
+    if (!user.walletId) {
+        return;
+    }
+    ok(http.post(`${BASE_URL}/api/transactions`, JSON.stringify({
+        walletId: user.walletId,
+        type: 'EXPENSE',
+        amount: Math.exp(Math.log(28) + 0.9 * (Math.random() * 2 - 1)).toFixed(2),
+        currencyCode: 'USD',
+        transactionDate: new Date().toISOString().substring(0, 10),
+        description: 'Load test purchase',
+        merchantName: pick(MERCHANTS),
+    }), { headers: user.headers }));
+}
+
+// Batch traffic: a device pushing a queue of offline edits through /api/sync/push
+export function batch_import(data) {
+    const user = pick(data.users);
+    if (user.transactionIds.length === 0) {
+        return;
+    }
+    const changedAt = new Date().toISOString();
+    const changes = user.transactionIds.map((id) => ({
+        entityType: 'TRANSACTION',
+        operation: 'UPDATE',
+        id,
+        baseVersion: 0,
+        changedAt,
+        fields: { notes: `Imported ${changedAt}` },
+    }));
+    ok(http.post(`${BASE_URL}/api/sync/push`, JSON.stringify({ deviceId: `load-test-${__VU}`, changes }),
+        { headers: user.headers }));
+}
+
+export function handleSummary(data) {
+    const out = __ENV.SUMMARY_FILE || 'summary.json';
+    return { [out]: JSON.stringify(data, null, 2) };
+}
@@ -0,0 +1,97 @@
+#!/bin/bash
+
+###############################################################################
+# Startup Time Measurement Script
+#
+# Starts the backend jar once per profile set and reports how long it took
+# until Spring finished starting and until /actuator/health answered UP.
+# Needs the database and Redis the profiles point at to be reachable.
+#
+#   ./scripts/measure-startup.sh backend/target/budget-tracker-backend-*.jar
+#   PROFILES="prod prod,fast-start" ./scripts/measure-startup.sh app.jar
+#
+# Environment: PROFILES (default "dev dev,fast-start"), PORT (8080),
+#   TIMEOUT seconds per run (180), JAVA_OPTS
+# Writes a markdown table to $GITHUB_STEP_SUMMARY when set (GitHub Actions).
+###############################################################################
+
+set -e
+
+# Colors
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+print_info() { echo -e "${BLUE}ℹ ${NC}$1"; }
+print_success() { echo -e "${GREEN}✓ ${NC}$1"; }
+print_error() { echo -e "${RED}✗ ${NC}$1"; }
+
+JAR="${1:-}"
+PROFILES="${PROFILES:-dev dev,fast-start}"
+PORT="${PORT:-8080}"
+TIMEOUT="${TIMEOUT:-180}"
+
+[ -f "$JAR" ] || { print_error "Usage: $0 <application jar>"; exit 1; }
+
+now_ms() { date +%s%3N; }
+
+# Prints "profiles  started_s  ready_s" for one run
+measure() {
+    local profiles=$1
+    local log
+    log=$(mktemp)
+
+    local launched
+    launched=$(now_ms)
+    SPRING_PROFILES_ACTIVE="$profiles" SERVER_PORT="$PORT" java $JAVA_OPTS -jar "$JAR" > "$log" 2>&1 &
+    local pid=$!
+
+    local ready=""
+    while [ $(( ($(now_ms) - launched) / 1000 )) -lt "$TIMEOUT" ]; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            break
+        fi
+        if curl -sf "http://localhost:$PORT/actuator/health" 2> /dev/null | grep -q '"UP"'; then
+            ready=$(now_ms)
+            break
+        fi
+        sleep 0.2
+    done
+
+    kill "$pid" 2> /dev/null || true
+    wait "$pid" 2> /dev/null || true
+
+    if [ -z "$ready" ]; then
+        print_error "$profiles did not become healthy within ${TIMEOUT}s; last log lines:" >&2
+        tail -n 40 "$log" >&2
+        rm -f "$log"
+        return 1
+    fi
+
+    # "Started BudgetTrackerApplication in 12.345 seconds (process running for 13.2)"
+    local started
+    started=$(grep -o 'Started [A-Za-z]* in [0-9.]* seconds' "$log" | awk '{print $4}')
+    rm -f "$log"
+    printf '%s\t%s\t%s\n' "$profiles" "${started:-?}" "$(awk -v ms=$((ready - launched)) 'BEGIN { printf "%.2f", ms / 1000 }')"
+}
+
+results=$(mktemp)
+for profiles in $PROFILES; do
+    print_info "Starting with profiles: $profiles"
+    measure "$profiles" >> "$results"
+done
+
+print_success "Startup times (seconds)"
+{ printf 'profiles\tstarted\thealthy\n'; cat "$results"; } | column -t -s $'\t'
+
+if [ -n "${GITHUB_STEP_SUMMARY:-}" ]; then
+    {
+        echo "### Backend startup time"
+        echo
+        echo "| Profiles | Spring started (s) | Health UP (s) |"
+        echo "|---|---|---|"
+        awk -F'\t' '{ printf "| %s | %s | %s |\n", $1, $2, $3 }' "$results"
+    } >> "$GITHUB_STEP_SUMMARY"
+fi
+rm -f "$results"